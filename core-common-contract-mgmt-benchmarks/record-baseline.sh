@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+#
+# Records the reference JMH results checked in as baseline-results.txt, headed by the JDK, OS and CPU that
+# produced them. Run from the repository root on an otherwise idle machine:
+#
+#   ./core-common-contract-mgmt-benchmarks/record-baseline.sh [JMH options, e.g. a benchmark class]
+#
+set -euo pipefail
+
+module_dir="$(cd "$(dirname "$0")" && pwd)"
+jar="$module_dir/target/benchmarks.jar"
+output="$module_dir/baseline-results.txt"
+results="$(mktemp)"
+trap 'rm -f "$results"' EXIT
+
+if [[ ! -f "$jar" ]]; then
+    (cd "$module_dir/.." && mvn -B -Pbenchmarks -DskipTests package)
+fi
+
+java -jar "$jar" -rf text -rff "$results" "$@"
+
+{
+    echo "# JMH baseline of core-common-contract-mgmt-benchmarks"
+    echo "# Commit:  $(git -C "$module_dir" rev-parse --short HEAD)"
+    echo "# Date:    $(date -u +%Y-%m-%dT%H:%M:%SZ)"
+    echo "# JDK:     $(java -XshowSettings:properties -version 2>&1 | sed -n 's/^ *java\.vm\.name = //p') $(java -XshowSettings:properties -version 2>&1 | sed -n 's/^ *java\.runtime\.version = //p')"
+    echo "# OS:      $(uname -srm)"
+    echo "# CPU:     $(lscpu 2>/dev/null | sed -n 's/^Model name: *//p' || sysctl -n machdep.cpu.brand_string 2>/dev/null)"
+    echo "# Cores:   $(getconf _NPROCESSORS_ONLN)"
+    echo "# Options: ${*:-<defaults>}"
+    echo
+    cat "$results"
+} > "$output"
+
+echo "Wrote $output"
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import com.firefly.core.contracts.interfaces.enums.EventTypeEnum;
+import com.firefly.core.contracts.interfaces.enums.RiskLevelEnum;
+import com.firefly.core.contracts.interfaces.enums.StatusCodeEnum;
+import com.firefly.core.contracts.interfaces.enums.TermCategoryEnum;
+import com.firefly.core.contracts.interfaces.enums.TermDataTypeEnum;
+import com.firefly.core.contracts.interfaces.enums.TermValidationTypeEnum;
+import com.firefly.core.contracts.models.entities.Contract;
+import com.firefly.core.contracts.models.entities.ContractDocument;
+import com.firefly.core.contracts.models.entities.ContractEvent;
+import com.firefly.core.contracts.models.entities.ContractParty;
+import com.firefly.core.contracts.models.entities.ContractRiskAssessment;
+import com.firefly.core.contracts.models.entities.ContractStatusHistory;
+import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import com.firefly.core.contracts.models.entities.ContractTermTemplate;
+import com.firefly.core.contracts.models.entities.ContractTermValidationRule;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Representative, fully populated entities shared by the benchmarks, plus helpers to wire
+ * services without a Spring context.
+ */
+final class BenchmarkFixtures {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Contract contract() {
+        return Contract.builder()
+                .contractId(UUID.randomUUID())
+                .contractNumber("CTR-2025-000123")
+                .contractStatus(ContractStatusEnum.ACTIVE)
+                .startDate(NOW)
+                .endDate(NOW.plusYears(5))
+                .productCatalogId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .version(3L)
+                .build();
+    }
+
+    static ContractDocument document() {
+        return ContractDocument.builder()
+                .contractDocumentId(UUID.randomUUID())
+                .contractId(UUID.randomUUID())
+                .documentTypeId(UUID.randomUUID())
+                .documentId(UUID.randomUUID())
+                .dateAdded(NOW)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static ContractEvent event() {
+        return ContractEvent.builder()
+                .contractEventId(UUID.randomUUID())
+                .contractId(UUID.randomUUID())
+                .eventType(EventTypeEnum.PAYMENT_RECEIVED)
+                .eventDate(NOW)
+                .eventDescription("Monthly instalment received")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static ContractParty party() {
+        return ContractParty.builder()
+                .contractPartyId(UUID.randomUUID())
+                .contractId(UUID.randomUUID())
+                .partyId(UUID.randomUUID())
+                .roleInContractId(UUID.randomUUID())
+                .dateJoined(NOW)
+                .isActive(true)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static ContractRiskAssessment riskAssessment() {
+        return ContractRiskAssessment.builder()
+                .contractRiskAssessmentId(UUID.randomUUID())
+                .contractId(UUID.randomUUID())
+                .riskScore(new BigDecimal("42.500000"))
+                .riskLevel(RiskLevelEnum.MEDIUM)
+                .assessmentDate(NOW)
+                .assessor("risk-engine")
+                .notes("Quarterly reassessment")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static ContractStatusHistory statusHistory() {
+        return ContractStatusHistory.builder()
+                .contractStatusHistoryId(UUID.randomUUID())
+                .contractId(UUID.randomUUID())
+                .statusCode(StatusCodeEnum.ACTIVATED)
+                .statusStartDate(NOW)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static ContractTermDynamic termDynamic() {
+        return ContractTermDynamic.builder()
+                .termId(UUID.randomUUID())
+                .contractId(UUID.randomUUID())
+                .termTemplateId(UUID.randomUUID())
+                .termValueNumeric(new BigDecimal("4.750000"))
+                .termValueJson(json("{\"schedule\": [{\"month\": 1, \"rate\": 4.75}, {\"month\": 13, \"rate\": 5.10}], \"indexed\": true}"))
+                .effectiveDate(NOW)
+                .isActive(true)
+                .notes("Fixed for the first year")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .version(1L)
+                .build();
+    }
+
+    static ContractTermTemplate termTemplate() {
+        return ContractTermTemplate.builder()
+                .termTemplateId(UUID.randomUUID())
+                .code("INTEREST_RATE")
+                .name("Interest rate")
+                .description("Nominal annual interest rate")
+                .termCategory(TermCategoryEnum.FINANCIAL)
+                .dataType(TermDataTypeEnum.DECIMAL)
+                .isRequired(true)
+                .isActive(true)
+                .defaultValue("0")
+                .validationRules(json("{\"MIN_VALUE\": {\"min\": 0}, \"MAX_VALUE\": {\"max\": 25.5}}"))
+                .metadata(json("{\"unit\": \"percent\", \"precision\": 2}"))
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static ContractTermValidationRule validationRule() {
+        return ContractTermValidationRule.builder()
+                .validationRuleId(UUID.randomUUID())
+                .termTemplateId(UUID.randomUUID())
+                .validationType(TermValidationTypeEnum.MAX_VALUE)
+                .validationValue(json("{\"max\": 25.5}"))
+                .errorMessage("Interest rate must not exceed 25.5%")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static JsonNode json(String value) {
+        try {
+            return OBJECT_MAPPER.readTree(value);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Sets a (typically {@code @Autowired}) field on a bean created outside of Spring.
+     */
+    static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("No field " + fieldName + " on " + target.getClass().getName());
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    /**
+     * Invokes a no-argument lifecycle method such as a {@code @PostConstruct} initializer.
+     */
+    static void initialize(Object target, String methodName) {
+        Method method = ReflectionUtils.findMethod(target.getClass(), methodName);
+        if (method == null) {
+            throw new IllegalArgumentException("No method " + methodName + " on " + target.getClass().getName());
+        }
+        ReflectionUtils.makeAccessible(method);
+        ReflectionUtils.invokeMethod(method, target);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.benchmarks;
+
+import com.firefly.core.contracts.core.cache.EffectiveTermIndexCache;
+import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.services.impl.ContractTermDynamicServiceImpl;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsResponseDTO;
+import com.firefly.core.contracts.models.entities.Contract;
+import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.firefly.core.contracts.models.repositories.ContractTermDynamicRepository;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving the effective terms of a 30-year contract for every month of its amortization schedule
+ * (360 dates) in one request, with the per-contract index cached and with it rebuilt on every request.
+ * <p>
+ * The contract has four templates revised once a year (120 terms). Terms come from an
+ * {@link InMemoryRepository}, so the figures exclude the single database query the request makes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EffectiveTermsBenchmark {
+
+    private static final int TEMPLATES = 4;
+    private static final int YEARS = 30;
+
+    private ContractTermDynamicServiceImpl cachedService;
+    private ContractTermDynamicServiceImpl uncachedService;
+
+    private UUID contractId;
+    private ContractEffectiveTermsRequestDTO schedule;
+
+    @Setup
+    public void setUp() {
+        Contract contract = BenchmarkFixtures.contract();
+        contractId = contract.getContractId();
+        InMemoryRepository<Contract> contracts = InMemoryRepository.of(Contract::getContractId, Contract::setContractId);
+        contracts.put(contract);
+
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<ContractTermDynamic> contractTerms = new ArrayList<>(TEMPLATES * YEARS);
+        for (int template = 0; template < TEMPLATES; template++) {
+            UUID templateId = UUID.randomUUID();
+            for (int year = 0; year < YEARS; year++) {
+                ContractTermDynamic term = BenchmarkFixtures.termDynamic();
+                term.setContractId(contractId);
+                term.setTermTemplateId(templateId);
+                term.setEffectiveDate(start.plusYears(year));
+                term.setExpirationDate(year == YEARS - 1 ? null : start.plusYears(year + 1).minusNanos(1));
+                contractTerms.add(term);
+            }
+        }
+        InMemoryRepository<ContractTermDynamic> terms = InMemoryRepository
+                .of(ContractTermDynamic::getTermId, ContractTermDynamic::setTermId)
+                .with("findByContractIdAndIsActive", args -> Flux.fromIterable(contractTerms));
+
+        List<LocalDateTime> dueDates = new ArrayList<>(YEARS * 12);
+        for (int month = 1; month <= YEARS * 12; month++) {
+            dueDates.add(start.plusMonths(month).minusDays(1));
+        }
+        schedule = ContractEffectiveTermsRequestDTO.builder().asOf(dueDates).build();
+
+        cachedService = service(contracts, terms, true);
+        uncachedService = service(contracts, terms, false);
+        if (cachedService.getEffectiveTermsAt(contractId, schedule).block().getPeriods().get(0).getTerms().size() != TEMPLATES) {
+            throw new IllegalStateException("Effective term resolution did not find one term per template");
+        }
+    }
+
+    @Benchmark
+    public ContractEffectiveTermsResponseDTO scheduleWithCachedIndex() {
+        return cachedService.getEffectiveTermsAt(contractId, schedule).block();
+    }
+
+    @Benchmark
+    public ContractEffectiveTermsResponseDTO scheduleWithIndexBuild() {
+        return uncachedService.getEffectiveTermsAt(contractId, schedule).block();
+    }
+
+    private static ContractTermDynamicServiceImpl service(InMemoryRepository<Contract> contracts,
+                                                          InMemoryRepository<ContractTermDynamic> terms, boolean cached) {
+        ContractTermDynamicMapper mapper = Mappers.getMapper(ContractTermDynamicMapper.class);
+        EffectiveTermIndexCache cache = new EffectiveTermIndexCache();
+        BenchmarkFixtures.inject(cache, "repository", terms.as(ContractTermDynamicRepository.class));
+        BenchmarkFixtures.inject(cache, "mapper", mapper);
+        BenchmarkFixtures.inject(cache, "enabled", cached);
+        BenchmarkFixtures.inject(cache, "maximumSize", 1000L);
+        BenchmarkFixtures.inject(cache, "ttl", Duration.ofSeconds(30));
+        BenchmarkFixtures.initialize(cache, "init");
+        ContractTermDynamicServiceImpl service = new ContractTermDynamicServiceImpl();
+        BenchmarkFixtures.inject(service, "contractRepository", contracts.as(ContractRepository.class));
+        BenchmarkFixtures.inject(service, "effectiveTermIndexCache", cache);
+        return service;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.benchmarks;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Map-backed stand-in for a repository interface, so that service pipelines can be measured without a database.
+ * <p>
+ * Implements the CRUD methods the services use ({@code save}, {@code findById}, {@code existsById},
+ * {@code updateExisting}, {@code deleteByIdReturningCount}, {@code deleteByIdReturning}); further methods can
+ * be registered by name. Anything else throws {@link UnsupportedOperationException}. Generated IDs come from
+ * a counter rather than {@link UUID#randomUUID()}, whose {@code SecureRandom} cost the database does not have.
+ *
+ * @param <E> the entity type
+ */
+final class InMemoryRepository<E> implements InvocationHandler {
+
+    private final Map<UUID, E> rows = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Function<E, UUID> idGetter;
+
+    private final BiConsumer<E, UUID> idSetter;
+
+    private final Map<String, Function<Object[], Object>> extraMethods = new HashMap<>();
+
+    private InMemoryRepository(Function<E, UUID> idGetter, BiConsumer<E, UUID> idSetter) {
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+    }
+
+    static <E> InMemoryRepository<E> of(Function<E, UUID> idGetter, BiConsumer<E, UUID> idSetter) {
+        return new InMemoryRepository<>(idGetter, idSetter);
+    }
+
+    /**
+     * Registers the behaviour of an additional repository method, matched by name.
+     */
+    InMemoryRepository<E> with(String methodName, Function<Object[], Object> implementation) {
+        extraMethods.put(methodName, implementation);
+        return this;
+    }
+
+    /**
+     * Stores a row directly, bypassing the repository API.
+     */
+    E put(E entity) {
+        rows.put(idGetter.apply(entity), entity);
+        return entity;
+    }
+
+    /**
+     * Removes a row directly, so that create benchmarks do not grow the store without bound.
+     */
+    void remove(UUID id) {
+        rows.remove(id);
+    }
+
+    /**
+     * Creates a proxy implementing the given repository interface on top of this store.
+     */
+    <R> R as(Class<R> repositoryType) {
+        return repositoryType.cast(Proxy.newProxyInstance(
+                repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, this));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "save" -> {
+                E entity = (E) args[0];
+                if (idGetter.apply(entity) == null) {
+                    idSetter.accept(entity, new UUID(0L, sequence.incrementAndGet()));
+                }
+                return Mono.just(put(entity));
+            }
+            case "findById" -> {
+                return Mono.justOrEmpty(rows.get((UUID) args[0]));
+            }
+            case "existsById" -> {
+                return Mono.just(rows.containsKey((UUID) args[0]));
+            }
+            case "updateExisting" -> {
+                E entity = (E) args[0];
+                return rows.replace(idGetter.apply(entity), entity) != null ? Mono.just(entity) : Mono.empty();
+            }
+            case "deleteByIdReturningCount" -> {
+                return Mono.just(rows.remove((UUID) args[0]) != null ? 1L : 0L);
+            }
+            case "deleteByIdReturning" -> {
+                return Mono.justOrEmpty(rows.remove((UUID) args[0]));
+            }
+            case "findAll" -> {
+                return Flux.fromIterable(rows.values());
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "toString" -> {
+                return "InMemoryRepository(" + rows.size() + " rows)";
+            }
+            default -> {
+                Function<Object[], Object> implementation = extraMethods.get(method.getName());
+                if (implementation == null) {
+                    throw new UnsupportedOperationException(method.getName() + " is not supported by the in-memory repository");
+                }
+                return implementation.apply(args);
+            }
+        }
+    }
+}
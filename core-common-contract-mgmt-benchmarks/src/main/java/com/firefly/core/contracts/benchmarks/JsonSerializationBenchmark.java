@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.firefly.core.contracts.core.mappers.ContractMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermTemplateMapper;
+import com.firefly.core.contracts.interfaces.dtos.ContractDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermTemplateDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.mapstruct.factory.Mappers;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encode/decode cost of the most frequently exchanged DTOs, using an {@code ObjectMapper} configured
+ * like the one WebFlux uses (JSR-310 module, ISO dates).
+ * <p>
+ * The term and template DTOs carry free-form {@code JsonNode} payloads, which dominate their cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter contractWriter;
+    private ObjectReader contractReader;
+    private ObjectWriter termWriter;
+    private ObjectReader termReader;
+    private ObjectWriter templateWriter;
+    private ObjectReader templateReader;
+
+    private ContractDTO contract;
+    private byte[] contractJson;
+    private ContractTermDynamicDTO term;
+    private byte[] termJson;
+    private ContractTermTemplateDTO template;
+    private byte[] templateJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        contractWriter = objectMapper.writerFor(ContractDTO.class);
+        contractReader = objectMapper.readerFor(ContractDTO.class);
+        termWriter = objectMapper.writerFor(ContractTermDynamicDTO.class);
+        termReader = objectMapper.readerFor(ContractTermDynamicDTO.class);
+        templateWriter = objectMapper.writerFor(ContractTermTemplateDTO.class);
+        templateReader = objectMapper.readerFor(ContractTermTemplateDTO.class);
+
+        contract = Mappers.getMapper(ContractMapper.class).toDTO(BenchmarkFixtures.contract());
+        contractJson = contractWriter.writeValueAsBytes(contract);
+        term = Mappers.getMapper(ContractTermDynamicMapper.class).toDTO(BenchmarkFixtures.termDynamic());
+        termJson = termWriter.writeValueAsBytes(term);
+        template = Mappers.getMapper(ContractTermTemplateMapper.class).toDTO(BenchmarkFixtures.termTemplate());
+        templateJson = templateWriter.writeValueAsBytes(template);
+    }
+
+    @Benchmark
+    public byte[] encodeContract() throws IOException {
+        return contractWriter.writeValueAsBytes(contract);
+    }
+
+    @Benchmark
+    public ContractDTO decodeContract() throws IOException {
+        return contractReader.readValue(contractJson);
+    }
+
+    @Benchmark
+    public byte[] encodeTerm() throws IOException {
+        return termWriter.writeValueAsBytes(term);
+    }
+
+    @Benchmark
+    public ContractTermDynamicDTO decodeTerm() throws IOException {
+        return termReader.readValue(termJson);
+    }
+
+    @Benchmark
+    public byte[] encodeTermTemplate() throws IOException {
+        return templateWriter.writeValueAsBytes(template);
+    }
+
+    @Benchmark
+    public ContractTermTemplateDTO decodeTermTemplate() throws IOException {
+        return templateReader.readValue(templateJson);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.benchmarks;
+
+import com.firefly.core.contracts.core.mappers.ContractDocumentMapper;
+import com.firefly.core.contracts.core.mappers.ContractEventMapper;
+import com.firefly.core.contracts.core.mappers.ContractMapper;
+import com.firefly.core.contracts.core.mappers.ContractPartyMapper;
+import com.firefly.core.contracts.core.mappers.ContractRiskAssessmentMapper;
+import com.firefly.core.contracts.core.mappers.ContractStatusHistoryMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermTemplateMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermValidationRuleMapper;
+import com.firefly.core.contracts.interfaces.dtos.ContractDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractDocumentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractEventDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractPartyDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusHistoryDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermTemplateDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermValidationRuleDTO;
+import com.firefly.core.contracts.models.entities.Contract;
+import com.firefly.core.contracts.models.entities.ContractDocument;
+import com.firefly.core.contracts.models.entities.ContractEvent;
+import com.firefly.core.contracts.models.entities.ContractParty;
+import com.firefly.core.contracts.models.entities.ContractRiskAssessment;
+import com.firefly.core.contracts.models.entities.ContractStatusHistory;
+import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import com.firefly.core.contracts.models.entities.ContractTermTemplate;
+import com.firefly.core.contracts.models.entities.ContractTermValidationRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.mapstruct.factory.Mappers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion cost of the generated MapStruct mappers, one {@code toDTO} and one {@code toEntity}
+ * benchmark per mapper.
+ * <p>
+ * Every read and write path goes through these, so a regression here (e.g. a mapping that starts
+ * deep-copying {@code JsonNode} values) shows up across the whole API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final ContractMapper contractMapper = Mappers.getMapper(ContractMapper.class);
+    private final ContractDocumentMapper documentMapper = Mappers.getMapper(ContractDocumentMapper.class);
+    private final ContractEventMapper eventMapper = Mappers.getMapper(ContractEventMapper.class);
+    private final ContractPartyMapper partyMapper = Mappers.getMapper(ContractPartyMapper.class);
+    private final ContractRiskAssessmentMapper riskAssessmentMapper = Mappers.getMapper(ContractRiskAssessmentMapper.class);
+    private final ContractStatusHistoryMapper statusHistoryMapper = Mappers.getMapper(ContractStatusHistoryMapper.class);
+    private final ContractTermDynamicMapper termDynamicMapper = Mappers.getMapper(ContractTermDynamicMapper.class);
+    private final ContractTermTemplateMapper termTemplateMapper = Mappers.getMapper(ContractTermTemplateMapper.class);
+    private final ContractTermValidationRuleMapper validationRuleMapper = Mappers.getMapper(ContractTermValidationRuleMapper.class);
+
+    private Contract contract;
+    private ContractDTO contractDTO;
+    private ContractDocument document;
+    private ContractDocumentDTO documentDTO;
+    private ContractEvent event;
+    private ContractEventDTO eventDTO;
+    private ContractParty party;
+    private ContractPartyDTO partyDTO;
+    private ContractRiskAssessment riskAssessment;
+    private ContractRiskAssessmentDTO riskAssessmentDTO;
+    private ContractStatusHistory statusHistory;
+    private ContractStatusHistoryDTO statusHistoryDTO;
+    private ContractTermDynamic termDynamic;
+    private ContractTermDynamicDTO termDynamicDTO;
+    private ContractTermTemplate termTemplate;
+    private ContractTermTemplateDTO termTemplateDTO;
+    private ContractTermValidationRule validationRule;
+    private ContractTermValidationRuleDTO validationRuleDTO;
+
+    @Setup
+    public void setUp() {
+        contract = BenchmarkFixtures.contract();
+        contractDTO = contractMapper.toDTO(contract);
+        document = BenchmarkFixtures.document();
+        documentDTO = documentMapper.toDTO(document);
+        event = BenchmarkFixtures.event();
+        eventDTO = eventMapper.toDTO(event);
+        party = BenchmarkFixtures.party();
+        partyDTO = partyMapper.toDTO(party);
+        riskAssessment = BenchmarkFixtures.riskAssessment();
+        riskAssessmentDTO = riskAssessmentMapper.toDTO(riskAssessment);
+        statusHistory = BenchmarkFixtures.statusHistory();
+        statusHistoryDTO = statusHistoryMapper.toDTO(statusHistory);
+        termDynamic = BenchmarkFixtures.termDynamic();
+        termDynamicDTO = termDynamicMapper.toDTO(termDynamic);
+        termTemplate = BenchmarkFixtures.termTemplate();
+        termTemplateDTO = termTemplateMapper.toDTO(termTemplate);
+        validationRule = BenchmarkFixtures.validationRule();
+        validationRuleDTO = validationRuleMapper.toDTO(validationRule);
+    }
+
+    @Benchmark
+    public ContractDTO contractToDTO() {
+        return contractMapper.toDTO(contract);
+    }
+
+    @Benchmark
+    public Contract contractToEntity() {
+        return contractMapper.toEntity(contractDTO);
+    }
+
+    @Benchmark
+    public ContractDocumentDTO documentToDTO() {
+        return documentMapper.toDTO(document);
+    }
+
+    @Benchmark
+    public ContractDocument documentToEntity() {
+        return documentMapper.toEntity(documentDTO);
+    }
+
+    @Benchmark
+    public ContractEventDTO eventToDTO() {
+        return eventMapper.toDTO(event);
+    }
+
+    @Benchmark
+    public ContractEvent eventToEntity() {
+        return eventMapper.toEntity(eventDTO);
+    }
+
+    @Benchmark
+    public ContractPartyDTO partyToDTO() {
+        return partyMapper.toDTO(party);
+    }
+
+    @Benchmark
+    public ContractParty partyToEntity() {
+        return partyMapper.toEntity(partyDTO);
+    }
+
+    @Benchmark
+    public ContractRiskAssessmentDTO riskAssessmentToDTO() {
+        return riskAssessmentMapper.toDTO(riskAssessment);
+    }
+
+    @Benchmark
+    public ContractRiskAssessment riskAssessmentToEntity() {
+        return riskAssessmentMapper.toEntity(riskAssessmentDTO);
+    }
+
+    @Benchmark
+    public ContractStatusHistoryDTO statusHistoryToDTO() {
+        return statusHistoryMapper.toDTO(statusHistory);
+    }
+
+    @Benchmark
+    public ContractStatusHistory statusHistoryToEntity() {
+        return statusHistoryMapper.toEntity(statusHistoryDTO);
+    }
+
+    @Benchmark
+    public ContractTermDynamicDTO termDynamicToDTO() {
+        return termDynamicMapper.toDTO(termDynamic);
+    }
+
+    @Benchmark
+    public ContractTermDynamic termDynamicToEntity() {
+        return termDynamicMapper.toEntity(termDynamicDTO);
+    }
+
+    @Benchmark
+    public ContractTermTemplateDTO termTemplateToDTO() {
+        return termTemplateMapper.toDTO(termTemplate);
+    }
+
+    @Benchmark
+    public ContractTermTemplate termTemplateToEntity() {
+        return termTemplateMapper.toEntity(termTemplateDTO);
+    }
+
+    @Benchmark
+    public ContractTermValidationRuleDTO validationRuleToDTO() {
+        return validationRuleMapper.toDTO(validationRule);
+    }
+
+    @Benchmark
+    public ContractTermValidationRule validationRuleToEntity() {
+        return validationRuleMapper.toEntity(validationRuleDTO);
+    }
+}
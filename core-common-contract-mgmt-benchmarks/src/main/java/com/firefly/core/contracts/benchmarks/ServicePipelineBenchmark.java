@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.benchmarks;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.firefly.core.contracts.core.cache.ContractTermTemplateCache;
+import com.firefly.core.contracts.core.cache.EffectiveTermIndexCache;
+import com.firefly.core.contracts.core.mappers.ContractMapper;
+import com.firefly.core.contracts.core.mappers.ContractRiskAssessmentMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.outbox.ContractOutbox;
+import com.firefly.core.contracts.core.services.impl.ContractRiskAssessmentServiceImpl;
+import com.firefly.core.contracts.core.services.impl.ContractServiceImpl;
+import com.firefly.core.contracts.core.services.impl.ContractTermDynamicServiceImpl;
+import com.firefly.core.contracts.core.validation.ContractTermValidationEngine;
+import com.firefly.core.contracts.interfaces.dtos.ContractDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.enums.TermValidationTypeEnum;
+import com.firefly.core.contracts.models.entities.Contract;
+import com.firefly.core.contracts.models.entities.ContractLatestRiskAssessment;
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
+import com.firefly.core.contracts.models.entities.ContractRiskAssessment;
+import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import com.firefly.core.contracts.models.entities.ContractTermTemplate;
+import com.firefly.core.contracts.models.entities.ContractTermValidationRule;
+import com.firefly.core.contracts.models.repositories.ContractLatestRiskAssessmentRepository;
+import com.firefly.core.contracts.models.repositories.ContractOutboxRepository;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.firefly.core.contracts.models.repositories.ContractRiskAssessmentRepository;
+import com.firefly.core.contracts.models.repositories.ContractTermDynamicRepository;
+import com.firefly.core.contracts.models.repositories.ContractTermTemplateRepository;
+import com.firefly.core.contracts.models.repositories.ContractTermValidationRuleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.mapstruct.factory.Mappers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of the service create/get pipelines (mapping, Reactor assembly, validation) against
+ * {@link InMemoryRepository} stand-ins, i.e. everything a request pays for besides the database round trip.
+ * <p>
+ * The term pipeline runs with a warm validator and template cache, which is the steady state in production.
+ * Outbox entries are serialized but not stored, and the latest-risk projection refresh is a no-op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServicePipelineBenchmark {
+
+    private InMemoryRepository<Contract> contracts;
+    private InMemoryRepository<ContractRiskAssessment> riskAssessments;
+    private InMemoryRepository<ContractTermDynamic> terms;
+
+    private ContractServiceImpl contractService;
+    private ContractRiskAssessmentServiceImpl riskAssessmentService;
+    private ContractTermDynamicServiceImpl termService;
+
+    private ContractDTO newContract;
+    private UUID existingContractId;
+    private ContractRiskAssessmentDTO newRiskAssessment;
+    private UUID existingRiskAssessmentId;
+    private ContractTermDynamicDTO newTerm;
+    private UUID existingTermId;
+
+    @Setup
+    public void setUp() {
+        ContractOutbox outbox = new ContractOutbox();
+        BenchmarkFixtures.inject(outbox, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+        BenchmarkFixtures.inject(outbox, "repository", InMemoryRepository.<ContractOutboxEntry>of(
+                        ContractOutboxEntry::getAggregateId, ContractOutboxEntry::setAggregateId)
+                .with("appendAll", args -> Mono.just((long) ((List<?>) args[0]).size()))
+                .as(ContractOutboxRepository.class));
+
+        ContractMapper contractMapper = Mappers.getMapper(ContractMapper.class);
+        contracts = InMemoryRepository.of(Contract::getContractId, Contract::setContractId);
+        contractService = new ContractServiceImpl();
+        BenchmarkFixtures.inject(contractService, "repository", contracts.as(ContractRepository.class));
+        BenchmarkFixtures.inject(contractService, "mapper", contractMapper);
+        BenchmarkFixtures.inject(contractService, "outbox", outbox);
+        existingContractId = contracts.put(BenchmarkFixtures.contract()).getContractId();
+        newContract = contractMapper.toDTO(BenchmarkFixtures.contract());
+        newContract.setContractId(null);
+
+        ContractRiskAssessmentMapper riskAssessmentMapper = Mappers.getMapper(ContractRiskAssessmentMapper.class);
+        riskAssessments = InMemoryRepository.of(
+                ContractRiskAssessment::getContractRiskAssessmentId, ContractRiskAssessment::setContractRiskAssessmentId);
+        riskAssessmentService = new ContractRiskAssessmentServiceImpl();
+        BenchmarkFixtures.inject(riskAssessmentService, "repository", riskAssessments.as(ContractRiskAssessmentRepository.class));
+        BenchmarkFixtures.inject(riskAssessmentService, "mapper", riskAssessmentMapper);
+        BenchmarkFixtures.inject(riskAssessmentService, "latestRepository", InMemoryRepository.<ContractLatestRiskAssessment>of(
+                        ContractLatestRiskAssessment::getContractId, ContractLatestRiskAssessment::setContractId)
+                .with("refreshLatest", args -> Mono.empty())
+                .as(ContractLatestRiskAssessmentRepository.class));
+        existingRiskAssessmentId = riskAssessments.put(BenchmarkFixtures.riskAssessment()).getContractRiskAssessmentId();
+        newRiskAssessment = riskAssessmentMapper.toDTO(BenchmarkFixtures.riskAssessment());
+        newRiskAssessment.setContractRiskAssessmentId(null);
+
+        ContractTermTemplate template = BenchmarkFixtures.termTemplate();
+        ContractTermValidationRule rule = BenchmarkFixtures.validationRule();
+        rule.setTermTemplateId(template.getTermTemplateId());
+        rule.setValidationType(TermValidationTypeEnum.MIN_VALUE);
+        rule.setValidationValue(BenchmarkFixtures.json("{\"min\": 0.5}"));
+        InMemoryRepository<ContractTermTemplate> templates = InMemoryRepository.of(
+                ContractTermTemplate::getTermTemplateId, ContractTermTemplate::setTermTemplateId);
+        templates.put(template);
+        InMemoryRepository<ContractTermValidationRule> rules = InMemoryRepository.of(
+                        ContractTermValidationRule::getValidationRuleId, ContractTermValidationRule::setValidationRuleId)
+                .with("findByTermTemplateId", args -> template.getTermTemplateId().equals(args[0])
+                        ? Flux.just(rule) : Flux.empty());
+
+        ContractTermTemplateCache templateCache = new ContractTermTemplateCache();
+        BenchmarkFixtures.inject(templateCache, "repository", templates.as(ContractTermTemplateRepository.class));
+        BenchmarkFixtures.inject(templateCache, "maximumSize", 2000L);
+        BenchmarkFixtures.inject(templateCache, "ttl", Duration.ofMinutes(10));
+        BenchmarkFixtures.initialize(templateCache, "init");
+        ContractTermValidationEngine validationEngine = new ContractTermValidationEngine();
+        BenchmarkFixtures.inject(validationEngine, "ruleRepository", rules.as(ContractTermValidationRuleRepository.class));
+        BenchmarkFixtures.inject(validationEngine, "templateCache", templateCache);
+        BenchmarkFixtures.inject(validationEngine, "maximumSize", 2000L);
+        BenchmarkFixtures.initialize(validationEngine, "init");
+
+        ContractTermDynamicMapper termMapper = Mappers.getMapper(ContractTermDynamicMapper.class);
+        terms = InMemoryRepository.of(ContractTermDynamic::getTermId, ContractTermDynamic::setTermId);
+        EffectiveTermIndexCache effectiveTermIndexCache = new EffectiveTermIndexCache();
+        BenchmarkFixtures.inject(effectiveTermIndexCache, "repository", terms.as(ContractTermDynamicRepository.class));
+        BenchmarkFixtures.inject(effectiveTermIndexCache, "mapper", termMapper);
+        BenchmarkFixtures.inject(effectiveTermIndexCache, "enabled", true);
+        BenchmarkFixtures.inject(effectiveTermIndexCache, "maximumSize", 1000L);
+        BenchmarkFixtures.inject(effectiveTermIndexCache, "ttl", Duration.ofSeconds(30));
+        BenchmarkFixtures.initialize(effectiveTermIndexCache, "init");
+        termService = new ContractTermDynamicServiceImpl();
+        BenchmarkFixtures.inject(termService, "repository", terms.as(ContractTermDynamicRepository.class));
+        BenchmarkFixtures.inject(termService, "mapper", termMapper);
+        BenchmarkFixtures.inject(termService, "validationEngine", validationEngine);
+        BenchmarkFixtures.inject(termService, "templateCache", templateCache);
+        BenchmarkFixtures.inject(termService, "outbox", outbox);
+        BenchmarkFixtures.inject(termService, "effectiveTermIndexCache", effectiveTermIndexCache);
+        ContractTermDynamic term = BenchmarkFixtures.termDynamic();
+        term.setTermTemplateId(template.getTermTemplateId());
+        existingTermId = terms.put(term).getTermId();
+        newTerm = termMapper.toDTO(term);
+        newTerm.setTermId(null);
+
+        // Warm the validator so the benchmark measures the steady state, not the first compile
+        validationEngine.getValidator(template.getTermTemplateId()).block();
+        if (termService.createContractTermDynamic(newTerm).block() == null) {
+            throw new IllegalStateException("Term pipeline did not produce a result");
+        }
+    }
+
+    @Benchmark
+    public ContractDTO createContract() {
+        ContractDTO created = contractService.createContract(newContract).block();
+        contracts.remove(created.getContractId());
+        return created;
+    }
+
+    @Benchmark
+    public ContractDTO getContract() {
+        return contractService.getContractById(existingContractId).block();
+    }
+
+    @Benchmark
+    public ContractRiskAssessmentDTO createRiskAssessment() {
+        ContractRiskAssessmentDTO created = riskAssessmentService.createContractRiskAssessment(newRiskAssessment).block();
+        riskAssessments.remove(created.getContractRiskAssessmentId());
+        return created;
+    }
+
+    @Benchmark
+    public ContractRiskAssessmentDTO getRiskAssessment() {
+        return riskAssessmentService.getContractRiskAssessmentById(existingRiskAssessmentId).block();
+    }
+
+    @Benchmark
+    public ContractTermDynamicDTO createTerm() {
+        ContractTermDynamicDTO created = termService.createContractTermDynamic(newTerm).block();
+        terms.remove(created.getTermId());
+        return created;
+    }
+
+    @Benchmark
+    public ContractTermDynamicDTO getTerm() {
+        return termService.getContractTermDynamicById(existingTermId).block();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.contracts.core.validation.CompiledTermValidator;
+import com.firefly.core.contracts.core.validation.TermValidatorCompiler;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.enums.TermValidationTypeEnum;
+import com.firefly.core.contracts.models.entities.ContractTermTemplate;
+import com.firefly.core.contracts.models.entities.ContractTermValidationRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-term cost of {@link CompiledTermValidator} for typical rule sets.
+ * <p>
+ * Target: well under 1µs per term for a validator that is already compiled and cached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TermValidationBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CompiledTermValidator textValidator;
+    private CompiledTermValidator numericValidator;
+    private ContractTermDynamicDTO validTextTerm;
+    private ContractTermDynamicDTO invalidTextTerm;
+    private ContractTermDynamicDTO validNumericTerm;
+
+    @Setup
+    public void setUp() throws Exception {
+        UUID templateId = UUID.randomUUID();
+        textValidator = TermValidatorCompiler.compile(null, List.of(
+                rule(templateId, TermValidationTypeEnum.REQUIRED, "{\"required\": true}"),
+                rule(templateId, TermValidationTypeEnum.MIN_LENGTH, "{\"minLength\": 3}"),
+                rule(templateId, TermValidationTypeEnum.MAX_LENGTH, "{\"maxLength\": 32}"),
+                rule(templateId, TermValidationTypeEnum.REGEX_PATTERN, "{\"pattern\": \"^[A-Z]{2}-[0-9]{4,8}$\"}"),
+                rule(templateId, TermValidationTypeEnum.ENUM_VALUES,
+                        "{\"values\": [\"ES-2024\", \"ES-20240\", \"FR-1234\", \"DE-99999\"]}")));
+
+        ContractTermTemplate numericTemplate = ContractTermTemplate.builder()
+                .termTemplateId(UUID.randomUUID())
+                .validationRules(MAPPER.readTree("{\"MAX_VALUE\": {\"max\": 25.5}}"))
+                .build();
+        numericValidator = TermValidatorCompiler.compile(numericTemplate, List.of(
+                rule(numericTemplate.getTermTemplateId(), TermValidationTypeEnum.REQUIRED, null),
+                rule(numericTemplate.getTermTemplateId(), TermValidationTypeEnum.MIN_VALUE, "{\"min\": 0}")));
+
+        validTextTerm = term("FR-1234", null);
+        invalidTextTerm = term("fr_1234", null);
+        validNumericTerm = term(null, new BigDecimal("4.750000"));
+    }
+
+    @Benchmark
+    public String validTextTerm() {
+        return textValidator.firstViolation(validTextTerm);
+    }
+
+    @Benchmark
+    public List<String> invalidTextTerm() {
+        return textValidator.violations(invalidTextTerm);
+    }
+
+    @Benchmark
+    public String validNumericTerm() {
+        return numericValidator.firstViolation(validNumericTerm);
+    }
+
+    private static ContractTermValidationRule rule(UUID templateId, TermValidationTypeEnum type, String value)
+            throws Exception {
+        return ContractTermValidationRule.builder()
+                .validationRuleId(UUID.randomUUID())
+                .termTemplateId(templateId)
+                .validationType(type)
+                .validationValue(value == null ? null : MAPPER.readTree(value))
+                .build();
+    }
+
+    private static ContractTermDynamicDTO term(String text, BigDecimal numeric) {
+        return ContractTermDynamicDTO.builder()
+                .contractId(UUID.randomUUID())
+                .termTemplateId(UUID.randomUUID())
+                .termValueText(text)
+                .termValueNumeric(numeric)
+                .effectiveDate(LocalDateTime.now())
+                .isActive(true)
+                .build();
+    }
+}
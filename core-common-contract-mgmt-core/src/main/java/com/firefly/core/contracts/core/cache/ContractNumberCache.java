@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.cache;
+
+import com.firefly.core.contracts.core.support.TransactionHooks;
+import com.firefly.core.contracts.models.entities.Contract;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Bidirectional, in-process mapping between contract numbers and contract IDs.
+ * <p>
+ * Channels address contracts by their human-readable number, so a lookup resolves the number to an ID here and
+ * then reads the contract by primary key. The reverse mapping lets updates and deletes, which only know the ID,
+ * drop the number the contract was cached under. Entries are registered when a contract is created (once its
+ * transaction commits) or loaded on a miss; {@link #evict(UUID)} is called from the contract update and delete
+ * paths. A primary-key read that no longer matches the number falls back to the number lookup, so a stale entry
+ * can cost an extra query but never return the wrong contract.
+ */
+@Component
+public class ContractNumberCache {
+
+    @Autowired
+    private ContractRepository repository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${contracts.cache.contract-numbers.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${contracts.cache.contract-numbers.ttl:PT30M}")
+    private Duration ttl;
+
+    private GenerationGuardedCache<String, UUID> idsByNumber;
+
+    private GenerationGuardedCache<UUID, String> numbersById;
+
+    @PostConstruct
+    void init() {
+        idsByNumber = new GenerationGuardedCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        numbersById = new GenerationGuardedCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build());
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, idsByNumber.cache(), "contractNumbers");
+        }
+    }
+
+    /**
+     * Finds a contract by its contract number.
+     *
+     * @param contractNumber the contract number
+     * @return a Mono emitting the contract, or empty if no contract has the number
+     */
+    public Mono<Contract> findByContractNumber(String contractNumber) {
+        UUID contractId = idsByNumber.getIfPresent(contractNumber);
+        if (contractId == null) {
+            return load(contractNumber);
+        }
+        return repository.findById(contractId)
+                .filter(contract -> contractNumber.equals(contract.getContractNumber()))
+                .switchIfEmpty(Mono.defer(() -> {
+                    idsByNumber.cache().asMap().remove(contractNumber, contractId);
+                    return load(contractNumber);
+                }));
+    }
+
+    /**
+     * Registers the number of a newly created contract once the current transaction commits.
+     *
+     * @param contractId the contract ID
+     * @param contractNumber the contract number, may be {@code null}
+     * @return a Mono that completes when the entry has been added or scheduled
+     */
+    public Mono<Void> register(UUID contractId, String contractNumber) {
+        if (contractId == null || contractNumber == null) {
+            return Mono.empty();
+        }
+        long registerGeneration = numbersById.generation(contractId);
+        return TransactionHooks.afterCommit(() -> {
+            if (numbersById.isCurrent(contractId, registerGeneration)) {
+                put(contractId, contractNumber);
+            }
+        });
+    }
+
+    /**
+     * Evicts a contract in both directions now and again once the current transaction completes.
+     *
+     * @param contractId the updated or deleted contract
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evict(UUID contractId) {
+        return GenerationGuardedCache.evictNowAndAfterCompletion(() -> {
+            String contractNumber = numbersById.getIfPresent(contractId);
+            numbersById.invalidate(contractId);
+            if (contractNumber != null) {
+                idsByNumber.invalidate(contractNumber);
+            }
+        });
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void invalidateAll() {
+        idsByNumber.invalidateAll();
+        numbersById.invalidateAll();
+    }
+
+    private Mono<Contract> load(String contractNumber) {
+        return idsByNumber.load(contractNumber, repository.findByContractNumber(contractNumber),
+                contract -> put(contract.getContractId(), contract.getContractNumber()));
+    }
+
+    private void put(UUID contractId, String contractNumber) {
+        String previousNumber = numbersById.cache().asMap().put(contractId, contractNumber);
+        if (previousNumber != null && !previousNumber.equals(contractNumber)) {
+            idsByNumber.cache().asMap().remove(previousNumber, contractId);
+        }
+        idsByNumber.put(contractNumber, contractId);
+    }
+}
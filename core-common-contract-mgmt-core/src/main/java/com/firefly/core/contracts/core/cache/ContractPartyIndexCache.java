@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.cache;
+
+import com.firefly.core.contracts.interfaces.dtos.PartyContractRefDTO;
+import com.firefly.core.contracts.models.entities.ContractParty;
+import com.firefly.core.contracts.models.repositories.ContractPartyRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-through, in-process index of the contracts each party participates in.
+ * <p>
+ * Every party maps to the list of its contract party rows, active and inactive and ordered by creation,
+ * so that the active-only view and the pages of the party lookup are simple in-memory filters and slices.
+ * Parties without any contract are remembered in a separate, shorter-lived negative cache so that
+ * repeated lookups for them do not hit the database either. Both caches are bounded in size and expire
+ * after a TTL; {@link #evict(UUID...)} is called from the contract party write paths and the contract
+ * delete path with the parties each write touched, read from the database rather than scanned for here.
+ */
+@Component
+public class ContractPartyIndexCache {
+
+    @Autowired
+    private ContractPartyRepository repository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${contracts.cache.party-index.maximum-size:50000}")
+    private long maximumSize;
+
+    @Value("${contracts.cache.party-index.ttl:PT5M}")
+    private Duration ttl;
+
+    @Value("${contracts.cache.party-index.negative-maximum-size:100000}")
+    private long negativeMaximumSize;
+
+    @Value("${contracts.cache.party-index.negative-ttl:PT1M}")
+    private Duration negativeTtl;
+
+    private static final Comparator<ContractParty> CREATION_ORDER = Comparator
+            .comparing(ContractParty::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ContractParty::getContractPartyId);
+
+    private GenerationGuardedCache<UUID, List<ContractParty>> byParty;
+
+    private GenerationGuardedCache<UUID, Boolean> partiesWithoutContracts;
+
+    @PostConstruct
+    void init() {
+        byParty = new GenerationGuardedCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        partiesWithoutContracts = new GenerationGuardedCache<>(Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build());
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, byParty.cache(), "contractPartyIndex");
+            CaffeineCacheMetrics.monitor(meterRegistry, partiesWithoutContracts.cache(), "contractPartyIndexNegative");
+        }
+    }
+
+    /**
+     * Lists the contracts a party participates in.
+     *
+     * @param partyId the party ID
+     * @param isActive the active flag to match, {@code null} for all participations
+     * @return a Mono emitting the party's contract references, empty list when it has none
+     */
+    public Mono<List<PartyContractRefDTO>> getByPartyId(UUID partyId, Boolean isActive) {
+        return getPartiesByPartyId(partyId, isActive).map(parties -> parties.stream()
+                .map(ContractPartyIndexCache::toRef)
+                .toList());
+    }
+
+    /**
+     * Lists the contract party rows of a party, oldest first. The rows are shared with the cache and must
+     * not be modified; map them to DTOs before handing them out.
+     *
+     * @param partyId the party ID
+     * @param isActive the active flag to match, {@code null} for all rows
+     * @return a Mono emitting the party's contract party rows, empty list when it has none
+     */
+    public Mono<List<ContractParty>> getPartiesByPartyId(UUID partyId, Boolean isActive) {
+        return getAll(partyId).map(parties -> isActive == null
+                ? parties
+                : parties.stream().filter(party -> isActive.equals(party.getIsActive())).toList());
+    }
+
+    /**
+     * Evicts the given parties now and again once the current transaction completes.
+     *
+     * @param partyIds the affected party IDs; {@code null} entries are ignored
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evict(UUID... partyIds) {
+        return GenerationGuardedCache.evictNowAndAfterCompletion(() -> {
+            for (UUID partyId : partyIds) {
+                invalidate(partyId);
+            }
+        });
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void invalidateAll() {
+        byParty.invalidateAll();
+        partiesWithoutContracts.invalidateAll();
+    }
+
+    private void invalidate(UUID partyId) {
+        byParty.invalidate(partyId);
+        partiesWithoutContracts.invalidate(partyId);
+    }
+
+    private Mono<List<ContractParty>> getAll(UUID partyId) {
+        List<ContractParty> cached = byParty.getIfPresent(partyId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        if (partiesWithoutContracts.getIfPresent(partyId) != null) {
+            return Mono.just(List.of());
+        }
+        return byParty.load(partyId, repository.findByPartyId(partyId)
+                        .collectSortedList(CREATION_ORDER)
+                        .map(List::copyOf),
+                parties -> {
+                    if (parties.isEmpty()) {
+                        partiesWithoutContracts.put(partyId, Boolean.TRUE);
+                    } else {
+                        byParty.put(partyId, parties);
+                    }
+                });
+    }
+
+    private static PartyContractRefDTO toRef(ContractParty party) {
+        return PartyContractRefDTO.builder()
+                .contractPartyId(party.getContractPartyId())
+                .contractId(party.getContractId())
+                .roleInContractId(party.getRoleInContractId())
+                .isActive(party.getIsActive())
+                .build();
+    }
+}
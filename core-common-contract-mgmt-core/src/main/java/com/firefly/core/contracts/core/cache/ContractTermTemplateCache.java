@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.cache;
+
+import com.firefly.core.contracts.interfaces.enums.TermCategoryEnum;
+import com.firefly.core.contracts.models.entities.ContractTermTemplate;
+import com.firefly.core.contracts.models.repositories.ContractTermTemplateRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-through, in-process cache of the contract term template catalog.
+ * <p>
+ * Templates are cached by ID, codes resolve to IDs through a second cache, and the two hot list
+ * lookups (active templates of a category, active required templates) are cached as precomputed
+ * indexes. All entries are bounded in size and expire after a TTL and loads are guarded by
+ * {@link GenerationGuardedCache}; {@link #evict(UUID, String...)} is called from the template
+ * write paths. Hit, miss and eviction counters are published through Micrometer under
+ * the {@code cache.*} meters, tagged with the cache name.
+ */
+@Component
+public class ContractTermTemplateCache {
+
+    @Autowired
+    private ContractTermTemplateRepository repository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${contracts.cache.term-templates.maximum-size:2000}")
+    private long maximumSize;
+
+    @Value("${contracts.cache.term-templates.ttl:PT10M}")
+    private Duration ttl;
+
+    private GenerationGuardedCache<UUID, ContractTermTemplate> byId;
+
+    private GenerationGuardedCache<String, UUID> idsByCode;
+
+    private GenerationGuardedCache<IndexKey, List<ContractTermTemplate>> indexes;
+
+    @PostConstruct
+    void init() {
+        byId = new GenerationGuardedCache<>(newCache(maximumSize));
+        idsByCode = new GenerationGuardedCache<>(newCache(maximumSize));
+        indexes = new GenerationGuardedCache<>(newCache(TermCategoryEnum.values().length + 1L));
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, byId.cache(), "contractTermTemplatesById");
+            CaffeineCacheMetrics.monitor(meterRegistry, idsByCode.cache(), "contractTermTemplatesByCode");
+            CaffeineCacheMetrics.monitor(meterRegistry, indexes.cache(), "contractTermTemplateIndexes");
+        }
+    }
+
+    /**
+     * Finds a template by ID.
+     *
+     * @param termTemplateId the template ID
+     * @return a Mono emitting the template, or empty if it does not exist
+     */
+    public Mono<ContractTermTemplate> getById(UUID termTemplateId) {
+        ContractTermTemplate cached = byId.getIfPresent(termTemplateId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return byId.load(termTemplateId, repository.findById(termTemplateId), this::putTemplate);
+    }
+
+    /**
+     * Finds a template by its unique code.
+     *
+     * @param code the template code
+     * @return a Mono emitting the template, or empty if it does not exist
+     */
+    public Mono<ContractTermTemplate> getByCode(String code) {
+        UUID termTemplateId = idsByCode.getIfPresent(code);
+        if (termTemplateId == null) {
+            return loadByCode(code);
+        }
+        return getById(termTemplateId)
+                .filter(template -> code.equals(template.getCode()))
+                .switchIfEmpty(Mono.defer(() -> loadByCode(code)));
+    }
+
+    /**
+     * Lists the active templates of a category.
+     *
+     * @param termCategory the term category
+     * @return a Flux emitting the active templates of the category
+     */
+    public Flux<ContractTermTemplate> getActiveByCategory(TermCategoryEnum termCategory) {
+        return getIndex(new IndexKey(termCategory, false),
+                repository.findByTermCategoryAndIsActive(termCategory, true));
+    }
+
+    /**
+     * Lists the active, required templates.
+     *
+     * @return a Flux emitting the active required templates
+     */
+    public Flux<ContractTermTemplate> getActiveRequired() {
+        return getIndex(new IndexKey(null, true), repository.findByIsActiveAndIsRequired(true, true));
+    }
+
+    /**
+     * Evicts a template under its ID and the given codes, plus all list indexes, now and again once the
+     * current transaction completes. A code the template is no longer known by may stay cached, but it
+     * resolves to a template with a different code and is then reloaded.
+     *
+     * @param termTemplateId the template ID
+     * @param codes the codes the template was or is known by
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evict(UUID termTemplateId, String... codes) {
+        return GenerationGuardedCache.evictNowAndAfterCompletion(() -> {
+            byId.invalidate(termTemplateId);
+            for (String code : codes) {
+                idsByCode.invalidate(code);
+            }
+            indexes.invalidateAll();
+        });
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void invalidateAll() {
+        byId.invalidateAll();
+        idsByCode.invalidateAll();
+        indexes.invalidateAll();
+    }
+
+    private Flux<ContractTermTemplate> getIndex(IndexKey key, Flux<ContractTermTemplate> source) {
+        List<ContractTermTemplate> cached = indexes.getIfPresent(key);
+        if (cached != null) {
+            return Flux.fromIterable(cached);
+        }
+        return indexes.load(key, source.collectList().map(List::copyOf))
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    private Mono<ContractTermTemplate> loadByCode(String code) {
+        return idsByCode.load(code, repository.findByCode(code),
+                template -> idsByCode.put(code, template.getTermTemplateId()));
+    }
+
+    private void putTemplate(ContractTermTemplate template) {
+        byId.put(template.getTermTemplateId(), template);
+        if (template.getCode() != null) {
+            idsByCode.put(template.getCode(), template.getTermTemplateId());
+        }
+    }
+
+    private <K, V> Cache<K, V> newCache(long size) {
+        return Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private record IndexKey(TermCategoryEnum termCategory, boolean requiredOnly) {
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.cache;
+
+import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.terms.EffectiveTermIndex;
+import com.firefly.core.contracts.models.repositories.ContractTermDynamicRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Short-lived, in-process cache of the {@link EffectiveTermIndex} of each contract.
+ * <p>
+ * A schedule calculation usually resolves the terms of the same contract for many dates in a row, so the
+ * index built for the first request is kept for a short TTL. The cache can be disabled, in which case every
+ * request loads the contract's terms once and builds a throwaway index. {@link #evict(UUID...)} and
+ * {@link #evictTerm(UUID, UUID)} are called from the term write paths.
+ */
+@Component
+public class EffectiveTermIndexCache {
+
+    @Autowired
+    private ContractTermDynamicRepository repository;
+
+    @Autowired
+    private ContractTermDynamicMapper mapper;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${contracts.cache.effective-terms.enabled:true}")
+    private boolean enabled;
+
+    @Value("${contracts.cache.effective-terms.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${contracts.cache.effective-terms.ttl:PT30S}")
+    private Duration ttl;
+
+    private GenerationGuardedCache<UUID, EffectiveTermIndex> byContract;
+
+    @PostConstruct
+    void init() {
+        byContract = new GenerationGuardedCache<>(Caffeine.newBuilder()
+                .maximumSize(enabled ? maximumSize : 0)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, byContract.cache(), "contractEffectiveTermIndexes");
+        }
+    }
+
+    /**
+     * Returns the effective-term index of a contract, loading all of its active terms in one query on a miss.
+     *
+     * @param contractId the contract ID
+     * @return a Mono emitting the index, {@link EffectiveTermIndex#EMPTY} when the contract has no active terms
+     */
+    public Mono<EffectiveTermIndex> getByContractId(UUID contractId) {
+        EffectiveTermIndex cached = byContract.getIfPresent(contractId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        Mono<EffectiveTermIndex> load = repository.findByContractIdAndIsActive(contractId, true)
+                .map(mapper::toDTO)
+                .collectList()
+                .map(EffectiveTermIndex::build);
+        return enabled ? byContract.load(contractId, load) : load;
+    }
+
+    /**
+     * Evicts the given contracts now and again once the current transaction completes.
+     *
+     * @param contractIds the affected contract IDs; {@code null} entries are ignored
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evict(UUID... contractIds) {
+        return GenerationGuardedCache.evictNowAndAfterCompletion(() -> {
+            for (UUID contractId : contractIds) {
+                byContract.invalidate(contractId);
+            }
+        });
+    }
+
+    /**
+     * Evicts the contract a term now belongs to, plus whichever cached index still contains the term (its
+     * previous contract, when the term was moved), now and again once the current transaction completes.
+     *
+     * @param termId the written term
+     * @param contractId the contract the term belongs to after the write
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evictTerm(UUID termId, UUID contractId) {
+        return GenerationGuardedCache.evictNowAndAfterCompletion(() -> {
+            byContract.invalidate(contractId);
+            byContract.invalidateIf(index -> index.containsTerm(termId));
+        });
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void invalidateAll() {
+        byContract.invalidateAll();
+    }
+}
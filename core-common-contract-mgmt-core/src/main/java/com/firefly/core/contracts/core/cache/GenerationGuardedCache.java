@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.cache;
+
+import com.firefly.core.contracts.core.support.TransactionHooks;
+import com.github.benmanes.caffeine.cache.Cache;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A Caffeine cache whose read-through loads are guarded by per-key eviction generations.
+ * <p>
+ * Every eviction bumps the generation of the evicted key before dropping its entry, and a load only writes
+ * its result when the generation of the key it was started for is still the same, so a load racing with an
+ * eviction never caches the pre-write value. Generations are kept in a fixed number of stripes selected by
+ * key hash: an eviction only discards the in-flight loads of keys sharing its stripe rather than every load
+ * in the cache, while the bookkeeping stays bounded no matter how many keys pass through.
+ * <p>
+ * Writes evict through {@link #evict(Object)} or {@link #evictNowAndAfterCompletion(Runnable)}, which drop
+ * the entries immediately and once more after the current transaction completes, closing the window in which
+ * a concurrent reader could re-cache the value before the write became visible to other connections.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class GenerationGuardedCache<K, V> {
+
+    private static final int STRIPES = 256;
+
+    private final Cache<K, V> cache;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    /**
+     * @param cache the underlying cache
+     */
+    public GenerationGuardedCache(Cache<K, V> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * @return the underlying cache, for metrics binding and bulk reads
+     */
+    public Cache<K, V> cache() {
+        return cache;
+    }
+
+    /**
+     * @param key the key
+     * @return the cached value, or {@code null} on a miss
+     */
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Writes an entry without a generation check, for values already known to be current.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    /**
+     * @param key the key
+     * @return the current eviction generation of the key, to be passed to {@link #isCurrent(Object, long)}
+     */
+    public long generation(K key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * @param key the key
+     * @param generation a generation previously read through {@link #generation(Object)}
+     * @return whether the key has not been evicted since the generation was read
+     */
+    public boolean isCurrent(K key, long generation) {
+        return generations.get(stripe(key)) == generation;
+    }
+
+    /**
+     * Caches the value emitted by a load under its key, unless the key is evicted while the load is running.
+     *
+     * @param key the key being loaded
+     * @param source the load
+     * @return the load, caching its value as a side effect
+     */
+    public Mono<V> load(K key, Mono<V> source) {
+        return load(key, source, value -> cache.put(key, value));
+    }
+
+    /**
+     * Runs the given writer on the value emitted by a load, unless the key is evicted while the load is
+     * running. Used when a load populates more than one entry or cache.
+     *
+     * @param key the key guarding the load
+     * @param source the load
+     * @param writer the action caching the loaded value
+     * @param <T> the loaded type
+     * @return the load, running the writer as a side effect
+     */
+    public <T> Mono<T> load(K key, Mono<T> source, Consumer<T> writer) {
+        return Mono.defer(() -> {
+            long loadGeneration = generation(key);
+            return source.doOnNext(value -> {
+                if (isCurrent(key, loadGeneration)) {
+                    writer.accept(value);
+                }
+            });
+        });
+    }
+
+    /**
+     * Drops the entry of a key and discards the loads in flight for it.
+     *
+     * @param key the key, ignored when {@code null}
+     */
+    public void invalidate(K key) {
+        if (key == null) {
+            return;
+        }
+        generations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+    }
+
+    /**
+     * Drops the entries whose value matches a predicate and discards the loads in flight for their keys. Scans
+     * the whole cache, so it is only meant for writes whose affected keys cannot be looked up directly.
+     *
+     * @param predicate the predicate selecting the values to drop
+     */
+    public void invalidateIf(Predicate<? super V> predicate) {
+        cache.asMap().forEach((key, value) -> {
+            if (predicate.test(value)) {
+                invalidate(key);
+            }
+        });
+    }
+
+    /**
+     * Drops every entry and discards every load in flight.
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+
+    /**
+     * Evicts a key now and again once the current transaction completes.
+     *
+     * @param key the key, ignored when {@code null}
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evict(K key) {
+        return evictNowAndAfterCompletion(() -> invalidate(key));
+    }
+
+    /**
+     * Drops every entry now and again once the current transaction completes.
+     *
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evictAll() {
+        return evictNowAndAfterCompletion(this::invalidateAll);
+    }
+
+    /**
+     * Runs an eviction now and again once the current transaction completes, for evictions spanning several
+     * keys or caches.
+     *
+     * @param eviction the eviction, built from {@link #invalidate(Object)} and {@link #invalidateAll()} calls
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public static Mono<Void> evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        return TransactionHooks.afterCompletion(eviction);
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.expiry;
+
+import com.firefly.core.contracts.core.services.ContractExpiryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Periodically expires contracts past their end date and deactivates terms past their expiration date.
+ * <p>
+ * Each run drains contracts and then terms in chunks of {@code contracts.expiry.chunk-size}, stopping at the
+ * first short chunk or after {@code contracts.expiry.max-chunks-per-run} chunks, so a large backlog is worked
+ * off over several runs instead of in one long transaction. Publishes:
+ * <ul>
+ *   <li>{@code contracts.expiry.processed} – rows expired, tagged by {@code type} ({@code contract}, {@code term})</li>
+ *   <li>{@code contracts.expiry.run} – duration of each drain, tagged by {@code type}</li>
+ *   <li>{@code contracts.expiry.lag} – age in seconds of the oldest row still waiting to be expired after a run</li>
+ *   <li>{@code contracts.expiry.failures} – runs that ended with an error</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "contracts.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class ContractExpiryEngine {
+
+    @Autowired
+    private ContractExpiryService expiryService;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${contracts.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${contracts.expiry.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    private final AtomicLong contractLagSeconds = new AtomicLong();
+
+    private final AtomicLong termLagSeconds = new AtomicLong();
+
+    private Counter contractsExpired;
+
+    private Counter termsExpired;
+
+    private Counter failures;
+
+    private Timer contractRunTimer;
+
+    private Timer termRunTimer;
+
+    @PostConstruct
+    void init() {
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        contractsExpired = Counter.builder("contracts.expiry.processed").tag("type", "contract")
+                .description("Contracts expired by the expiry engine").register(registry);
+        termsExpired = Counter.builder("contracts.expiry.processed").tag("type", "term")
+                .description("Terms deactivated by the expiry engine").register(registry);
+        failures = Counter.builder("contracts.expiry.failures")
+                .description("Expiry runs that ended with an error").register(registry);
+        contractRunTimer = Timer.builder("contracts.expiry.run").tag("type", "contract")
+                .description("Time spent draining expired contracts").register(registry);
+        termRunTimer = Timer.builder("contracts.expiry.run").tag("type", "term")
+                .description("Time spent draining expired terms").register(registry);
+        Gauge.builder("contracts.expiry.lag", contractLagSeconds, AtomicLong::get).tag("type", "contract")
+                .baseUnit("seconds").description("Age of the oldest contract waiting to be expired").register(registry);
+        Gauge.builder("contracts.expiry.lag", termLagSeconds, AtomicLong::get).tag("type", "term")
+                .baseUnit("seconds").description("Age of the oldest term waiting to be deactivated").register(registry);
+    }
+
+    /**
+     * Runs one expiry pass. Scheduled with a fixed delay, so the next pass starts only after this one completes.
+     *
+     * @return a Mono completing when the pass is done
+     */
+    @Scheduled(fixedDelayString = "${contracts.expiry.interval:PT1M}",
+            initialDelayString = "${contracts.expiry.initial-delay:PT30S}")
+    public Mono<Void> runExpiry() {
+        return Mono.defer(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    return drain(now, expiryService::expireContracts, contractsExpired, contractRunTimer)
+                            .then(drain(now, expiryService::expireTerms, termsExpired, termRunTimer))
+                            .then(recordLag(expiryService::findOldestPendingContractExpiry, contractLagSeconds))
+                            .then(recordLag(expiryService::findOldestPendingTermExpiry, termLagSeconds));
+                })
+                .doOnError(error -> failures.increment());
+    }
+
+    private Mono<Long> drain(LocalDateTime now, BiFunction<LocalDateTime, Integer, Mono<Long>> chunk,
+                             Counter processed, Timer timer) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return Mono.defer(() -> chunk.apply(now, chunkSize))
+                    .repeat(Math.max(0, maxChunksPerRun - 1))
+                    .takeUntil(count -> count < chunkSize)
+                    .doOnNext(processed::increment)
+                    .reduce(0L, Long::sum)
+                    .doFinally(signal -> sample.stop(timer));
+        });
+    }
+
+    private Mono<Void> recordLag(Function<LocalDateTime, Mono<LocalDateTime>> oldestPending, AtomicLong lagSeconds) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return oldestPending.apply(now)
+                    .map(oldest -> Duration.between(oldest, now).toSeconds())
+                    .defaultIfEmpty(0L)
+                    .doOnNext(lagSeconds::set)
+                    .then();
+        });
+    }
+}
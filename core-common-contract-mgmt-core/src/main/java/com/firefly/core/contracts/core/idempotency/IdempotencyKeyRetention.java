@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.idempotency;
+
+import com.firefly.core.contracts.models.repositories.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes expired idempotency keys, in chunks so that no single statement holds locks on a large
+ * part of the table. Expired keys that are still present are taken over by the next request using them, so the
+ * purge only bounds the table size.
+ */
+@Component
+@ConditionalOnProperty(name = "contracts.idempotency.purge-enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyKeyRetention {
+
+    static final int PURGE_CHUNK_SIZE = 10_000;
+
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    /**
+     * Deletes expired idempotency keys.
+     *
+     * @return a Mono emitting the number of deleted keys
+     */
+    @Scheduled(fixedDelayString = "${contracts.idempotency.purge-interval:PT1H}",
+            initialDelayString = "${contracts.idempotency.purge-interval:PT1H}")
+    public Mono<Long> purge() {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return Mono.defer(() -> repository.deleteExpired(now, PURGE_CHUNK_SIZE))
+                    .repeat()
+                    .takeUntil(deleted -> deleted < PURGE_CHUNK_SIZE)
+                    .reduce(0L, Long::sum);
+        });
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.contracts.core.support.TransactionHooks;
+import com.firefly.core.contracts.models.entities.IdempotencyKey;
+import com.firefly.core.contracts.models.repositories.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Makes create requests carrying an {@value #HEADER} header safe to retry.
+ * <p>
+ * The first request with a key claims it in the idempotency_key table, runs the create and stores its response,
+ * all in one transaction. A retry returns the stored response without running the create again. While the first
+ * request is still running, a retry waits for it on the key's row lock. If the first request failed, its claim
+ * was rolled back and the retry runs the create itself. Responses of recent keys are also kept in an in-process
+ * LRU cache, so most retries are answered without a database round trip. Keys are scoped per endpoint and
+ * expire after {@code contracts.idempotency.ttl}. A key sent again with a different request body is rejected
+ * with an {@link IdempotencyKeyConflictException}.
+ */
+@Component
+public class IdempotentRequests {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${contracts.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${contracts.idempotency.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
+    private Cache<UUID, Replay> replays;
+
+    /**
+     * Request hash and response of a completed request; responses are only ever serialized, never modified.
+     */
+    private record Replay(UUID requestHash, Object response) {
+    }
+
+    @PostConstruct
+    void init() {
+        replays = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, replays, "idempotencyKeys");
+        }
+    }
+
+    /**
+     * Runs a create request at most once per idempotency key.
+     *
+     * @param scope the endpoint the key is scoped to, including path variables identifying the parent resource
+     * @param idempotencyKey the key sent by the client; the create simply runs when null or blank
+     * @param request the request body, compared with the one the key was first used for
+     * @param responseType the type of the response, to read stored responses back
+     * @param create the create to run when the key is new
+     * @return a Mono emitting the response of the create, or the stored response of the original request
+     */
+    public <T> Mono<T> execute(String scope, String idempotencyKey, Object request, Class<T> responseType,
+                               Supplier<Mono<T>> create) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return create.get();
+        }
+        return Mono.defer(() -> {
+            UUID keyId = UUID.nameUUIDFromBytes((scope + ':' + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+            UUID requestHash = requestHash(request);
+            Replay cached = replays.getIfPresent(keyId);
+            if (cached != null) {
+                return replay(cached, requestHash, idempotencyKey, responseType);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            return repository.claim(keyId, requestHash, now.plus(ttl), now)
+                    .hasElement()
+                    .flatMap(claimed -> claimed
+                            ? create(keyId, requestHash, create)
+                            : replayStored(keyId, requestHash, idempotencyKey, responseType, now))
+                    .as(transactionalOperator::transactional);
+        });
+    }
+
+    private <T> Mono<T> create(UUID keyId, UUID requestHash, Supplier<Mono<T>> create) {
+        return create.get()
+                .flatMap(response -> repository.complete(keyId, toJson(response))
+                        .then(TransactionHooks.afterCommit(() -> replays.put(keyId, new Replay(requestHash, response))))
+                        .thenReturn(response));
+    }
+
+    private <T> Mono<T> replayStored(UUID keyId, UUID requestHash, String idempotencyKey, Class<T> responseType,
+                                     LocalDateTime now) {
+        return repository.findUnexpired(keyId, now)
+                .filter(stored -> stored.getResponseBody() != null)
+                .switchIfEmpty(Mono.error(() -> new IdempotencyKeyConflictException(
+                        "The request with idempotency key " + idempotencyKey + " cannot be replayed")))
+                .flatMap(stored -> {
+                    Replay replay = new Replay(stored.getRequestHash(), fromJson(stored, responseType));
+                    replays.put(keyId, replay);
+                    return replay(replay, requestHash, idempotencyKey, responseType);
+                });
+    }
+
+    private static <T> Mono<T> replay(Replay replay, UUID requestHash, String idempotencyKey, Class<T> responseType) {
+        if (!replay.requestHash().equals(requestHash)) {
+            return Mono.error(new IdempotencyKeyConflictException(
+                    "Idempotency key " + idempotencyKey + " was already used for a different request"));
+        }
+        return Mono.just(responseType.cast(replay.response()));
+    }
+
+    private UUID requestHash(Object request) {
+        try {
+            return UUID.nameUUIDFromBytes(objectMapper.writeValueAsBytes(request));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Request cannot be serialized for idempotency checks", e);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            throw new IllegalStateException("Response cannot be stored for idempotency key replays", e);
+        }
+    }
+
+    private <T> T fromJson(IdempotencyKey stored, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(stored.getResponseBody(), responseType);
+        } catch (Exception e) {
+            throw new IllegalStateException("Stored response cannot be read for idempotency key replays", e);
+        }
+    }
+}
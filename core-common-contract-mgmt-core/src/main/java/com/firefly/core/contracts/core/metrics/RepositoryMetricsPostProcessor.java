@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Times every repository method invocation, including {@code @Query} and custom fragment methods.
+ * <p>
+ * Adds a {@link TimedRepositoryInterceptor} to the proxy of each Spring Data repository, which publishes
+ * {@code contracts.repository.query} tagged by {@code entity}, {@code method} and {@code outcome}, and logs
+ * invocations slower than {@code contracts.metrics.repository.slow-query-threshold}. Reactive results are timed
+ * from subscription until they terminate or are cancelled. Set {@code contracts.metrics.repository.enabled=false}
+ * to turn the instrumentation off.
+ * <p>
+ * Connection factory beans are decorated with a {@link TimedConnectionFactory} publishing {@code r2dbc.pool.acquire},
+ * which complements the {@code r2dbc.pool.acquired}, {@code r2dbc.pool.pending} and related pool gauges published by
+ * Spring Boot, so a slow query can be told apart from a slow connection checkout.
+ */
+@Component
+@ConditionalOnProperty(name = "contracts.metrics.repository.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    private final Duration slowQueryThreshold;
+
+    // Resolved lazily: post-processors are created before the registry and must not pull it in early
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                          @Value("${contracts.metrics.repository.slow-query-threshold:PT0.5S}")
+                                          Duration slowQueryThreshold) {
+        this.meterRegistry = () -> meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new TimedRepositoryInterceptor(
+                            repositoryInformation.getDomainType().getSimpleName(), meterRegistry, slowQueryThreshold))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConnectionFactory connectionFactory && !(bean instanceof TimedConnectionFactory)) {
+            return new TimedConnectionFactory(connectionFactory, beanName, meterRegistry);
+        }
+        return bean;
+    }
+}
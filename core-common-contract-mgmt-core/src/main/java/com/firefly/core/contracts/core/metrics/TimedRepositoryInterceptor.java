@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.metrics;
+
+import com.firefly.core.contracts.core.tracing.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.ReflectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records the duration of each invocation of one repository and logs the slow ones.
+ * <p>
+ * Slow invocations are logged with the shape of their arguments (types, collection sizes, page sizes) and never
+ * their values, since the arguments carry identifiers and customer data. Queries running under a sampled
+ * {@link RequestTrace} are logged as well, and every query is counted into the trace of its request.
+ */
+@Slf4j
+class TimedRepositoryInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "contracts.repository.query";
+
+    private final String entity;
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    private final long slowQueryThresholdNanos;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    TimedRepositoryInterceptor(String entity, Supplier<MeterRegistry> meterRegistry, Duration slowQueryThreshold) {
+        this.entity = entity;
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable error) {
+            record(method, invocation.getArguments(), "error", start, null);
+            throw error;
+        }
+        if (result instanceof Mono<?> mono) {
+            return Mono.deferContextual(context -> {
+                RequestTrace trace = RequestTrace.from(context);
+                long subscribed = System.nanoTime();
+                return mono.doFinally(signal -> record(method, invocation.getArguments(), outcome(signal), subscribed, trace));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.deferContextual(context -> {
+                RequestTrace trace = RequestTrace.from(context);
+                long subscribed = System.nanoTime();
+                return flux.doFinally(signal -> record(method, invocation.getArguments(), outcome(signal), subscribed, trace));
+            });
+        }
+        record(method, invocation.getArguments(), "success", start, null);
+        return result;
+    }
+
+    /**
+     * Maps a terminal signal to the {@code outcome} tag shared by the query and pool acquire timers.
+     */
+    static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+    }
+
+    private void record(Method method, Object[] arguments, String outcome, long startNanos, RequestTrace trace) {
+        long elapsed = System.nanoTime() - startNanos;
+        timers.computeIfAbsent(method.getName() + '/' + outcome, key -> Timer.builder(METRIC_NAME)
+                        .tag("entity", entity)
+                        .tag("method", method.getName())
+                        .tag("outcome", outcome)
+                        .description("Time spent in repository queries, from subscription to completion")
+                        .register(meterRegistry.get()))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        String traceId = trace != null ? trace.getTraceId() : "-";
+        if (elapsed >= slowQueryThresholdNanos) {
+            log.warn("[trace={}] Slow repository query {}.{}({}) took {} ms, outcome {}", traceId, entity,
+                    method.getName(), shapeOf(arguments), Duration.ofNanos(elapsed).toMillis(), outcome);
+        } else if (trace != null && trace.isSampled()) {
+            log.info("[trace={}] Repository query {}.{}({}) took {} ms, outcome {}", traceId, entity,
+                    method.getName(), shapeOf(arguments), Duration.ofNanos(elapsed).toMillis(), outcome);
+        }
+        if (trace != null) {
+            trace.recordQuery(elapsed);
+        }
+    }
+
+    private static String shapeOf(Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return "";
+        }
+        return Arrays.stream(arguments).map(TimedRepositoryInterceptor::shapeOfArgument).collect(Collectors.joining(", "));
+    }
+
+    private static String shapeOfArgument(Object argument) {
+        if (argument == null) {
+            return "null";
+        }
+        if (argument instanceof Pageable pageable) {
+            return pageable.isPaged() ? "Pageable[size=" + pageable.getPageSize() + "]" : "Pageable[unpaged]";
+        }
+        if (argument instanceof Collection<?> collection) {
+            return argument.getClass().getSimpleName() + "[" + collection.size() + "]";
+        }
+        if (argument.getClass().isArray()) {
+            return argument.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(argument) + "]";
+        }
+        return argument.getClass().getSimpleName();
+    }
+}
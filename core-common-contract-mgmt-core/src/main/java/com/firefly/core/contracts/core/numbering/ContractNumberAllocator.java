@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.numbering;
+
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Allocates unique contract numbers from blocks leased from the {@code contract_number_seq} sequence.
+ * <p>
+ * Each instance leases a block of numbers (the sequence increment, 1000 by default) with one {@code nextval}
+ * and hands them out from memory with an atomic counter, so only one allocation per block costs a database
+ * round trip. Concurrent callers that exhaust a block wait for a single shared lease. Numbers left in a block
+ * when the instance stops are never used, so allocated numbers are unique and increasing per instance but not
+ * gap-free. Numbers are rendered with the format configured for the contract's product catalog
+ * ({@link ContractNumberingProperties}).
+ * <p>
+ * Client-supplied contract numbers must use a format disjoint from the configured ones: a client number that
+ * looks like an allocated one could collide with a number the sequence hands out later, so such numbers are
+ * rejected ({@link #matchesAllocatedFormat(String)}).
+ */
+@Component
+public class ContractNumberAllocator {
+
+    @Autowired
+    private ContractRepository repository;
+
+    @Autowired
+    private ContractNumberingProperties properties;
+
+    private static final Pattern FORMAT_SPECIFIER =
+            Pattern.compile("%(?:\\d+\\$|<)?[-#+ 0,(]*\\d*(?:\\.\\d+)?([tT].|[a-zA-Z%])");
+
+    private volatile Lease lease = Lease.EXHAUSTED;
+
+    /**
+     * Size of the leased blocks, read from the sequence on first use; {@code 0} until then.
+     */
+    private volatile long blockSize;
+
+    /**
+     * Lease in progress, shared by every caller that found the current block exhausted; guarded by {@code this}.
+     */
+    private Mono<Lease> pendingLease;
+
+    /**
+     * Patterns matching the numbers rendered by the default and the product catalog formats.
+     */
+    private List<Pattern> allocatedShapes;
+
+    @PostConstruct
+    void init() {
+        validate("default", properties.getDefaultFormat());
+        properties.getFormats().forEach((productCatalogId, format) -> validate(productCatalogId.toString(), format));
+        List<Pattern> shapes = new ArrayList<>();
+        shapes.add(shapeOf(properties.getDefaultFormat()));
+        properties.getFormats().values().forEach(format -> shapes.add(shapeOf(format)));
+        allocatedShapes = List.copyOf(shapes);
+    }
+
+    /**
+     * Tells whether a contract number has the shape of a number this allocator renders, under the default
+     * format or any product catalog format.
+     *
+     * @param contractNumber the contract number to check
+     * @return {@code true} if the number could be, or later become, an allocated number
+     */
+    public boolean matchesAllocatedFormat(String contractNumber) {
+        return allocatedShapes.stream().anyMatch(shape -> shape.matcher(contractNumber).matches());
+    }
+
+    /**
+     * Allocates a contract number.
+     *
+     * @param productCatalogId the product catalog of the contract, selecting the number format; may be {@code null}
+     * @return a Mono emitting the formatted, unique contract number
+     */
+    public Mono<String> allocate(UUID productCatalogId) {
+        String format = productCatalogId != null
+                ? properties.getFormats().getOrDefault(productCatalogId, properties.getDefaultFormat())
+                : properties.getDefaultFormat();
+        return nextNumber().map(number -> String.format(format, number, LocalDate.now()));
+    }
+
+    private Mono<Long> nextNumber() {
+        return Mono.defer(() -> {
+            Lease current = lease;
+            long number = current.take();
+            return number > 0 ? Mono.just(number) : renew(current).then(nextNumber());
+        });
+    }
+
+    private synchronized Mono<Lease> renew(Lease exhausted) {
+        if (lease != exhausted) {
+            return Mono.just(lease);
+        }
+        if (pendingLease == null) {
+            pendingLease = leaseBlock()
+                    .doOnNext(next -> lease = next)
+                    .doFinally(signal -> clearPendingLease())
+                    .cache();
+        }
+        return pendingLease;
+    }
+
+    private synchronized void clearPendingLease() {
+        pendingLease = null;
+    }
+
+    private Mono<Lease> leaseBlock() {
+        Mono<Long> size = blockSize > 0
+                ? Mono.just(blockSize)
+                : repository.findContractNumberBlockSize()
+                        .switchIfEmpty(Mono.error(new IllegalStateException("Sequence contract_number_seq does not exist")))
+                        .doOnNext(found -> blockSize = found);
+        return size.flatMap(found -> repository.nextContractNumberBlock()
+                .map(start -> new Lease(start, start + found)));
+    }
+
+    /**
+     * Turns a number format into a pattern matching everything it can render: the number and its date fields
+     * become digit runs, other conversions match any text and the rest is literal.
+     */
+    private static Pattern shapeOf(String format) {
+        Matcher specifier = FORMAT_SPECIFIER.matcher(format);
+        StringBuilder regex = new StringBuilder();
+        int literalStart = 0;
+        while (specifier.find()) {
+            if (specifier.start() > literalStart) {
+                regex.append(Pattern.quote(format.substring(literalStart, specifier.start())));
+            }
+            String conversion = specifier.group(1);
+            if (conversion.equals("%")) {
+                regex.append(Pattern.quote("%"));
+            } else if (conversion.equals("d") || conversion.matches("[tT][YyCmdejHIklMSLN]")) {
+                regex.append("\\d+");
+            } else if (!conversion.equals("n")) {
+                regex.append(".+");
+            }
+            literalStart = specifier.end();
+        }
+        if (literalStart < format.length()) {
+            regex.append(Pattern.quote(format.substring(literalStart)));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static void validate(String name, String format) {
+        try {
+            LocalDate today = LocalDate.now();
+            if (String.format(format, 1L, today).equals(String.format(format, 2L, today))) {
+                throw new IllegalStateException("Contract number format " + name + " does not include the number: " + format);
+            }
+        } catch (IllegalFormatException e) {
+            throw new IllegalStateException("Invalid contract number format " + name + ": " + format, e);
+        }
+    }
+
+    /**
+     * Block of numbers [start, end) leased to this instance.
+     */
+    private static final class Lease {
+
+        static final Lease EXHAUSTED = new Lease(0, 0);
+
+        private final AtomicLong next;
+
+        private final long end;
+
+        Lease(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        /**
+         * Takes the next number of the block.
+         *
+         * @return the number, or {@code 0} once the block is exhausted
+         */
+        long take() {
+            long number = next.getAndIncrement();
+            return number < end ? number : 0;
+        }
+    }
+}
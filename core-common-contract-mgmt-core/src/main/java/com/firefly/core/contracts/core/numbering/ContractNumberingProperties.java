@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.numbering;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Formats of the contract numbers allocated by {@link ContractNumberAllocator}.
+ * <p>
+ * A format is a {@link String#format(String, Object...)} pattern receiving the allocated number as its first
+ * argument and the current date as its second, for example {@code LN-%2$tY-%1$08d}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "contracts.numbering")
+public class ContractNumberingProperties {
+
+    /**
+     * Format used for contracts whose product catalog has no format of its own
+     */
+    private String defaultFormat = "CTR-%010d";
+
+    /**
+     * Formats by product catalog ID
+     */
+    private Map<UUID, String> formats = new HashMap<>();
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.numbering;
+
+/**
+ * Raised when a client-supplied contract number has the shape of an allocated number, and so could collide
+ * with a number handed out by {@link ContractNumberAllocator} later.
+ */
+public class InvalidContractNumberException extends RuntimeException {
+
+    public InvalidContractNumberException(String message) {
+        super(message);
+    }
+}
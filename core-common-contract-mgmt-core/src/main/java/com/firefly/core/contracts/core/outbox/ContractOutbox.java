@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
+import com.firefly.core.contracts.models.repositories.ContractOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends contract changes to the transactional outbox.
+ * <p>
+ * Must be called from within the transaction that performs the change, so that the outbox entry is committed
+ * or rolled back together with it; the change stream only ever publishes committed changes.
+ */
+@Component
+public class ContractOutbox {
+
+    @Autowired
+    private ContractOutboxRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Appends a single change.
+     *
+     * @param aggregateType the kind of resource that changed
+     * @param aggregateId the ID of the resource that changed
+     * @param contractId the contract the resource belongs to
+     * @param changeType the kind of change
+     * @param payload the state after the change, serialized as JSON; may be {@code null}
+     * @return a Mono completing when the entry has been written
+     */
+    public Mono<Void> append(ContractChangeAggregateEnum aggregateType, UUID aggregateId, UUID contractId,
+                             ContractChangeTypeEnum changeType, Object payload) {
+        return Mono.fromCallable(() -> entry(aggregateType, aggregateId, contractId, changeType, payload))
+                .flatMap(entry -> repository.appendAll(List.of(entry)))
+                .then();
+    }
+
+    /**
+     * Appends several changes with batched statements.
+     *
+     * @param entries the entries, usually built with {@link #entry}
+     * @return a Mono completing when the entries have been written
+     */
+    public Mono<Void> appendAll(List<ContractOutboxEntry> entries) {
+        return entries.isEmpty() ? Mono.empty() : repository.appendAll(entries).then();
+    }
+
+    /**
+     * Builds an outbox entry without writing it.
+     */
+    public ContractOutboxEntry entry(ContractChangeAggregateEnum aggregateType, UUID aggregateId, UUID contractId,
+                                     ContractChangeTypeEnum changeType, Object payload) {
+        return ContractOutboxEntry.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .contractId(contractId)
+                .changeType(changeType)
+                .payload(payload == null ? null : objectMapper.valueToTree(payload))
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.outbox;
+
+import com.firefly.core.contracts.models.repositories.ContractOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes outbox entries older than {@code contracts.outbox.retention}, in chunks so that
+ * no single statement holds locks on a large part of the table. Consumers that fall further behind than
+ * the retention period have to resynchronize from the REST API.
+ */
+@Component
+@ConditionalOnProperty(name = "contracts.outbox.purge-enabled", havingValue = "true", matchIfMissing = true)
+public class ContractOutboxRetention {
+
+    static final int PURGE_CHUNK_SIZE = 10_000;
+
+    @Autowired
+    private ContractOutboxRepository repository;
+
+    @Value("${contracts.outbox.retention:P7D}")
+    private Duration retention;
+
+    /**
+     * Deletes expired outbox entries.
+     *
+     * @return a Mono emitting the number of deleted entries
+     */
+    @Scheduled(fixedDelayString = "${contracts.outbox.purge-interval:PT1H}",
+            initialDelayString = "${contracts.outbox.purge-interval:PT1H}")
+    public Mono<Long> purge() {
+        return Mono.defer(() -> {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            return Mono.defer(() -> repository.deleteCreatedBefore(cutoff, PURGE_CHUNK_SIZE))
+                    .repeat()
+                    .takeUntil(deleted -> deleted < PURGE_CHUNK_SIZE)
+                    .reduce(0L, Long::sum);
+        });
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.outbox;
+
+/**
+ * Raised when a client resumes the contract change stream from a position that was not issued by it.
+ */
+public class InvalidChangeStreamPositionException extends IllegalArgumentException {
+
+    public InvalidChangeStreamPositionException(String message) {
+        super(message);
+    }
+
+    public InvalidChangeStreamPositionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.outbox;
+
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
+
+/**
+ * Position in the contract change stream: the (transaction ID, outbox ID) of the last consumed entry,
+ * rendered as {@code <transactionId>-<outboxId>}.
+ *
+ * @param transactionId the transaction ID of the entry
+ * @param outboxId the outbox ID of the entry
+ */
+public record OutboxPosition(long transactionId, long outboxId) {
+
+    /**
+     * Position before the first entry.
+     */
+    public static final OutboxPosition START = new OutboxPosition(0L, 0L);
+
+    public static OutboxPosition of(ContractOutboxEntry entry) {
+        return new OutboxPosition(entry.getTransactionId(), entry.getOutboxId());
+    }
+
+    /**
+     * Parses a position previously returned by {@link #toString()}.
+     *
+     * @param value the position
+     * @return the parsed position
+     * @throws InvalidChangeStreamPositionException if the value is not a valid position
+     */
+    public static OutboxPosition parse(String value) {
+        int separator = value.indexOf('-');
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new InvalidChangeStreamPositionException("Invalid change stream position: " + value);
+        }
+        try {
+            return new OutboxPosition(Long.parseLong(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new InvalidChangeStreamPositionException("Invalid change stream position: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return transactionId + "-" + outboxId;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.pagination;
+
+/**
+ * Raised for cursor pagination requests the client has to correct: a malformed or foreign cursor, or a sort
+ * property that cannot be used as a keyset.
+ */
+public class InvalidPaginationException extends IllegalArgumentException {
+
+    public InvalidPaginationException(String message) {
+        super(message);
+    }
+
+    public InvalidPaginationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
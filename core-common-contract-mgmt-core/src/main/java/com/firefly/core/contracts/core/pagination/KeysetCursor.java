@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.pagination;
+
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page, encoded as an opaque URL-safe token.
+ * <p>
+ * The token also carries the sort property and direction it was produced for, so that a cursor
+ * cannot silently be replayed against a different ordering.
+ */
+record KeysetCursor(String sortProperty, Sort.Direction direction, UUID id, Object sortValue) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = sortProperty + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + format(sortValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String token, String sortProperty, Sort.Direction direction, Class<?> sortType) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationException("Invalid pagination cursor", e);
+        }
+        if (parts.length != 4) {
+            throw new InvalidPaginationException("Invalid pagination cursor");
+        }
+        if (!parts[0].equals(sortProperty) || !parts[1].equals(direction.name())) {
+            throw new InvalidPaginationException("Pagination cursor was issued for a different sort order");
+        }
+        try {
+            return new KeysetCursor(sortProperty, direction, UUID.fromString(parts[2]), parse(parts[3], sortType));
+        } catch (RuntimeException e) {
+            throw new InvalidPaginationException("Invalid pagination cursor", e);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        if (value instanceof BigDecimal d) {
+            return d.toPlainString();
+        }
+        return String.valueOf(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parse(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (type == UUID.class) {
+            return UUID.fromString(value);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        }
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Boolean.class) {
+            return Boolean.valueOf(value);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        throw new IllegalArgumentException("Unsupported keyset sort type: " + type.getName());
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Executes keyset (seek) pagination for the filter services.
+ * <p>
+ * Each page is a single {@code SELECT ... WHERE <filters> AND <seek> ORDER BY sort, id LIMIT size + 1},
+ * where the seek predicate positions the scan right after the previous page's last
+ * {@code (sort value, primary key)}. The extra row only tells whether another page exists; the
+ * total count is only queried when explicitly requested.
+ * <p>
+ * Only non-nullable columns that lead an index may be used as sort keys, which is why callers pass
+ * the set of sortable properties for their entity. The default {@code createdAt} is backed by the
+ * {@code (created_at, primary key)} index of every entity table (V17).
+ */
+@Component
+public class KeysetPaginator {
+
+    /**
+     * Sort property used when the request does not name one.
+     */
+    public static final String DEFAULT_SORT_PROPERTY = "createdAt";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    /**
+     * Fetches one keyset page.
+     *
+     * @param entityClass the entity to query
+     * @param request the cursor request
+     * @param toEntity maps the filter DTO to an entity probe whose non-null properties become equality criteria
+     * @param toDTO maps result rows to DTOs
+     * @param sortableProperties the entity properties that may be used as sort keys (must be NOT NULL columns)
+     * @param <E> the entity type
+     * @param <D> the DTO type
+     * @return a Mono emitting the page
+     */
+    public <E, D> Mono<CursorPageResponse<D>> paginate(Class<E> entityClass,
+                                                       CursorFilterRequest<D> request,
+                                                       Function<D, E> toEntity,
+                                                       Function<E, D> toDTO,
+                                                       Set<String> sortableProperties) {
+        return Mono.defer(() -> {
+            RelationalPersistentEntity<?> entity = template.getConverter().getMappingContext()
+                    .getRequiredPersistentEntity(entityClass);
+            String sortBy = request.getSortBy() == null ? DEFAULT_SORT_PROPERTY : request.getSortBy();
+            if (!sortableProperties.contains(sortBy)) {
+                return Mono.error(new InvalidPaginationException(
+                        "Unsupported sort property for cursor pagination: " + sortBy + ", expected one of " + sortableProperties));
+            }
+            RelationalPersistentProperty sortProperty = entity.getRequiredPersistentProperty(sortBy);
+            RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+            Sort.Direction direction = Sort.Direction.fromOptionalString(request.getSortDirection())
+                    .orElse(Sort.Direction.ASC);
+            int size = request.getSize() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+
+            Criteria filter = filterCriteria(entity,
+                    request.getFilters() == null ? null : toEntity.apply(request.getFilters()));
+            Criteria page = filter;
+            if (request.getCursor() != null && !request.getCursor().isBlank()) {
+                KeysetCursor cursor = KeysetCursor.decode(request.getCursor(), sortBy, direction, sortProperty.getType());
+                page = and(filter, seekCriteria(sortBy, idProperty.getName(), direction, cursor));
+            }
+
+            Query query = Query.query(page == null ? Criteria.empty() : page)
+                    .sort(Sort.by(direction, sortBy, idProperty.getName()))
+                    .limit(size + 1);
+            Mono<List<E>> rows = template.select(query, entityClass).collectList();
+            Mono<Optional<Long>> total = Boolean.TRUE.equals(request.getIncludeTotal())
+                    ? template.count(Query.query(filter == null ? Criteria.empty() : filter), entityClass).map(Optional::of)
+                    : Mono.just(Optional.empty());
+
+            return Mono.zip(rows, total).map(result -> {
+                List<E> fetched = result.getT1();
+                boolean hasNext = fetched.size() > size;
+                List<E> content = hasNext ? fetched.subList(0, size) : fetched;
+                String nextCursor = null;
+                if (hasNext) {
+                    E last = content.get(content.size() - 1);
+                    PersistentPropertyAccessor<E> accessor = entity.getPropertyAccessor(last);
+                    nextCursor = new KeysetCursor(sortBy, direction,
+                            (UUID) accessor.getProperty(idProperty),
+                            accessor.getProperty(sortProperty)).encode();
+                }
+                return CursorPageResponse.<D>builder()
+                        .content(content.stream().map(toDTO).toList())
+                        .size(content.size())
+                        .hasNext(hasNext)
+                        .nextCursor(nextCursor)
+                        .totalElements(result.getT2().orElse(null))
+                        .build();
+            });
+        });
+    }
+
+    /**
+     * Builds equality criteria from the non-null, non-JSON properties of an entity probe.
+     */
+    private Criteria filterCriteria(RelationalPersistentEntity<?> entity, Object probe) {
+        if (probe == null) {
+            return null;
+        }
+        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(probe);
+        Criteria criteria = null;
+        for (RelationalPersistentProperty property : entity) {
+            Object value = accessor.getProperty(property);
+            if (value != null && !JsonNode.class.isAssignableFrom(property.getType())) {
+                criteria = and(criteria, Criteria.where(property.getName()).is(value));
+            }
+        }
+        return criteria;
+    }
+
+    /**
+     * {@code sort >= v AND (sort > v OR (sort = v AND id > lastId))} for ascending order (mirrored for
+     * descending). The redundant leading range lets PostgreSQL start an index range scan at the cursor.
+     */
+    static Criteria seekCriteria(String sortBy, String idName, Sort.Direction direction, KeysetCursor cursor) {
+        Object value = cursor.sortValue();
+        if (direction.isAscending()) {
+            return Criteria.where(sortBy).greaterThanOrEquals(value)
+                    .and(Criteria.where(sortBy).greaterThan(value)
+                            .or(Criteria.where(sortBy).is(value).and(idName).greaterThan(cursor.id())));
+        }
+        return Criteria.where(sortBy).lessThanOrEquals(value)
+                .and(Criteria.where(sortBy).lessThan(value)
+                        .or(Criteria.where(sortBy).is(value).and(idName).lessThan(cursor.id())));
+    }
+
+    private static Criteria and(Criteria left, Criteria right) {
+        return left == null ? right : left.and(right);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.partitions;
+
+import com.firefly.core.contracts.core.services.ContractEventPartitionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Periodically maintains the monthly contract_event partitions.
+ * <p>
+ * Each run creates the partitions for the next {@code contracts.event-partitions.months-ahead} months, detaches
+ * the partitions older than {@code contracts.event-partitions.retention} into the {@code contract_archive} schema
+ * and, when {@code contracts.event-partitions.archive.directory} is set, exports each detached partition to a
+ * gzipped NDJSON file there and drops it. Without a directory detached partitions stay in the archive schema for
+ * an external job to pick up. Publishes:
+ * <ul>
+ *   <li>{@code contracts.event-partitions.created} – partitions created</li>
+ *   <li>{@code contracts.event-partitions.archived} – partitions detached, and exported partitions, tagged by
+ *       {@code stage} ({@code detached}, {@code exported})</li>
+ *   <li>{@code contracts.event-partitions.exported.events} – events written to export files</li>
+ *   <li>{@code contracts.event-partitions.run} – duration of each run</li>
+ *   <li>{@code contracts.event-partitions.failures} – runs that ended with an error</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "contracts.event-partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class ContractEventPartitionEngine {
+
+    @Autowired
+    private ContractEventPartitionService partitionService;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${contracts.event-partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${contracts.event-partitions.retention:P24M}")
+    private Period retention;
+
+    @Value("${contracts.event-partitions.archive.directory:}")
+    private String archiveDirectory;
+
+    private Counter partitionsCreated;
+
+    private Counter partitionsDetached;
+
+    private Counter partitionsExported;
+
+    private Counter eventsExported;
+
+    private Counter failures;
+
+    private Timer runTimer;
+
+    @PostConstruct
+    void init() {
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        partitionsCreated = Counter.builder("contracts.event-partitions.created")
+                .description("Contract event partitions created ahead of time").register(registry);
+        partitionsDetached = Counter.builder("contracts.event-partitions.archived").tag("stage", "detached")
+                .description("Contract event partitions detached into the archive schema").register(registry);
+        partitionsExported = Counter.builder("contracts.event-partitions.archived").tag("stage", "exported")
+                .description("Archived contract event partitions exported and dropped").register(registry);
+        eventsExported = Counter.builder("contracts.event-partitions.exported.events")
+                .description("Contract events written to partition exports").register(registry);
+        failures = Counter.builder("contracts.event-partitions.failures")
+                .description("Partition maintenance runs that ended with an error").register(registry);
+        runTimer = Timer.builder("contracts.event-partitions.run")
+                .description("Time spent maintaining contract event partitions").register(registry);
+    }
+
+    /**
+     * Runs one maintenance pass. Scheduled with a fixed delay, so the next pass starts only after this one completes.
+     *
+     * @return a Mono completing when the pass is done
+     */
+    @Scheduled(fixedDelayString = "${contracts.event-partitions.interval:PT6H}",
+            initialDelayString = "${contracts.event-partitions.initial-delay:PT1M}")
+    public Mono<Void> runMaintenance() {
+        return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start();
+                    LocalDate cutoff = LocalDate.now().minus(retention).withDayOfMonth(1);
+                    return partitionService.createPartitions(monthsAhead)
+                            .doOnNext(partitionsCreated::increment)
+                            .thenMany(partitionService.archivePartitionsBefore(cutoff))
+                            .doOnNext(partition -> partitionsDetached.increment())
+                            .then(exportArchived())
+                            .doFinally(signal -> sample.stop(runTimer));
+                })
+                .doOnError(error -> failures.increment());
+    }
+
+    private Mono<Void> exportArchived() {
+        if (archiveDirectory == null || archiveDirectory.isBlank()) {
+            return Mono.empty();
+        }
+        Path directory = Path.of(archiveDirectory);
+        return partitionService.findArchivedPartitions()
+                .collectList()
+                .flatMapIterable(partitions -> partitions)
+                .concatMap(partition -> partitionService.exportAndDropPartition(partition, directory))
+                .doOnNext(exported -> {
+                    partitionsExported.increment();
+                    eventsExported.increment(exported);
+                })
+                .then();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.routing;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Adds a read replica next to the primary configured in {@code spring.r2dbc.url}.
+ * <p>
+ * The connection factory bean is decorated with a {@link ReplicaRoutingConnectionFactory} backed by a separate
+ * pool on {@code contracts.read-replica.url}, and the R2DBC transaction manager is replaced by a
+ * {@link ReplicaRoutingTransactionManager}. Spring Boot's auto-configuration is left in charge of the primary, so
+ * the write path is configured and behaves exactly as without a replica. Enabled with
+ * {@code contracts.read-replica.enabled=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "contracts.read-replica.enabled", havingValue = "true")
+public class ReadReplicaPostProcessor implements BeanPostProcessor {
+
+    private final String url;
+
+    private final String username;
+
+    private final String password;
+
+    private final int initialSize;
+
+    private final int maxSize;
+
+    private final Duration maxIdleTime;
+
+    public ReadReplicaPostProcessor(@Value("${contracts.read-replica.url}") String url,
+                                    @Value("${contracts.read-replica.username:${spring.r2dbc.username:}}") String username,
+                                    @Value("${contracts.read-replica.password:${spring.r2dbc.password:}}") String password,
+                                    @Value("${contracts.read-replica.pool.initial-size:5}") int initialSize,
+                                    @Value("${contracts.read-replica.pool.max-size:20}") int maxSize,
+                                    @Value("${contracts.read-replica.pool.max-idle-time:PT30M}") Duration maxIdleTime) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.initialSize = initialSize;
+        this.maxSize = maxSize;
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConnectionFactory primary && !(bean instanceof ReplicaRoutingConnectionFactory)) {
+            log.info("Routing replica-eligible reads of connection factory '{}' to the read replica", beanName);
+            return new ReplicaRoutingConnectionFactory(primary, createReplicaPool());
+        }
+        if (bean instanceof R2dbcTransactionManager transactionManager
+                && !(bean instanceof ReplicaRoutingTransactionManager)) {
+            return new ReplicaRoutingTransactionManager(transactionManager.getConnectionFactory());
+        }
+        return bean;
+    }
+
+    private ConnectionFactory createReplicaPool() {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("replica")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .validationQuery("SELECT 1")
+                .build());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.routing;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Routing hints for the read replica, carried in the Reactor context down to the connection factory.
+ * <p>
+ * Reads opt in to the replica either by running in a transaction labelled {@link #REPLICA} (for
+ * {@code @Transactional} services) or through {@link #onReplica(Mono)} (for services reading outside a
+ * transaction). A request can pin everything it does to the primary with {@link #requirePrimary(Context)},
+ * which wins over any hint: the web layer does so for writes and for reads that must see a recent write.
+ * Without a configured replica the hints are ignored and all connections come from the primary.
+ */
+public final class ReadReplicaRouting {
+
+    /**
+     * Transaction label of read-only transactions that may run on the replica:
+     * {@code @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)}
+     */
+    public static final String REPLICA = "contracts:read-replica";
+
+    static final String PRIMARY_KEY = "primary";
+
+    static final String REPLICA_KEY = "replica";
+
+    private static final String PREFER_REPLICA = ReadReplicaRouting.class.getName() + ".replica";
+
+    private static final String REQUIRE_PRIMARY = ReadReplicaRouting.class.getName() + ".primary";
+
+    private ReadReplicaRouting() {
+    }
+
+    /**
+     * Lets the queries of {@code source} that run outside a transaction read from the replica.
+     */
+    public static <T> Mono<T> onReplica(Mono<T> source) {
+        return source.contextWrite(ReadReplicaRouting::preferReplica);
+    }
+
+    /**
+     * Lets the queries of {@code source} that run outside a transaction read from the replica.
+     */
+    public static <T> Flux<T> onReplica(Flux<T> source) {
+        return source.contextWrite(ReadReplicaRouting::preferReplica);
+    }
+
+    /**
+     * Marks the context as allowed to read from the replica.
+     */
+    public static Context preferReplica(Context context) {
+        return context.put(PREFER_REPLICA, Boolean.TRUE);
+    }
+
+    /**
+     * Marks the context as having to use the primary, whatever the hints further upstream.
+     */
+    public static Context requirePrimary(Context context) {
+        return context.put(REQUIRE_PRIMARY, Boolean.TRUE);
+    }
+
+    /**
+     * Returns the lookup key of the connection factory to use in {@code context}.
+     */
+    static String lookupKey(ContextView context) {
+        return context.hasKey(PREFER_REPLICA) && !context.hasKey(REQUIRE_PRIMARY) ? REPLICA_KEY : PRIMARY_KEY;
+    }
+
+    /**
+     * Tells whether a transaction is a read-only transaction labelled {@link #REPLICA}.
+     */
+    static boolean isReplicaTransaction(TransactionDefinition definition) {
+        return definition.isReadOnly()
+                && definition instanceof TransactionAttribute attribute
+                && attribute.getLabels().contains(REPLICA);
+    }
+}
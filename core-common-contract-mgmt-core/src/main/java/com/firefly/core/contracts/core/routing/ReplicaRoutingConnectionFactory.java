@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.routing;
+
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Connection factory handing out replica connections where {@link ReadReplicaRouting} allows it, and primary
+ * connections everywhere else.
+ * <p>
+ * Unwraps to the primary, so health checks and the pool metrics published by Spring Boot keep reporting on it,
+ * and forwards {@code dispose}/{@code close} to both pools so they are shut down with the context.
+ */
+class ReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory
+        implements Wrapped<ConnectionFactory>, Closeable, Disposable {
+
+    private final ConnectionFactory primary;
+
+    private final ConnectionFactory replica;
+
+    ReplicaRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetConnectionFactories(Map.of(ReadReplicaRouting.PRIMARY_KEY, primary, ReadReplicaRouting.REPLICA_KEY, replica));
+        setDefaultTargetConnectionFactory(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(ReadReplicaRouting.lookupKey(context)));
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return primary;
+    }
+
+    @Override
+    public Publisher<Void> close() {
+        return Mono.when(close(primary), close(replica));
+    }
+
+    @Override
+    public void dispose() {
+        dispose(primary);
+        dispose(replica);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return primary instanceof Disposable disposable && disposable.isDisposed();
+    }
+
+    private static Publisher<Void> close(ConnectionFactory connectionFactory) {
+        return connectionFactory instanceof Closeable closeable ? closeable.close() : Mono.empty();
+    }
+
+    private static void dispose(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services;
+
+import com.firefly.core.contracts.interfaces.dtos.ContractChangeDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Service interface for tailing the contract change stream.
+ */
+public interface ContractChangeStreamService {
+
+    /**
+     * Streams committed contract changes, in commit-safe order, and keeps streaming new changes as they are
+     * published. The stream does not complete on its own.
+     *
+     * @param after the position to resume after; the current end of the stream when {@code null}
+     * @param contractId restricts the stream to changes of this contract; all contracts when {@code null}
+     * @return a Flux emitting the changes
+     * @throws com.firefly.core.contracts.core.outbox.InvalidChangeStreamPositionException if {@code after} is not a
+     *         valid position; thrown on invocation, before the stream is opened
+     */
+    Flux<ContractChangeDTO> streamChanges(String after, UUID contractId);
+}
@@ -20,6 +20,8 @@ package com.firefly.core.contracts.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.interfaces.dtos.ContractDocumentDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,6 +36,35 @@ public interface ContractDocumentService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contract documents
      */
     Mono<PaginationResponse<ContractDocumentDTO>> filterContractDocuments(FilterRequest<ContractDocumentDTO> filterRequest);
+
+    /**
+     * Filters the contract documents using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contract documents
+     */
+    Mono<CursorPageResponse<ContractDocumentDTO>> filterContractDocumentsByCursor(CursorFilterRequest<ContractDocumentDTO> filterRequest);
+
+    /**
+     * Filters the documents of one contract; the contract ID is always part of the query, combined with the given criteria.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the request object containing additional filtering criteria for ContractDocumentDTO
+     * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list
+     */
+    Mono<PaginationResponse<ContractDocumentDTO>> filterContractDocuments(UUID contractId, FilterRequest<ContractDocumentDTO> filterRequest);
+
+    /**
+     * Filters the documents of one contract using keyset (seek) pagination; the contract ID is always part of the query.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the cursor request containing additional filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page
+     */
+    Mono<CursorPageResponse<ContractDocumentDTO>> filterContractDocumentsByCursor(UUID contractId, CursorFilterRequest<ContractDocumentDTO> filterRequest);
     
     /**
      * Creates a new contract document based on the provided information.
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Service interface for maintaining the monthly contract_event partitions.
+ * <p>
+ * Every call runs in its own transaction under an advisory lock, so the partition engine can run on every
+ * replica: a replica that finds the lock taken does nothing and leaves the work to the holder.
+ */
+public interface ContractEventPartitionService {
+
+    /**
+     * Creates the missing monthly partitions from the current month up to {@code monthsAhead} months ahead.
+     *
+     * @param monthsAhead the number of future months to cover
+     * @return a Mono emitting the number of partitions created; 0 when another replica holds the partition lock
+     */
+    Mono<Integer> createPartitions(int monthsAhead);
+
+    /**
+     * Detaches the monthly partitions that end on or before {@code beforeDate} and moves them to the
+     * {@code contract_archive} schema, where they no longer take part in queries or vacuum of contract_event.
+     *
+     * @param beforeDate the first day of the oldest month to keep
+     * @return a Flux emitting the names of the detached partitions; empty when another replica holds the partition lock
+     */
+    Flux<String> archivePartitionsBefore(LocalDate beforeDate);
+
+    /**
+     * Finds the detached partitions that are still waiting to be exported.
+     *
+     * @return a Flux emitting the partition names, oldest first
+     */
+    Flux<String> findArchivedPartitions();
+
+    /**
+     * Exports the events of a detached partition to {@code <partition>.ndjson.gz} in {@code directory}, one
+     * ContractEventDTO per line, and drops the partition. The file is written under a temporary name and moved
+     * into place once complete, so a file with the final name is always a full export.
+     *
+     * @param partitionName the detached partition to export
+     * @param directory the directory to write the export to
+     * @return a Mono emitting the number of exported events; empty when the partition is being exported by
+     *         another replica or no longer exists
+     */
+    Mono<Long> exportAndDropPartition(String partitionName, Path directory);
+}
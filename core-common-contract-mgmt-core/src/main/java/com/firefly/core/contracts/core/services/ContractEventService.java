@@ -20,6 +20,8 @@ package com.firefly.core.contracts.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.interfaces.dtos.ContractEventDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,6 +36,35 @@ public interface ContractEventService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contract events
      */
     Mono<PaginationResponse<ContractEventDTO>> filterContractEvents(FilterRequest<ContractEventDTO> filterRequest);
+
+    /**
+     * Filters the contract events using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contract events
+     */
+    Mono<CursorPageResponse<ContractEventDTO>> filterContractEventsByCursor(CursorFilterRequest<ContractEventDTO> filterRequest);
+
+    /**
+     * Filters the events of one contract; the contract ID is always part of the query, combined with the given criteria.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the request object containing additional filtering criteria for ContractEventDTO
+     * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list
+     */
+    Mono<PaginationResponse<ContractEventDTO>> filterContractEvents(UUID contractId, FilterRequest<ContractEventDTO> filterRequest);
+
+    /**
+     * Filters the events of one contract using keyset (seek) pagination; the contract ID is always part of the query.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the cursor request containing additional filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page
+     */
+    Mono<CursorPageResponse<ContractEventDTO>> filterContractEventsByCursor(UUID contractId, CursorFilterRequest<ContractEventDTO> filterRequest);
     
     /**
      * Creates a new contract event based on the provided information.
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for expiring contracts and terms that are past their end or expiration date.
+ * <p>
+ * Each call processes one bounded chunk in its own transaction. Chunks are claimed with
+ * {@code FOR UPDATE SKIP LOCKED} under a shared advisory lock, so the engine can run on every replica:
+ * a replica that finds the lock taken processes nothing and leaves the work to the holder.
+ */
+public interface ContractExpiryService {
+
+    /**
+     * Expires up to {@code chunkSize} active or suspended contracts whose end date is before {@code now}.
+     * For each one the open status history entry is closed, an EXPIRED status entry is opened, a
+     * CONTRACT_EXPIRED event is recorded and an outbox entry is appended, all in the same transaction.
+     *
+     * @param now the reference time
+     * @param chunkSize the maximum number of contracts to expire
+     * @return a Mono emitting the number of contracts expired; 0 when another replica holds the expiry lock
+     */
+    Mono<Long> expireContracts(LocalDateTime now, int chunkSize);
+
+    /**
+     * Deactivates up to {@code chunkSize} active terms whose expiration date is before {@code now}, appending an
+     * outbox entry for each.
+     *
+     * @param now the reference time
+     * @param chunkSize the maximum number of terms to deactivate
+     * @return a Mono emitting the number of terms deactivated; 0 when another replica holds the expiry lock
+     */
+    Mono<Long> expireTerms(LocalDateTime now, int chunkSize);
+
+    /**
+     * Finds the end date of the oldest contract still waiting to be expired.
+     *
+     * @param now the reference time
+     * @return a Mono emitting the end date, or empty if no contract is pending
+     */
+    Mono<LocalDateTime> findOldestPendingContractExpiry(LocalDateTime now);
+
+    /**
+     * Finds the expiration date of the oldest term still waiting to be deactivated.
+     *
+     * @param now the reference time
+     * @return a Mono emitting the expiration date, or empty if no term is pending
+     */
+    Mono<LocalDateTime> findOldestPendingTermExpiry(LocalDateTime now);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services;
+
+import com.firefly.core.contracts.interfaces.dtos.ContractExportRecordDTO;
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for streaming bulk exports of contracts.
+ */
+public interface ContractExportService {
+
+    /**
+     * Streams contracts ordered by ID, optionally with their active parties and effective terms inline.
+     * Rows are read through a server-side cursor and child rows are loaded per batch, so memory use is bounded
+     * by the fetch size regardless of how many contracts are exported.
+     *
+     * @param contractStatus restricts the export to contracts in this status; all contracts when {@code null}
+     * @param includeParties whether to include the active parties of each contract
+     * @param includeTerms whether to include the terms of each contract effective at {@code asOf}
+     * @param asOf the point in time used to resolve effective terms; now when {@code null}
+     * @param fetchSize the number of contracts fetched per round trip; the configured default when {@code null}
+     * @return a Flux emitting one record per contract
+     */
+    Flux<ContractExportRecordDTO> exportContracts(ContractStatusEnum contractStatus, boolean includeParties,
+                                                  boolean includeTerms, LocalDateTime asOf, Integer fetchSize);
+}
@@ -20,6 +20,10 @@ package com.firefly.core.contracts.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.interfaces.dtos.ContractPartyDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.dtos.PartyContractRefDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,6 +38,35 @@ public interface ContractPartyService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contract parties
      */
     Mono<PaginationResponse<ContractPartyDTO>> filterContractParties(FilterRequest<ContractPartyDTO> filterRequest);
+
+    /**
+     * Filters the contract parties using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contract parties
+     */
+    Mono<CursorPageResponse<ContractPartyDTO>> filterContractPartiesByCursor(CursorFilterRequest<ContractPartyDTO> filterRequest);
+
+    /**
+     * Filters the parties of one contract; the contract ID is always part of the query, combined with the given criteria.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the request object containing additional filtering criteria for ContractPartyDTO
+     * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list
+     */
+    Mono<PaginationResponse<ContractPartyDTO>> filterContractParties(UUID contractId, FilterRequest<ContractPartyDTO> filterRequest);
+
+    /**
+     * Filters the parties of one contract using keyset (seek) pagination; the contract ID is always part of the query.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the cursor request containing additional filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page
+     */
+    Mono<CursorPageResponse<ContractPartyDTO>> filterContractPartiesByCursor(UUID contractId, CursorFilterRequest<ContractPartyDTO> filterRequest);
     
     /**
      * Creates a new contract party based on the provided information.
@@ -68,4 +101,26 @@ public interface ContractPartyService {
      *         or an empty Mono if the contract party does not exist
      */
     Mono<ContractPartyDTO> getContractPartyById(UUID contractPartyId);
+
+    /**
+     * Lists the contracts a party participates in, served from the in-process party index.
+     *
+     * @param partyId the unique identifier of the party
+     * @param isActive the active flag to match, {@code null} for all participations
+     * @return a Flux emitting compact references to the party's contracts; empty if the party has none
+     */
+    Flux<PartyContractRefDTO> getPartyContractRefs(UUID partyId, Boolean isActive);
+
+    /**
+     * Returns a page of the contract parties of a party, oldest first, served from the in-process party index
+     * instead of the generic filter.
+     *
+     * @param partyId the unique identifier of the party
+     * @param isActive the active flag to match, or {@code null} for all participations
+     * @param pageNumber the zero-based page number
+     * @param pageSize the number of items per page, at least 1
+     * @return a Mono emitting the requested page in the same shape as {@link #filterContractParties(FilterRequest)}
+     */
+    Mono<PaginationResponse<ContractPartyDTO>> getContractPartiesByPartyId(UUID partyId, Boolean isActive,
+                                                                          int pageNumber, int pageSize);
 }
@@ -20,6 +20,9 @@ package com.firefly.core.contracts.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskDistributionDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,6 +37,35 @@ public interface ContractRiskAssessmentService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contract risk assessments
      */
     Mono<PaginationResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessments(FilterRequest<ContractRiskAssessmentDTO> filterRequest);
+
+    /**
+     * Filters the contract risk assessments using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contract risk assessments
+     */
+    Mono<CursorPageResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessmentsByCursor(CursorFilterRequest<ContractRiskAssessmentDTO> filterRequest);
+
+    /**
+     * Filters the risk assessments of one contract; the contract ID is always part of the query, combined with the given criteria.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the request object containing additional filtering criteria for ContractRiskAssessmentDTO
+     * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list
+     */
+    Mono<PaginationResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessments(UUID contractId, FilterRequest<ContractRiskAssessmentDTO> filterRequest);
+
+    /**
+     * Filters the risk assessments of one contract using keyset (seek) pagination; the contract ID is always part of the query.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the cursor request containing additional filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page
+     */
+    Mono<CursorPageResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessmentsByCursor(UUID contractId, CursorFilterRequest<ContractRiskAssessmentDTO> filterRequest);
     
     /**
      * Creates a new contract risk assessment based on the provided information.
@@ -68,4 +100,13 @@ public interface ContractRiskAssessmentService {
      *         or an empty Mono if the contract risk assessment does not exist
      */
     Mono<ContractRiskAssessmentDTO> getContractRiskAssessmentById(UUID contractRiskAssessmentId);
+
+    /**
+     * Returns the risk distribution of the active contracts and the contracts currently assessed HIGH or CRITICAL,
+     * read from the latest-assessment projection rather than the assessment history.
+     *
+     * @param highRiskLimit the maximum number of high-risk contracts to list; defaults to 100 when {@code null}
+     * @return a Mono emitting the current risk distribution
+     */
+    Mono<ContractRiskDistributionDTO> getRiskDistribution(Integer highRiskLimit);
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services;
+
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskBulkProgressDTO;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for ingesting large numbers of contract risk assessments, e.g. after a risk model change.
+ */
+public interface ContractRiskBulkIngestionService {
+
+    /**
+     * Writes a stream of risk assessments in batches.
+     * <p>
+     * Each batch is validated as a whole (including one query for the existence of all of its contracts),
+     * written with multi-row inserts and the latest-assessment projection refreshed, in its own transaction.
+     * Several batches are written concurrently. A batch that fails to write is reported as rejected without
+     * stopping the ingestion.
+     *
+     * @param assessments the assessments to write
+     * @param batchSize records per batch and transaction; defaults to {@code contracts.risk-ingestion.batch-size}
+     * @param concurrency batches written at the same time; defaults to {@code contracts.risk-ingestion.concurrency}
+     * @return a Flux emitting the progress after each batch, with the records that were not written
+     */
+    Flux<ContractRiskBulkProgressDTO> ingestRiskAssessments(Flux<ContractRiskAssessmentDTO> assessments,
+                                                            Integer batchSize, Integer concurrency);
+}
@@ -20,6 +20,10 @@ package com.firefly.core.contracts.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.interfaces.dtos.ContractDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusTransitionRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusTransitionResponseDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,9 +38,23 @@ public interface ContractService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contracts
      */
     Mono<PaginationResponse<ContractDTO>> filterContracts(FilterRequest<ContractDTO> filterRequest);
+
+    /**
+     * Filters the contracts using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contracts
+     */
+    Mono<CursorPageResponse<ContractDTO>> filterContractsByCursor(CursorFilterRequest<ContractDTO> filterRequest);
     
     /**
      * Creates a new contract based on the provided information.
+     * <p>
+     * Contracts created without a contract number get one allocated by the service, in the format configured
+     * for their product catalog.
      *
      * @param contractDTO the DTO object containing details of the contract to be created
      * @return a Mono that emits the created ContractDTO object
@@ -68,4 +86,26 @@ public interface ContractService {
      *         or an empty Mono if the contract does not exist
      */
     Mono<ContractDTO> getContractById(UUID contractId);
+
+    /**
+     * Retrieves a contract by its contract number.
+     * <p>
+     * The number is resolved to the contract ID through an in-process cache, so a repeated lookup costs a single
+     * primary-key read.
+     *
+     * @param contractNumber the contract number known to the channels
+     * @return a Mono emitting the {@link ContractDTO}, or an error if no contract has the number
+     */
+    Mono<ContractDTO> getContractByNumber(String contractNumber);
+
+    /**
+     * Moves a contract to a new status in one transaction: closes the open status history row,
+     * inserts the new one and updates the contract's status.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param request the new status code, optional contract status and effective date
+     * @param expectedVersion the contract version the caller last read, or {@code null} to skip the version check
+     * @return a Mono emitting the updated contract with its previous and current status rows
+     */
+    Mono<ContractStatusTransitionResponseDTO> transitionContractStatus(UUID contractId, ContractStatusTransitionRequestDTO request, Long expectedVersion);
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services;
+
+import com.firefly.core.contracts.interfaces.dtos.ContractSnapshotDTO;
+import com.firefly.core.contracts.interfaces.enums.ContractSnapshotSectionEnum;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service interface for reading aggregated contract snapshots.
+ */
+public interface ContractSnapshotService {
+
+    /**
+     * Retrieves a snapshot of a contract, loading the requested sections concurrently.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param sections the sections to include; all sections when {@code null} or empty
+     * @param asOf the point in time used to resolve effective terms; now when {@code null}
+     * @return a Mono emitting the contract snapshot, or erroring if the contract does not exist
+     */
+    Mono<ContractSnapshotDTO> getContractSnapshot(UUID contractId, Set<ContractSnapshotSectionEnum> sections, LocalDateTime asOf);
+}
@@ -19,7 +19,13 @@ package com.firefly.core.contracts.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsResponseDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermBulkUpsertRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermBulkUpsertResponseDTO;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,6 +40,35 @@ public interface ContractTermDynamicService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contract term dynamics
      */
     Mono<PaginationResponse<ContractTermDynamicDTO>> filterContractTermDynamics(FilterRequest<ContractTermDynamicDTO> filterRequest);
+
+    /**
+     * Filters the contract term dynamics using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contract term dynamics
+     */
+    Mono<CursorPageResponse<ContractTermDynamicDTO>> filterContractTermDynamicsByCursor(CursorFilterRequest<ContractTermDynamicDTO> filterRequest);
+
+    /**
+     * Filters the terms of one contract; the contract ID is always part of the query, combined with the given criteria.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the request object containing additional filtering criteria for ContractTermDynamicDTO
+     * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list
+     */
+    Mono<PaginationResponse<ContractTermDynamicDTO>> filterContractTermDynamics(UUID contractId, FilterRequest<ContractTermDynamicDTO> filterRequest);
+
+    /**
+     * Filters the terms of one contract using keyset (seek) pagination; the contract ID is always part of the query.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param filterRequest the cursor request containing additional filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page
+     */
+    Mono<CursorPageResponse<ContractTermDynamicDTO>> filterContractTermDynamicsByCursor(UUID contractId, CursorFilterRequest<ContractTermDynamicDTO> filterRequest);
     
     /**
      * Creates a new contract term dynamic based on the provided information.
@@ -43,6 +78,20 @@ public interface ContractTermDynamicService {
      */
     Mono<ContractTermDynamicDTO> createContractTermDynamic(ContractTermDynamicDTO contractTermDynamicDTO);
     
+    /**
+     * Creates or updates many contract term dynamics of one contract in a single transaction.
+     * <p>
+     * All terms are validated together; terms matching an existing term of the contract by template and
+     * effective date are updated, the rest are inserted, using batched multi-row statements. Updates are not
+     * version-checked: the contract is locked for the duration of the write and matched terms are overwritten
+     * whatever their version, which is still incremented.
+     *
+     * @param contractId the unique identifier of the contract the terms belong to
+     * @param request the terms to write and whether the request is all-or-nothing
+     * @return a Mono emitting the per-term results in request order
+     */
+    Mono<ContractTermBulkUpsertResponseDTO> bulkUpsertContractTermDynamics(UUID contractId, ContractTermBulkUpsertRequestDTO request);
+
     /**
      * Updates an existing contract term dynamic with updated information.
      *
@@ -60,6 +109,19 @@ public interface ContractTermDynamicService {
      */
     Mono<Void> deleteContractTermDynamic(UUID termId);
     
+    /**
+     * Resolves the terms of a contract that were effective at each of the given points in time.
+     * <p>
+     * The contract's active terms are loaded once (or taken from a short-lived per-contract cache) into an
+     * interval index, and every point in time is answered from memory, so a whole payment schedule costs a
+     * single query.
+     *
+     * @param contractId the unique identifier of the contract
+     * @param request the points in time to resolve
+     * @return a Mono emitting the effective terms per point in time, in request order
+     */
+    Mono<ContractEffectiveTermsResponseDTO> getEffectiveTermsAt(UUID contractId, ContractEffectiveTermsRequestDTO request);
+
     /**
      * Retrieves a contract term dynamic by its unique identifier.
      *
@@ -20,6 +20,10 @@ package com.firefly.core.contracts.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermTemplateDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.TermCategoryEnum;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,6 +38,17 @@ public interface ContractTermTemplateService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contract term templates
      */
     Mono<PaginationResponse<ContractTermTemplateDTO>> filterContractTermTemplates(FilterRequest<ContractTermTemplateDTO> filterRequest);
+
+    /**
+     * Filters the contract term templates using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contract term templates
+     */
+    Mono<CursorPageResponse<ContractTermTemplateDTO>> filterContractTermTemplatesByCursor(CursorFilterRequest<ContractTermTemplateDTO> filterRequest);
     
     /**
      * Creates a new contract term template based on the provided information.
@@ -68,4 +83,28 @@ public interface ContractTermTemplateService {
      *         or an empty Mono if the contract term template does not exist
      */
     Mono<ContractTermTemplateDTO> getContractTermTemplateById(UUID termTemplateId);
+
+    /**
+     * Retrieves a contract term template by its unique code.
+     *
+     * @param code the unique code of the contract term template to retrieve
+     * @return a Mono emitting the {@link ContractTermTemplateDTO} if found,
+     *         or an error if the contract term template does not exist
+     */
+    Mono<ContractTermTemplateDTO> getContractTermTemplateByCode(String code);
+
+    /**
+     * Retrieves the active contract term templates of a category.
+     *
+     * @param termCategory the term category
+     * @return a Flux emitting the active contract term templates of the category
+     */
+    Flux<ContractTermTemplateDTO> getActiveContractTermTemplatesByCategory(TermCategoryEnum termCategory);
+
+    /**
+     * Retrieves the active contract term templates that are required on every contract.
+     *
+     * @return a Flux emitting the active, required contract term templates
+     */
+    Flux<ContractTermTemplateDTO> getActiveRequiredContractTermTemplates();
 }
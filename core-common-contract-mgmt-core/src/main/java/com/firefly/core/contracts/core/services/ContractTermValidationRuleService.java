@@ -20,6 +20,8 @@ package com.firefly.core.contracts.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermValidationRuleDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -34,6 +36,35 @@ public interface ContractTermValidationRuleService {
      * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list of contract term validation rules
      */
     Mono<PaginationResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRules(FilterRequest<ContractTermValidationRuleDTO> filterRequest);
+
+    /**
+     * Filters the contract term validation rules using keyset (seek) pagination.
+     * <p>
+     * Pages are fetched by seeking past the previous page's cursor instead of skipping an offset,
+     * and the total count is only computed when requested.
+     *
+     * @param filterRequest the cursor request containing filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page of contract term validation rules
+     */
+    Mono<CursorPageResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRulesByCursor(CursorFilterRequest<ContractTermValidationRuleDTO> filterRequest);
+
+    /**
+     * Filters the validation rules of one term template; the term template ID is always part of the query, combined with the given criteria.
+     *
+     * @param termTemplateId the unique identifier of the term template
+     * @param filterRequest the request object containing additional filtering criteria for ContractTermValidationRuleDTO
+     * @return a reactive {@code Mono} emitting a {@code PaginationResponse} containing the filtered list
+     */
+    Mono<PaginationResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRules(UUID termTemplateId, FilterRequest<ContractTermValidationRuleDTO> filterRequest);
+
+    /**
+     * Filters the validation rules of one term template using keyset (seek) pagination; the term template ID is always part of the query.
+     *
+     * @param termTemplateId the unique identifier of the term template
+     * @param filterRequest the cursor request containing additional filtering criteria, sort and continuation token
+     * @return a reactive {@code Mono} emitting a {@code CursorPageResponse} with the page
+     */
+    Mono<CursorPageResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRulesByCursor(UUID termTemplateId, CursorFilterRequest<ContractTermValidationRuleDTO> filterRequest);
     
     /**
      * Creates a new contract term validation rule based on the provided information.
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services.impl;
+
+import com.firefly.core.contracts.core.outbox.OutboxPosition;
+import com.firefly.core.contracts.core.services.ContractChangeStreamService;
+import com.firefly.core.contracts.interfaces.dtos.ContractChangeDTO;
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
+import com.firefly.core.contracts.models.repositories.ContractOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tails the contract outbox.
+ * <p>
+ * Each subscriber keeps its own position and reads the outbox in batches: full batches are followed by the next
+ * one immediately, so a consumer catching up is limited only by how fast it reads, and once it has caught up
+ * the outbox is polled every {@code contracts.outbox.poll-interval}. A poll is a single index range scan from
+ * the subscriber's position.
+ */
+@Service
+public class ContractChangeStreamServiceImpl implements ContractChangeStreamService {
+
+    @Autowired
+    private ContractOutboxRepository repository;
+
+    @Value("${contracts.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${contracts.outbox.poll-interval:PT0.5S}")
+    private Duration pollInterval;
+
+    @Override
+    public Flux<ContractChangeDTO> streamChanges(String after, UUID contractId) {
+        // parsed eagerly so that a malformed position fails the request instead of the already opened stream
+        Mono<OutboxPosition> start = after != null && !after.isBlank()
+                ? Mono.just(OutboxPosition.parse(after))
+                : repository.findLastPublished().map(OutboxPosition::of).defaultIfEmpty(OutboxPosition.START);
+
+        return start.flatMapMany(initial -> {
+            AtomicReference<OutboxPosition> position = new AtomicReference<>(initial);
+            Mono<List<ContractOutboxEntry>> poll = Mono.defer(() -> {
+                        OutboxPosition from = position.get();
+                        return repository.findPublishedAfter(from.transactionId(), from.outboxId(), contractId, batchSize)
+                                .collectList();
+                    })
+                    .doOnNext(batch -> {
+                        if (!batch.isEmpty()) {
+                            position.set(OutboxPosition.of(batch.get(batch.size() - 1)));
+                        }
+                    });
+            return poll
+                    .expand(batch -> batch.size() < batchSize ? Mono.delay(pollInterval).then(poll) : poll)
+                    .concatMapIterable(batch -> batch)
+                    .map(ContractChangeStreamServiceImpl::toDTO);
+        });
+    }
+
+    private static ContractChangeDTO toDTO(ContractOutboxEntry entry) {
+        return ContractChangeDTO.builder()
+                .position(OutboxPosition.of(entry).toString())
+                .aggregateType(entry.getAggregateType())
+                .aggregateId(entry.getAggregateId())
+                .contractId(entry.getContractId())
+                .changeType(entry.getChangeType())
+                .payload(entry.getPayload())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+}
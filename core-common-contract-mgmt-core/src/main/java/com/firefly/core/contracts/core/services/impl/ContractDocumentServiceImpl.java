@@ -21,27 +21,39 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.core.mappers.ContractDocumentMapper;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractDocumentService;
+import com.firefly.core.contracts.core.support.ScopedFilters;
 import com.firefly.core.contracts.interfaces.dtos.ContractDocumentDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.contracts.models.entities.ContractDocument;
 import com.firefly.core.contracts.models.repositories.ContractDocumentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractDocumentServiceImpl implements ContractDocumentService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt");
+
     @Autowired
     private ContractDocumentRepository repository;
 
     @Autowired
     private ContractDocumentMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractDocumentDTO>> filterContractDocuments(FilterRequest<ContractDocumentDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,6 +63,30 @@ public class ContractDocumentServiceImpl implements ContractDocumentService {
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractDocumentDTO>> filterContractDocumentsByCursor(CursorFilterRequest<ContractDocumentDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractDocument.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<PaginationResponse<ContractDocumentDTO>> filterContractDocuments(UUID contractId, FilterRequest<ContractDocumentDTO> filterRequest) {
+        return filterContractDocuments(ScopedFilters.scope(filterRequest, contractId, ContractDocumentDTO::new, ContractDocumentDTO::setContractId));
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractDocumentDTO>> filterContractDocumentsByCursor(UUID contractId, CursorFilterRequest<ContractDocumentDTO> filterRequest) {
+        return filterContractDocumentsByCursor(ScopedFilters.scope(filterRequest, contractId, ContractDocumentDTO::new, ContractDocumentDTO::setContractId));
+    }
+
     @Override
     public Mono<ContractDocumentDTO> createContractDocument(ContractDocumentDTO contractDocumentDTO) {
         return Mono.just(contractDocumentDTO)
@@ -61,24 +97,23 @@ public class ContractDocumentServiceImpl implements ContractDocumentService {
 
     @Override
     public Mono<ContractDocumentDTO> updateContractDocument(UUID contractDocumentId, ContractDocumentDTO contractDocumentDTO) {
-        return repository.findById(contractDocumentId)
+        ContractDocument updatedDocument = mapper.toEntity(contractDocumentDTO);
+        updatedDocument.setContractDocumentId(contractDocumentId);
+        return repository.updateExisting(updatedDocument)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract document not found with ID: " + contractDocumentId)))
-                .flatMap(existingDocument -> {
-                    ContractDocument updatedDocument = mapper.toEntity(contractDocumentDTO);
-                    updatedDocument.setContractDocumentId(contractDocumentId);
-                    return repository.save(updatedDocument);
-                })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteContractDocument(UUID contractDocumentId) {
-        return repository.findById(contractDocumentId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Contract document not found with ID: " + contractDocumentId)))
-                .flatMap(document -> repository.deleteById(contractDocumentId));
+        return repository.deleteByIdReturningCount(contractDocumentId)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(new RuntimeException("Contract document not found with ID: " + contractDocumentId))
+                        : Mono.empty());
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractDocumentDTO> getContractDocumentById(UUID contractDocumentId) {
         return repository.findById(contractDocumentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract document not found with ID: " + contractDocumentId)))
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.contracts.core.mappers.ContractEventMapper;
+import com.firefly.core.contracts.core.services.ContractEventPartitionService;
+import com.firefly.core.contracts.models.repositories.ContractEventRepository;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementation of {@link ContractEventPartitionService} on top of the partition functions installed in V15.
+ * <p>
+ * Exports stream the partition through a server-side cursor and write on a bounded elastic thread, so an export
+ * holds one fetch batch in memory regardless of the partition size.
+ */
+@Service
+@Transactional
+public class ContractEventPartitionServiceImpl implements ContractEventPartitionService {
+
+    static final String PARTITION_LOCK = "contract-event-partitions";
+
+    static final String EXPORT_SUFFIX = ".ndjson.gz";
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractEventRepository eventRepository;
+
+    @Autowired
+    private ContractEventMapper mapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${contracts.event-partitions.archive.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public Mono<Integer> createPartitions(int monthsAhead) {
+        return contractRepository.tryAdvisoryTransactionLock(PARTITION_LOCK)
+                .flatMap(locked -> !locked ? Mono.just(0) : eventRepository.createEventPartitions(monthsAhead));
+    }
+
+    @Override
+    public Flux<String> archivePartitionsBefore(LocalDate beforeDate) {
+        return contractRepository.tryAdvisoryTransactionLock(PARTITION_LOCK)
+                .flatMapMany(locked -> !locked ? Flux.empty() : eventRepository.archiveEventPartitionsBefore(beforeDate));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<String> findArchivedPartitions() {
+        return eventRepository.findArchivedEventPartitions();
+    }
+
+    @Override
+    public Mono<Long> exportAndDropPartition(String partitionName, Path directory) {
+        return contractRepository.tryAdvisoryTransactionLock(PARTITION_LOCK + ":" + partitionName)
+                .filter(Boolean::booleanValue)
+                .flatMap(locked -> eventRepository.findArchivedEventPartitions().any(partitionName::equals))
+                .filter(Boolean::booleanValue)
+                .flatMap(exists -> export(partitionName, directory))
+                .flatMap(exported -> eventRepository.dropArchivedEventPartition(partitionName).thenReturn(exported));
+    }
+
+    private Mono<Long> export(String partitionName, Path directory) {
+        Path target = directory.resolve(partitionName + EXPORT_SUFFIX);
+        Path temporary = directory.resolve(partitionName + EXPORT_SUFFIX + ".tmp");
+        return Mono.using(
+                        () -> openWriter(directory, temporary),
+                        writer -> eventRepository.streamArchivedEventPartition(partitionName, fetchSize)
+                                .map(mapper::toDTO)
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(event -> writeLine(writer, event))
+                                .count()
+                                .doOnNext(exported -> close(writer)),
+                        ContractEventPartitionServiceImpl::closeQuietly)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnError(error -> deleteQuietly(temporary))
+                .flatMap(exported -> Mono.fromCallable(() -> Files.move(temporary, target,
+                                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(exported));
+    }
+
+    private static BufferedWriter openWriter(Path directory, Path file) throws IOException {
+        Files.createDirectories(directory);
+        return new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8));
+    }
+
+    private void writeLine(BufferedWriter writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void close(BufferedWriter writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(BufferedWriter writer) {
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // the export has already failed, or the writer was closed when it completed
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // a leftover temporary file is overwritten by the next attempt
+        }
+    }
+}
@@ -21,27 +21,45 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.core.mappers.ContractEventMapper;
+import com.firefly.core.contracts.core.outbox.ContractOutbox;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractEventService;
+import com.firefly.core.contracts.core.support.ScopedFilters;
 import com.firefly.core.contracts.interfaces.dtos.ContractEventDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
 import com.firefly.core.contracts.models.entities.ContractEvent;
 import com.firefly.core.contracts.models.repositories.ContractEventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractEventServiceImpl implements ContractEventService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "eventDate");
+
     @Autowired
     private ContractEventRepository repository;
 
     @Autowired
     private ContractEventMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractOutbox outbox;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractEventDTO>> filterContractEvents(FilterRequest<ContractEventDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,34 +69,61 @@ public class ContractEventServiceImpl implements ContractEventService {
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractEventDTO>> filterContractEventsByCursor(CursorFilterRequest<ContractEventDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractEvent.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<PaginationResponse<ContractEventDTO>> filterContractEvents(UUID contractId, FilterRequest<ContractEventDTO> filterRequest) {
+        return filterContractEvents(ScopedFilters.scope(filterRequest, contractId, ContractEventDTO::new, ContractEventDTO::setContractId));
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractEventDTO>> filterContractEventsByCursor(UUID contractId, CursorFilterRequest<ContractEventDTO> filterRequest) {
+        return filterContractEventsByCursor(ScopedFilters.scope(filterRequest, contractId, ContractEventDTO::new, ContractEventDTO::setContractId));
+    }
+
     @Override
     public Mono<ContractEventDTO> createContractEvent(ContractEventDTO contractEventDTO) {
         return Mono.just(contractEventDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(ContractChangeAggregateEnum.CONTRACT_EVENT, created.getContractEventId(),
+                        created.getContractId(), ContractChangeTypeEnum.CREATED, created).thenReturn(created));
     }
 
     @Override
     public Mono<ContractEventDTO> updateContractEvent(UUID contractEventId, ContractEventDTO contractEventDTO) {
-        return repository.findById(contractEventId)
+        ContractEvent updatedEvent = mapper.toEntity(contractEventDTO);
+        updatedEvent.setContractEventId(contractEventId);
+        return repository.updateExisting(updatedEvent)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract event not found with ID: " + contractEventId)))
-                .flatMap(existingEvent -> {
-                    ContractEvent updatedEvent = mapper.toEntity(contractEventDTO);
-                    updatedEvent.setContractEventId(contractEventId);
-                    return repository.save(updatedEvent);
-                })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(ContractChangeAggregateEnum.CONTRACT_EVENT, contractEventId,
+                        updated.getContractId(), ContractChangeTypeEnum.UPDATED, updated).thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteContractEvent(UUID contractEventId) {
-        return repository.findById(contractEventId)
+        return repository.deleteByIdReturning(contractEventId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract event not found with ID: " + contractEventId)))
-                .flatMap(event -> repository.deleteById(contractEventId));
+                .flatMap(deleted -> outbox.append(ContractChangeAggregateEnum.CONTRACT_EVENT, contractEventId,
+                        deleted.getContractId(), ContractChangeTypeEnum.DELETED, mapper.toDTO(deleted)));
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractEventDTO> getContractEventById(UUID contractEventId) {
         return repository.findById(contractEventId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract event not found with ID: " + contractEventId)))
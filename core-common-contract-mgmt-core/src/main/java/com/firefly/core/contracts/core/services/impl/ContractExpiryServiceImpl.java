@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services.impl;
+
+import com.firefly.core.contracts.core.cache.EffectiveTermIndexCache;
+import com.firefly.core.contracts.core.services.ContractExpiryService;
+import com.firefly.core.contracts.models.repositories.ContractEventRepository;
+import com.firefly.core.contracts.models.repositories.ContractOutboxRepository;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.firefly.core.contracts.models.repositories.ContractStatusHistoryRepository;
+import com.firefly.core.contracts.models.repositories.ContractTermDynamicRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Set-based implementation of {@link ContractExpiryService}: a chunk of contracts costs five statements
+ * (expire, close statuses, open statuses, record events, append outbox entries) regardless of its size.
+ */
+@Service
+@Transactional
+public class ContractExpiryServiceImpl implements ContractExpiryService {
+
+    static final String EXPIRY_LOCK = "contract-expiry";
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private ContractEventRepository eventRepository;
+
+    @Autowired
+    private ContractTermDynamicRepository termRepository;
+
+    @Autowired
+    private ContractOutboxRepository outboxRepository;
+
+    @Autowired
+    private EffectiveTermIndexCache effectiveTermIndexCache;
+
+    @Override
+    public Mono<Long> expireContracts(LocalDateTime now, int chunkSize) {
+        return contractRepository.tryAdvisoryTransactionLock(EXPIRY_LOCK)
+                .flatMap(locked -> !locked ? Mono.just(0L) : contractRepository.expireContractsEndedBefore(now, chunkSize)
+                        .collectList()
+                        .flatMap(contractIds -> contractIds.isEmpty() ? Mono.just(0L)
+                                : statusHistoryRepository.closeCurrentStatusesAtContractEnd(contractIds, now)
+                                        .then(statusHistoryRepository.insertExpiredStatuses(contractIds, now))
+                                        .then(eventRepository.insertContractExpiredEvents(contractIds, now))
+                                        .then(outboxRepository.appendContractsExpired(contractIds))
+                                        .thenReturn((long) contractIds.size())));
+    }
+
+    @Override
+    public Mono<Long> expireTerms(LocalDateTime now, int chunkSize) {
+        return contractRepository.tryAdvisoryTransactionLock(EXPIRY_LOCK)
+                .flatMap(locked -> !locked ? Mono.just(0L) : termRepository.deactivateExpiredTerms(now, chunkSize)
+                        .collectList()
+                        .flatMap(contractIds -> contractIds.isEmpty() ? Mono.just(0L)
+                                : effectiveTermIndexCache.evict(contractIds.stream().distinct().toArray(UUID[]::new))
+                                        .thenReturn((long) contractIds.size())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<LocalDateTime> findOldestPendingContractExpiry(LocalDateTime now) {
+        return contractRepository.findOldestPendingExpiry(now);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<LocalDateTime> findOldestPendingTermExpiry(LocalDateTime now) {
+        return termRepository.findOldestPendingTermExpiry(now);
+    }
+}
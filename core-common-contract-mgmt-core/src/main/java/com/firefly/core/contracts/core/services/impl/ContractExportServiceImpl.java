@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services.impl;
+
+import com.firefly.core.contracts.core.mappers.ContractMapper;
+import com.firefly.core.contracts.core.mappers.ContractPartyMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
+import com.firefly.core.contracts.core.services.ContractExportService;
+import com.firefly.core.contracts.interfaces.dtos.ContractExportRecordDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractPartyDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import com.firefly.core.contracts.models.entities.Contract;
+import com.firefly.core.contracts.models.entities.ContractParty;
+import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import com.firefly.core.contracts.models.repositories.ContractPartyRepository;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.firefly.core.contracts.models.repositories.ContractTermDynamicRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Streams contract exports from a server-side cursor.
+ * <p>
+ * Contracts are grouped into batches of the fetch size and the parties and terms of a whole batch are read
+ * with one query each, instead of two queries per contract. Batches are processed one at a time, so at most
+ * one batch of contracts and its children is held in memory, and a slow client stops the cursor from
+ * fetching further rows. Like the snapshot service this is not {@code @Transactional}: the cursor keeps
+ * its own connection while the child queries run on others. All of them may read from the read replica,
+ * when one is configured.
+ */
+@Service
+public class ContractExportServiceImpl implements ContractExportService {
+
+    static final int MAX_FETCH_SIZE = 10_000;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractPartyRepository partyRepository;
+
+    @Autowired
+    private ContractTermDynamicRepository termRepository;
+
+    @Autowired
+    private ContractMapper contractMapper;
+
+    @Autowired
+    private ContractPartyMapper partyMapper;
+
+    @Autowired
+    private ContractTermDynamicMapper termMapper;
+
+    @Value("${contracts.export.fetch-size:500}")
+    private int defaultFetchSize;
+
+    @Override
+    public Flux<ContractExportRecordDTO> exportContracts(ContractStatusEnum contractStatus, boolean includeParties,
+                                                         boolean includeTerms, LocalDateTime asOf, Integer fetchSize) {
+        int batchSize = fetchSize == null ? defaultFetchSize : Math.max(1, Math.min(fetchSize, MAX_FETCH_SIZE));
+        Flux<Contract> contracts = contractRepository.streamContracts(contractStatus, batchSize);
+        if (!includeParties && !includeTerms) {
+            return ReadReplicaRouting.onReplica(contracts.map(contract -> ContractExportRecordDTO.builder()
+                    .contract(contractMapper.toDTO(contract))
+                    .build()));
+        }
+        LocalDateTime effectiveAt = asOf != null ? asOf : LocalDateTime.now();
+        return ReadReplicaRouting.onReplica(contracts
+                .buffer(batchSize)
+                .concatMap(batch -> exportBatch(batch, includeParties, includeTerms, effectiveAt), 1));
+    }
+
+    private Flux<ContractExportRecordDTO> exportBatch(List<Contract> batch, boolean includeParties,
+                                                      boolean includeTerms, LocalDateTime effectiveAt) {
+        List<UUID> contractIds = new ArrayList<>(batch.size());
+        for (Contract contract : batch) {
+            contractIds.add(contract.getContractId());
+        }
+
+        Mono<Map<UUID, Collection<ContractPartyDTO>>> parties = includeParties
+                ? partyRepository.findByContractIdInAndIsActive(contractIds, true)
+                        .collectMultimap(ContractParty::getContractId, partyMapper::toDTO)
+                : Mono.just(Map.of());
+        Mono<Map<UUID, Collection<ContractTermDynamicDTO>>> terms = includeTerms
+                ? termRepository.findEffectiveTermsByContractIdsAndDate(contractIds, effectiveAt)
+                        .collectMultimap(ContractTermDynamic::getContractId, termMapper::toDTO)
+                : Mono.just(Map.of());
+
+        return Mono.zip(parties, terms)
+                .flatMapIterable(tuple -> {
+                    List<ContractExportRecordDTO> records = new ArrayList<>(batch.size());
+                    for (Contract contract : batch) {
+                        records.add(ContractExportRecordDTO.builder()
+                                .contract(contractMapper.toDTO(contract))
+                                .parties(includeParties ? children(tuple.getT1(), contract.getContractId()) : null)
+                                .terms(includeTerms ? children(tuple.getT2(), contract.getContractId()) : null)
+                                .build());
+                    }
+                    return records;
+                });
+    }
+
+    private static <T> List<T> children(Map<UUID, Collection<T>> byContract, UUID contractId) {
+        Collection<T> children = byContract.get(contractId);
+        return children == null ? List.of() : new ArrayList<>(children);
+    }
+}
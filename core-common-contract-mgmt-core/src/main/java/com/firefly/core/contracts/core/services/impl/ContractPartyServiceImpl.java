@@ -20,28 +20,52 @@ package com.firefly.core.contracts.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.cache.ContractPartyIndexCache;
 import com.firefly.core.contracts.core.mappers.ContractPartyMapper;
+import com.firefly.core.contracts.core.outbox.ContractOutbox;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractPartyService;
+import com.firefly.core.contracts.core.support.ScopedFilters;
 import com.firefly.core.contracts.interfaces.dtos.ContractPartyDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.dtos.PartyContractRefDTO;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
 import com.firefly.core.contracts.models.entities.ContractParty;
 import com.firefly.core.contracts.models.repositories.ContractPartyRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractPartyServiceImpl implements ContractPartyService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt");
+
     @Autowired
     private ContractPartyRepository repository;
 
     @Autowired
     private ContractPartyMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractPartyIndexCache partyIndexCache;
+
+    @Autowired
+    private ContractOutbox outbox;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractPartyDTO>> filterContractParties(FilterRequest<ContractPartyDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,37 +75,91 @@ public class ContractPartyServiceImpl implements ContractPartyService {
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractPartyDTO>> filterContractPartiesByCursor(CursorFilterRequest<ContractPartyDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractParty.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<PaginationResponse<ContractPartyDTO>> filterContractParties(UUID contractId, FilterRequest<ContractPartyDTO> filterRequest) {
+        return filterContractParties(ScopedFilters.scope(filterRequest, contractId, ContractPartyDTO::new, ContractPartyDTO::setContractId));
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractPartyDTO>> filterContractPartiesByCursor(UUID contractId, CursorFilterRequest<ContractPartyDTO> filterRequest) {
+        return filterContractPartiesByCursor(ScopedFilters.scope(filterRequest, contractId, ContractPartyDTO::new, ContractPartyDTO::setContractId));
+    }
+
     @Override
     public Mono<ContractPartyDTO> createContractParty(ContractPartyDTO contractPartyDTO) {
         return Mono.just(contractPartyDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
-                .map(mapper::toDTO);
+                .flatMap(savedParty -> partyIndexCache.evict(savedParty.getPartyId()).thenReturn(savedParty))
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(ContractChangeAggregateEnum.CONTRACT_PARTY, created.getContractPartyId(),
+                        created.getContractId(), ContractChangeTypeEnum.CREATED, created).thenReturn(created));
     }
 
     @Override
     public Mono<ContractPartyDTO> updateContractParty(UUID contractPartyId, ContractPartyDTO contractPartyDTO) {
-        return repository.findById(contractPartyId)
+        ContractParty updatedParty = mapper.toEntity(contractPartyDTO);
+        updatedParty.setContractPartyId(contractPartyId);
+        return repository.lockPartyIdByContractPartyId(contractPartyId)
+                .flatMap(previousPartyId -> repository.updateExisting(updatedParty)
+                        .flatMap(savedParty -> partyIndexCache.evict(previousPartyId, savedParty.getPartyId())
+                                .thenReturn(savedParty)))
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract party not found with ID: " + contractPartyId)))
-                .flatMap(existingParty -> {
-                    ContractParty updatedParty = mapper.toEntity(contractPartyDTO);
-                    updatedParty.setContractPartyId(contractPartyId);
-                    return repository.save(updatedParty);
-                })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(ContractChangeAggregateEnum.CONTRACT_PARTY, contractPartyId,
+                        updated.getContractId(), ContractChangeTypeEnum.UPDATED, updated).thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteContractParty(UUID contractPartyId) {
-        return repository.findById(contractPartyId)
+        return repository.deleteByIdReturning(contractPartyId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract party not found with ID: " + contractPartyId)))
-                .flatMap(party -> repository.deleteById(contractPartyId));
+                .flatMap(party -> outbox.append(ContractChangeAggregateEnum.CONTRACT_PARTY, contractPartyId,
+                                party.getContractId(), ContractChangeTypeEnum.DELETED, mapper.toDTO(party))
+                        .then(partyIndexCache.evict(party.getPartyId())));
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractPartyDTO> getContractPartyById(UUID contractPartyId) {
         return repository.findById(contractPartyId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract party not found with ID: " + contractPartyId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    public Flux<PartyContractRefDTO> getPartyContractRefs(UUID partyId, Boolean isActive) {
+        return partyIndexCache.getByPartyId(partyId, isActive)
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    @Override
+    public Mono<PaginationResponse<ContractPartyDTO>> getContractPartiesByPartyId(UUID partyId, Boolean isActive,
+                                                                                 int pageNumber, int pageSize) {
+        return partyIndexCache.getPartiesByPartyId(partyId, isActive)
+                .map(parties -> {
+                    int from = (int) Math.min((long) pageNumber * pageSize, parties.size());
+                    int to = (int) Math.min((long) from + pageSize, parties.size());
+                    return PaginationResponse.<ContractPartyDTO>builder()
+                            .content(parties.subList(from, to).stream().map(mapper::toDTO).toList())
+                            .totalElements(parties.size())
+                            .totalPages((parties.size() + pageSize - 1) / pageSize)
+                            .currentPage(pageNumber)
+                            .build();
+                });
+    }
 }
@@ -20,28 +20,58 @@ package com.firefly.core.contracts.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.mappers.ContractLatestRiskAssessmentMapper;
 import com.firefly.core.contracts.core.mappers.ContractRiskAssessmentMapper;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractRiskAssessmentService;
+import com.firefly.core.contracts.core.support.ScopedFilters;
+import com.firefly.core.contracts.interfaces.dtos.ContractLatestRiskAssessmentDTO;
 import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskDistributionDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.RiskLevelEnum;
 import com.firefly.core.contracts.models.entities.ContractRiskAssessment;
+import com.firefly.core.contracts.models.repositories.ContractLatestRiskAssessmentRepository;
 import com.firefly.core.contracts.models.repositories.ContractRiskAssessmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractRiskAssessmentServiceImpl implements ContractRiskAssessmentService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "assessmentDate");
+
+    static final int DEFAULT_HIGH_RISK_LIMIT = 100;
+
+    static final int MAX_HIGH_RISK_LIMIT = 1000;
+
     @Autowired
     private ContractRiskAssessmentRepository repository;
 
     @Autowired
     private ContractRiskAssessmentMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractLatestRiskAssessmentRepository latestRepository;
+
+    @Autowired
+    private ContractLatestRiskAssessmentMapper latestMapper;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessments(FilterRequest<ContractRiskAssessmentDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,37 +81,91 @@ public class ContractRiskAssessmentServiceImpl implements ContractRiskAssessment
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessmentsByCursor(CursorFilterRequest<ContractRiskAssessmentDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractRiskAssessment.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<PaginationResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessments(UUID contractId, FilterRequest<ContractRiskAssessmentDTO> filterRequest) {
+        return filterContractRiskAssessments(ScopedFilters.scope(filterRequest, contractId, ContractRiskAssessmentDTO::new, ContractRiskAssessmentDTO::setContractId));
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractRiskAssessmentDTO>> filterContractRiskAssessmentsByCursor(UUID contractId, CursorFilterRequest<ContractRiskAssessmentDTO> filterRequest) {
+        return filterContractRiskAssessmentsByCursor(ScopedFilters.scope(filterRequest, contractId, ContractRiskAssessmentDTO::new, ContractRiskAssessmentDTO::setContractId));
+    }
+
     @Override
     public Mono<ContractRiskAssessmentDTO> createContractRiskAssessment(ContractRiskAssessmentDTO contractRiskAssessmentDTO) {
         return Mono.just(contractRiskAssessmentDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> latestRepository.refreshLatest(saved.getContractId(), saved.getContractRiskAssessmentId())
+                        .thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ContractRiskAssessmentDTO> updateContractRiskAssessment(UUID contractRiskAssessmentId, ContractRiskAssessmentDTO contractRiskAssessmentDTO) {
-        return repository.findById(contractRiskAssessmentId)
+        ContractRiskAssessment updatedAssessment = mapper.toEntity(contractRiskAssessmentDTO);
+        updatedAssessment.setContractRiskAssessmentId(contractRiskAssessmentId);
+        return repository.updateExisting(updatedAssessment)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract risk assessment not found with ID: " + contractRiskAssessmentId)))
-                .flatMap(existingAssessment -> {
-                    ContractRiskAssessment updatedAssessment = mapper.toEntity(contractRiskAssessmentDTO);
-                    updatedAssessment.setContractRiskAssessmentId(contractRiskAssessmentId);
-                    return repository.save(updatedAssessment);
-                })
+                .flatMap(updated -> latestRepository.refreshLatest(updated.getContractId(), contractRiskAssessmentId)
+                        .thenReturn(updated))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteContractRiskAssessment(UUID contractRiskAssessmentId) {
-        return repository.findById(contractRiskAssessmentId)
+        return repository.deleteByIdReturning(contractRiskAssessmentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract risk assessment not found with ID: " + contractRiskAssessmentId)))
-                .flatMap(assessment -> repository.deleteById(contractRiskAssessmentId));
+                .flatMap(deleted -> latestRepository.refreshLatest(deleted.getContractId(), contractRiskAssessmentId));
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractRiskAssessmentDTO> getContractRiskAssessmentById(UUID contractRiskAssessmentId) {
         return repository.findById(contractRiskAssessmentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract risk assessment not found with ID: " + contractRiskAssessmentId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<ContractRiskDistributionDTO> getRiskDistribution(Integer highRiskLimit) {
+        int limit = highRiskLimit == null ? DEFAULT_HIGH_RISK_LIMIT : Math.max(1, Math.min(highRiskLimit, MAX_HIGH_RISK_LIMIT));
+        return Mono.zip(
+                        latestRepository.countActiveContractsByRiskLevel(),
+                        latestRepository.findActiveHighRisk(limit).map(latestMapper::toDTO).collectList())
+                .map(tuple -> toDistribution(tuple.getT1(), tuple.getT2()));
+    }
+
+    private static ContractRiskDistributionDTO toDistribution(Map<RiskLevelEnum, Long> counts,
+                                                              List<ContractLatestRiskAssessmentDTO> highRisk) {
+        Map<RiskLevelEnum, Long> byLevel = new EnumMap<>(RiskLevelEnum.class);
+        long assessed = 0;
+        for (RiskLevelEnum level : RiskLevelEnum.values()) {
+            long count = counts.getOrDefault(level, 0L);
+            byLevel.put(level, count);
+            assessed += count;
+        }
+        long highRiskCount = byLevel.get(RiskLevelEnum.HIGH) + byLevel.get(RiskLevelEnum.CRITICAL);
+        return ContractRiskDistributionDTO.builder()
+                .assessedContracts(assessed)
+                .contractsByRiskLevel(byLevel)
+                .highRiskContracts(highRisk)
+                .highRiskTruncated(highRiskCount > highRisk.size())
+                .build();
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services.impl;
+
+import com.firefly.core.contracts.core.mappers.ContractRiskAssessmentMapper;
+import com.firefly.core.contracts.core.services.ContractRiskBulkIngestionService;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskBulkItemResultDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskBulkProgressDTO;
+import com.firefly.core.contracts.interfaces.enums.BulkItemStatusEnum;
+import com.firefly.core.contracts.models.entities.ContractRiskAssessment;
+import com.firefly.core.contracts.models.repositories.ContractLatestRiskAssessmentRepository;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.firefly.core.contracts.models.repositories.ContractRiskAssessmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link ContractRiskBulkIngestionService}. Not transactional as a whole: every batch runs in
+ * a transaction of its own, so an ingestion of millions of records never holds one open.
+ */
+@Service
+public class ContractRiskBulkIngestionServiceImpl implements ContractRiskBulkIngestionService {
+
+    static final int MAX_BATCH_SIZE = 5000;
+
+    static final int MAX_CONCURRENCY = 16;
+
+    private static final BigDecimal MAX_RISK_SCORE = new BigDecimal("100.00");
+
+    @Autowired
+    private ContractRiskAssessmentRepository repository;
+
+    @Autowired
+    private ContractRiskAssessmentMapper mapper;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractLatestRiskAssessmentRepository latestRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Value("${contracts.risk-ingestion.batch-size:1000}")
+    private int defaultBatchSize;
+
+    @Value("${contracts.risk-ingestion.concurrency:4}")
+    private int defaultConcurrency;
+
+    @Override
+    public Flux<ContractRiskBulkProgressDTO> ingestRiskAssessments(Flux<ContractRiskAssessmentDTO> assessments,
+                                                                   Integer batchSize, Integer concurrency) {
+        int size = batchSize == null ? defaultBatchSize : Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        int parallelism = concurrency == null ? defaultConcurrency : Math.max(1, Math.min(concurrency, MAX_CONCURRENCY));
+        return Flux.defer(() -> {
+            AtomicLong position = new AtomicLong();
+            long[] totals = new long[3];
+            return assessments
+                    .map(assessment -> new IngestItem(position.getAndIncrement(), assessment))
+                    .buffer(size)
+                    .index()
+                    .flatMap(batch -> writeBatch(batch.getT2()).thenReturn(batch), parallelism)
+                    .map(batch -> {
+                        ContractRiskBulkProgressDTO progress = toProgress(batch.getT1(), batch.getT2());
+                        totals[0] += progress.getReceived();
+                        totals[1] += progress.getCreated();
+                        totals[2] += progress.getRejected();
+                        progress.setTotalReceived(totals[0]);
+                        progress.setTotalCreated(totals[1]);
+                        progress.setTotalRejected(totals[2]);
+                        return progress;
+                    });
+        });
+    }
+
+    /**
+     * Validates a batch, checks all of its contracts with one query and inserts the valid records, in one
+     * transaction; a failed write rejects every record of the batch that had not been rejected already.
+     */
+    private Mono<Void> writeBatch(List<IngestItem> items) {
+        Set<UUID> contractIds = new HashSet<>();
+        for (IngestItem item : items) {
+            validate(item);
+            if (!item.isRejected()) {
+                contractIds.add(item.assessment.getContractId());
+            }
+        }
+        if (contractIds.isEmpty()) {
+            return Mono.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return contractRepository.findExistingContractIds(contractIds)
+                .collect(HashSet<UUID>::new, Set::add)
+                .flatMap(existing -> {
+                    List<ContractRiskAssessment> rows = new ArrayList<>(items.size());
+                    Set<UUID> assessedContracts = new HashSet<>();
+                    for (IngestItem item : items) {
+                        if (item.isRejected()) {
+                            continue;
+                        }
+                        UUID contractId = item.assessment.getContractId();
+                        if (!existing.contains(contractId)) {
+                            item.reject("Contract not found with ID: " + contractId);
+                            continue;
+                        }
+                        ContractRiskAssessment row = mapper.toEntity(item.assessment);
+                        row.setContractRiskAssessmentId(UUID.randomUUID());
+                        if (row.getAssessmentDate() == null) {
+                            row.setAssessmentDate(now);
+                        }
+                        row.setCreatedAt(now);
+                        row.setUpdatedAt(now);
+                        rows.add(row);
+                        assessedContracts.add(contractId);
+                        item.status = BulkItemStatusEnum.CREATED;
+                    }
+                    return repository.insertAll(rows)
+                            .then(latestRepository.refreshLatest(assessedContracts));
+                })
+                .as(transactionalOperator::transactional)
+                .onErrorResume(e -> {
+                    for (IngestItem item : items) {
+                        if (!item.isRejected()) {
+                            item.reject("Batch write failed: " + e.getMessage());
+                        }
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    private static void validate(IngestItem item) {
+        ContractRiskAssessmentDTO assessment = item.assessment;
+        if (assessment == null) {
+            item.reject("Risk assessment is required");
+            return;
+        }
+        if (assessment.getContractId() == null) {
+            item.reject("Contract ID is required");
+        }
+        if (assessment.getRiskLevel() == null) {
+            item.reject("Risk level is required");
+        }
+        BigDecimal score = assessment.getRiskScore();
+        if (score != null && (score.signum() < 0 || score.compareTo(MAX_RISK_SCORE) > 0)) {
+            item.reject("Risk score must be between 0 and 100");
+        }
+        if (assessment.getAssessor() != null && assessment.getAssessor().length() > 255) {
+            item.reject("Assessor must not exceed 255 characters");
+        }
+    }
+
+    private static ContractRiskBulkProgressDTO toProgress(long batch, List<IngestItem> items) {
+        List<ContractRiskBulkItemResultDTO> failures = new ArrayList<>();
+        int created = 0;
+        for (IngestItem item : items) {
+            if (item.isRejected()) {
+                failures.add(ContractRiskBulkItemResultDTO.builder()
+                        .index(item.index)
+                        .contractId(item.assessment != null ? item.assessment.getContractId() : null)
+                        .status(item.status)
+                        .errors(item.errors)
+                        .build());
+            } else if (item.status == BulkItemStatusEnum.CREATED) {
+                created++;
+            }
+        }
+        return ContractRiskBulkProgressDTO.builder()
+                .batch(batch)
+                .received(items.size())
+                .created(created)
+                .rejected(failures.size())
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * Mutable per-ingestion state of one record.
+     */
+    private static final class IngestItem {
+
+        private final long index;
+        private final ContractRiskAssessmentDTO assessment;
+        private BulkItemStatusEnum status;
+        private List<String> errors;
+
+        private IngestItem(long index, ContractRiskAssessmentDTO assessment) {
+            this.index = index;
+            this.assessment = assessment;
+        }
+
+        private void reject(String error) {
+            if (errors == null) {
+                errors = new ArrayList<>(2);
+            }
+            errors.add(error);
+            status = BulkItemStatusEnum.REJECTED;
+        }
+
+        private boolean isRejected() {
+            return status == BulkItemStatusEnum.REJECTED;
+        }
+    }
+}
@@ -20,28 +20,98 @@ package com.firefly.core.contracts.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.cache.ContractNumberCache;
+import com.firefly.core.contracts.core.cache.ContractPartyIndexCache;
+import com.firefly.core.contracts.core.cache.EffectiveTermIndexCache;
 import com.firefly.core.contracts.core.mappers.ContractMapper;
+import com.firefly.core.contracts.core.mappers.ContractStatusHistoryMapper;
+import com.firefly.core.contracts.core.numbering.ContractNumberAllocator;
+import com.firefly.core.contracts.core.numbering.InvalidContractNumberException;
+import com.firefly.core.contracts.core.outbox.ContractOutbox;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractService;
+import com.firefly.core.contracts.core.status.InvalidStatusTransitionException;
 import com.firefly.core.contracts.interfaces.dtos.ContractDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusTransitionRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusTransitionResponseDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import com.firefly.core.contracts.interfaces.enums.StatusCodeEnum;
 import com.firefly.core.contracts.models.entities.Contract;
+import com.firefly.core.contracts.models.entities.ContractStatusHistory;
+import com.firefly.core.contracts.models.repositories.ContractPartyRepository;
 import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.firefly.core.contracts.models.repositories.ContractStatusHistoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractServiceImpl implements ContractService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt");
+
+    /**
+     * Contract status implied by a status history code; codes without an entry leave the contract status unchanged.
+     */
+    private static final Map<StatusCodeEnum, ContractStatusEnum> CONTRACT_STATUS_BY_CODE = new EnumMap<>(Map.of(
+            StatusCodeEnum.CREATED, ContractStatusEnum.DRAFT,
+            StatusCodeEnum.SUBMITTED_FOR_APPROVAL, ContractStatusEnum.PENDING_APPROVAL,
+            StatusCodeEnum.ACTIVATED, ContractStatusEnum.ACTIVE,
+            StatusCodeEnum.SUSPENDED, ContractStatusEnum.SUSPENDED,
+            StatusCodeEnum.TERMINATED, ContractStatusEnum.TERMINATED,
+            StatusCodeEnum.EXPIRED, ContractStatusEnum.EXPIRED,
+            StatusCodeEnum.CANCELLED, ContractStatusEnum.CANCELLED
+    ));
+
     @Autowired
     private ContractRepository repository;
 
     @Autowired
     private ContractMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractPartyRepository partyRepository;
+
+    @Autowired
+    private ContractPartyIndexCache partyIndexCache;
+
+    @Autowired
+    private EffectiveTermIndexCache effectiveTermIndexCache;
+
+    @Autowired
+    private ContractNumberCache contractNumberCache;
+
+    @Autowired
+    private ContractNumberAllocator contractNumberAllocator;
+
+    @Autowired
+    private ContractStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private ContractStatusHistoryMapper statusHistoryMapper;
+
+    @Autowired
+    private ContractOutbox outbox;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractDTO>> filterContracts(FilterRequest<ContractDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,37 +121,156 @@ public class ContractServiceImpl implements ContractService {
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractDTO>> filterContractsByCursor(CursorFilterRequest<ContractDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                Contract.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
     @Override
     public Mono<ContractDTO> createContract(ContractDTO contractDTO) {
         return Mono.just(contractDTO)
                 .map(mapper::toEntity)
+                .flatMap(contract -> contract.getContractNumber() != null
+                        ? checkClientContractNumber(contract)
+                        : contractNumberAllocator.allocate(contract.getProductCatalogId())
+                                .doOnNext(contract::setContractNumber)
+                                .thenReturn(contract))
                 .flatMap(repository::save)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(ContractChangeAggregateEnum.CONTRACT, created.getContractId(),
+                                created.getContractId(), ContractChangeTypeEnum.CREATED, created)
+                        .then(contractNumberCache.register(created.getContractId(), created.getContractNumber()))
+                        .thenReturn(created));
     }
 
     @Override
     public Mono<ContractDTO> updateContract(UUID contractId, ContractDTO contractDTO) {
-        return repository.findById(contractId)
+        Contract updatedContract = mapper.toEntity(contractDTO);
+        updatedContract.setContractId(contractId);
+        return checkContractNumberChange(contractId, updatedContract.getContractNumber())
+                .then(repository.updateExisting(updatedContract))
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract not found with ID: " + contractId)))
-                .flatMap(existingContract -> {
-                    Contract updatedContract = mapper.toEntity(contractDTO);
-                    updatedContract.setContractId(contractId);
-                    return repository.save(updatedContract);
-                })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(ContractChangeAggregateEnum.CONTRACT, contractId, contractId,
+                                ContractChangeTypeEnum.UPDATED, updated)
+                        .then(contractNumberCache.evict(contractId))
+                        .thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteContract(UUID contractId) {
-        return repository.findById(contractId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Contract not found with ID: " + contractId)))
-                .flatMap(contract -> repository.deleteById(contractId));
+        // contract parties are deleted here rather than by ON DELETE CASCADE to learn which parties to evict
+        return partyRepository.deleteByContractIdReturningPartyIds(contractId)
+                .distinct()
+                .collectList()
+                .flatMap(partyIds -> repository.deleteByIdReturningCount(contractId)
+                        .flatMap(deleted -> deleted == 0
+                                ? Mono.error(new RuntimeException("Contract not found with ID: " + contractId))
+                                : outbox.append(ContractChangeAggregateEnum.CONTRACT, contractId, contractId,
+                                                ContractChangeTypeEnum.DELETED, Map.of("contractId", contractId))
+                                        .then(partyIndexCache.evict(partyIds.toArray(UUID[]::new)))
+                                        .then(effectiveTermIndexCache.evict(contractId))
+                                        .then(contractNumberCache.evict(contractId))));
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractDTO> getContractById(UUID contractId) {
         return repository.findById(contractId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract not found with ID: " + contractId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    public Mono<ContractDTO> getContractByNumber(String contractNumber) {
+        return contractNumberCache.findByContractNumber(contractNumber)
+                .switchIfEmpty(Mono.error(new RuntimeException("Contract not found with number: " + contractNumber)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<ContractStatusTransitionResponseDTO> transitionContractStatus(UUID contractId, ContractStatusTransitionRequestDTO request, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime effectiveDate = request.getEffectiveDate() != null ? request.getEffectiveDate() : now;
+        ContractStatusEnum contractStatus = request.getContractStatus() != null
+                ? request.getContractStatus()
+                : CONTRACT_STATUS_BY_CODE.get(request.getStatusCode());
+
+        // The date is checked before the contract is touched; the check after closing the open status only
+        // catches a transition that committed in between. Updating the contract locks its row, which serializes
+        // concurrent transitions of the same contract.
+        return statusHistoryRepository.findCurrentStatusByContractId(contractId)
+                .flatMap(open -> checkTransitionDate(open, effectiveDate))
+                .then(repository.updateContractStatus(contractId, contractStatus, expectedVersion, now))
+                .switchIfEmpty(Mono.defer(() -> repository.existsById(contractId)
+                        .flatMap(exists -> Mono.error(exists
+                                ? new OptimisticLockingFailureException("Contract " + contractId
+                                        + " was modified concurrently; expected version " + expectedVersion)
+                                : new RuntimeException("Contract not found with ID: " + contractId)))))
+                .flatMap(contract -> statusHistoryRepository.closeCurrentStatus(contractId, effectiveDate, now)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(previous -> previous.isEmpty()
+                                ? Mono.just(previous)
+                                : checkTransitionDate(previous.get(), effectiveDate).thenReturn(previous))
+                        .flatMap(previous -> {
+                            ContractStatusHistory current = ContractStatusHistory.builder()
+                                    .contractId(contractId)
+                                    .statusCode(request.getStatusCode())
+                                    .statusStartDate(effectiveDate)
+                                    .build();
+                            return statusHistoryRepository.save(current)
+                                    .map(saved -> ContractStatusTransitionResponseDTO.builder()
+                                            .contract(mapper.toDTO(contract))
+                                            .previousStatus(previous.map(statusHistoryMapper::toDTO).orElse(null))
+                                            .currentStatus(statusHistoryMapper.toDTO(saved))
+                                            .build());
+                        }))
+                .flatMap(response -> outbox.append(ContractChangeAggregateEnum.CONTRACT, contractId, contractId,
+                        ContractChangeTypeEnum.STATUS_CHANGED, response).thenReturn(response));
+    }
+
+    private static Mono<Void> checkTransitionDate(ContractStatusHistory openStatus, LocalDateTime effectiveDate) {
+        return openStatus.getStatusStartDate().isAfter(effectiveDate)
+                ? Mono.error(new InvalidStatusTransitionException("Status transition date " + effectiveDate
+                        + " precedes the start of the current status " + openStatus.getStatusStartDate()))
+                : Mono.empty();
+    }
+
+    /**
+     * Rejects client-supplied numbers that an allocator format could also render, as they could collide with
+     * a number allocated later.
+     */
+    private Mono<Contract> checkClientContractNumber(Contract contract) {
+        return contractNumberAllocator.matchesAllocatedFormat(contract.getContractNumber())
+                ? Mono.error(reservedContractNumber(contract.getContractNumber()))
+                : Mono.just(contract);
+    }
+
+    /**
+     * Applies the create-time check to updates that change the number: keeping the number the contract already
+     * has is allowed even when it was allocated, setting a new one in an allocator format is not. Only numbers in
+     * an allocator format cost a read of the current one.
+     */
+    private Mono<Void> checkContractNumberChange(UUID contractId, String contractNumber) {
+        if (contractNumber == null || !contractNumberAllocator.matchesAllocatedFormat(contractNumber)) {
+            return Mono.empty();
+        }
+        return repository.findById(contractId)
+                .flatMap(current -> contractNumber.equals(current.getContractNumber())
+                        ? Mono.<Void>empty()
+                        : Mono.error(reservedContractNumber(contractNumber)));
+    }
+
+    private static InvalidContractNumberException reservedContractNumber(String contractNumber) {
+        return new InvalidContractNumberException("Contract number " + contractNumber
+                + " uses a format reserved for allocated numbers; omit it or use a different format");
+    }
 }
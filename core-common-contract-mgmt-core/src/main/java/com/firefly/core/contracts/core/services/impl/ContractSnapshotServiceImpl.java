@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.services.impl;
+
+import com.firefly.core.contracts.core.mappers.ContractMapper;
+import com.firefly.core.contracts.core.mappers.ContractPartyMapper;
+import com.firefly.core.contracts.core.mappers.ContractRiskAssessmentMapper;
+import com.firefly.core.contracts.core.mappers.ContractStatusHistoryMapper;
+import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
+import com.firefly.core.contracts.core.services.ContractSnapshotService;
+import com.firefly.core.contracts.interfaces.dtos.ContractDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractPartyDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractSnapshotDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusHistoryDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.enums.ContractSnapshotSectionEnum;
+import com.firefly.core.contracts.models.repositories.ContractPartyRepository;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import com.firefly.core.contracts.models.repositories.ContractRiskAssessmentRepository;
+import com.firefly.core.contracts.models.repositories.ContractStatusHistoryRepository;
+import com.firefly.core.contracts.models.repositories.ContractTermDynamicRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Composes contract snapshots from the individual repositories.
+ * <p>
+ * Deliberately not {@code @Transactional}: a reactive transaction pins a single connection and would
+ * serialize the section queries, whereas without one they run concurrently on separate connections.
+ * The queries may read from the read replica, when one is configured.
+ */
+@Service
+public class ContractSnapshotServiceImpl implements ContractSnapshotService {
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractPartyRepository partyRepository;
+
+    @Autowired
+    private ContractTermDynamicRepository termRepository;
+
+    @Autowired
+    private ContractStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private ContractRiskAssessmentRepository riskAssessmentRepository;
+
+    @Autowired
+    private ContractMapper contractMapper;
+
+    @Autowired
+    private ContractPartyMapper partyMapper;
+
+    @Autowired
+    private ContractTermDynamicMapper termMapper;
+
+    @Autowired
+    private ContractStatusHistoryMapper statusHistoryMapper;
+
+    @Autowired
+    private ContractRiskAssessmentMapper riskAssessmentMapper;
+
+    @Override
+    public Mono<ContractSnapshotDTO> getContractSnapshot(UUID contractId, Set<ContractSnapshotSectionEnum> sections, LocalDateTime asOf) {
+        Set<ContractSnapshotSectionEnum> requested = sections == null || sections.isEmpty()
+                ? EnumSet.allOf(ContractSnapshotSectionEnum.class)
+                : EnumSet.copyOf(sections);
+        LocalDateTime effectiveAt = asOf != null ? asOf : LocalDateTime.now();
+
+        // The contract row is always read so that unknown contracts fail instead of returning an empty snapshot
+        Mono<ContractDTO> contract = contractRepository.findById(contractId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Contract not found with ID: " + contractId)))
+                .map(contractMapper::toDTO);
+
+        Mono<Optional<List<ContractPartyDTO>>> parties = section(requested, ContractSnapshotSectionEnum.PARTIES,
+                partyRepository.findByContractIdAndIsActive(contractId, true)
+                        .map(partyMapper::toDTO)
+                        .collectList());
+
+        Mono<Optional<List<ContractTermDynamicDTO>>> terms = section(requested, ContractSnapshotSectionEnum.TERMS,
+                termRepository.findEffectiveTermsByContractIdAndDate(contractId, effectiveAt)
+                        .map(termMapper::toDTO)
+                        .collectList());
+
+        Mono<Optional<ContractStatusHistoryDTO>> currentStatus = section(requested, ContractSnapshotSectionEnum.STATUS,
+                statusHistoryRepository.findCurrentStatusByContractId(contractId)
+                        .map(statusHistoryMapper::toDTO));
+
+        Mono<Optional<ContractRiskAssessmentDTO>> latestRisk = section(requested, ContractSnapshotSectionEnum.RISK,
+                riskAssessmentRepository.findLatestByContractId(contractId)
+                        .map(riskAssessmentMapper::toDTO));
+
+        return ReadReplicaRouting.onReplica(Mono.zip(contract, parties, terms, currentStatus, latestRisk))
+                .map(tuple -> ContractSnapshotDTO.builder()
+                        .contractId(contractId)
+                        .asOf(requested.contains(ContractSnapshotSectionEnum.TERMS) ? effectiveAt : null)
+                        .contract(requested.contains(ContractSnapshotSectionEnum.CONTRACT) ? tuple.getT1() : null)
+                        .parties(tuple.getT2().orElse(null))
+                        .terms(tuple.getT3().orElse(null))
+                        .currentStatus(tuple.getT4().orElse(null))
+                        .latestRiskAssessment(tuple.getT5().orElse(null))
+                        .build());
+    }
+
+    /**
+     * Subscribes to a section query only when the section was requested; an empty result or an unrequested
+     * section both yield an empty Optional so that {@link Mono#zip} never short-circuits on them.
+     */
+    private static <T> Mono<Optional<T>> section(Set<ContractSnapshotSectionEnum> requested,
+                                                 ContractSnapshotSectionEnum section, Mono<T> query) {
+        if (!requested.contains(section)) {
+            return Mono.just(Optional.empty());
+        }
+        return query.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+}
@@ -21,27 +21,45 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.core.mappers.ContractStatusHistoryMapper;
+import com.firefly.core.contracts.core.outbox.ContractOutbox;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractStatusHistoryService;
+import com.firefly.core.contracts.core.support.ScopedFilters;
 import com.firefly.core.contracts.interfaces.dtos.ContractStatusHistoryDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
 import com.firefly.core.contracts.models.entities.ContractStatusHistory;
 import com.firefly.core.contracts.models.repositories.ContractStatusHistoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractStatusHistoryServiceImpl implements ContractStatusHistoryService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "statusStartDate");
+
     @Autowired
     private ContractStatusHistoryRepository repository;
 
     @Autowired
     private ContractStatusHistoryMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractOutbox outbox;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractStatusHistoryDTO>> filterContractStatusHistory(FilterRequest<ContractStatusHistoryDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,34 +69,61 @@ public class ContractStatusHistoryServiceImpl implements ContractStatusHistorySe
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractStatusHistoryDTO>> filterContractStatusHistoryByCursor(CursorFilterRequest<ContractStatusHistoryDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractStatusHistory.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<PaginationResponse<ContractStatusHistoryDTO>> filterContractStatusHistory(UUID contractId, FilterRequest<ContractStatusHistoryDTO> filterRequest) {
+        return filterContractStatusHistory(ScopedFilters.scope(filterRequest, contractId, ContractStatusHistoryDTO::new, ContractStatusHistoryDTO::setContractId));
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractStatusHistoryDTO>> filterContractStatusHistoryByCursor(UUID contractId, CursorFilterRequest<ContractStatusHistoryDTO> filterRequest) {
+        return filterContractStatusHistoryByCursor(ScopedFilters.scope(filterRequest, contractId, ContractStatusHistoryDTO::new, ContractStatusHistoryDTO::setContractId));
+    }
+
     @Override
     public Mono<ContractStatusHistoryDTO> createContractStatusHistory(ContractStatusHistoryDTO contractStatusHistoryDTO) {
         return Mono.just(contractStatusHistoryDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(ContractChangeAggregateEnum.CONTRACT_STATUS, created.getContractStatusHistoryId(),
+                        created.getContractId(), ContractChangeTypeEnum.CREATED, created).thenReturn(created));
     }
 
     @Override
     public Mono<ContractStatusHistoryDTO> updateContractStatusHistory(UUID contractStatusHistoryId, ContractStatusHistoryDTO contractStatusHistoryDTO) {
-        return repository.findById(contractStatusHistoryId)
+        ContractStatusHistory updatedHistory = mapper.toEntity(contractStatusHistoryDTO);
+        updatedHistory.setContractStatusHistoryId(contractStatusHistoryId);
+        return repository.updateExisting(updatedHistory)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract status history not found with ID: " + contractStatusHistoryId)))
-                .flatMap(existingHistory -> {
-                    ContractStatusHistory updatedHistory = mapper.toEntity(contractStatusHistoryDTO);
-                    updatedHistory.setContractStatusHistoryId(contractStatusHistoryId);
-                    return repository.save(updatedHistory);
-                })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(ContractChangeAggregateEnum.CONTRACT_STATUS, contractStatusHistoryId,
+                        updated.getContractId(), ContractChangeTypeEnum.UPDATED, updated).thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteContractStatusHistory(UUID contractStatusHistoryId) {
-        return repository.findById(contractStatusHistoryId)
+        return repository.deleteByIdReturning(contractStatusHistoryId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract status history not found with ID: " + contractStatusHistoryId)))
-                .flatMap(history -> repository.deleteById(contractStatusHistoryId));
+                .flatMap(deleted -> outbox.append(ContractChangeAggregateEnum.CONTRACT_STATUS, contractStatusHistoryId,
+                        deleted.getContractId(), ContractChangeTypeEnum.DELETED, mapper.toDTO(deleted)));
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractStatusHistoryDTO> getContractStatusHistoryById(UUID contractStatusHistoryId) {
         return repository.findById(contractStatusHistoryId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract status history not found with ID: " + contractStatusHistoryId)))
@@ -20,28 +20,78 @@ package com.firefly.core.contracts.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.cache.ContractTermTemplateCache;
+import com.firefly.core.contracts.core.cache.EffectiveTermIndexCache;
 import com.firefly.core.contracts.core.mappers.ContractTermDynamicMapper;
+import com.firefly.core.contracts.core.outbox.ContractOutbox;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractTermDynamicService;
+import com.firefly.core.contracts.core.support.ScopedFilters;
+import com.firefly.core.contracts.core.validation.CompiledTermValidator;
+import com.firefly.core.contracts.core.validation.ContractTermValidationEngine;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsResponseDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermBulkItemResultDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermBulkUpsertRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermBulkUpsertResponseDTO;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.BulkItemStatusEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
 import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import com.firefly.core.contracts.models.repositories.ContractRepository;
 import com.firefly.core.contracts.models.repositories.ContractTermDynamicRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractTermDynamicServiceImpl implements ContractTermDynamicService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "effectiveDate");
+
     @Autowired
     private ContractTermDynamicRepository repository;
 
     @Autowired
     private ContractTermDynamicMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractTermValidationEngine validationEngine;
+
+    @Autowired
+    private ContractTermTemplateCache templateCache;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractOutbox outbox;
+
+    @Autowired
+    private EffectiveTermIndexCache effectiveTermIndexCache;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractTermDynamicDTO>> filterContractTermDynamics(FilterRequest<ContractTermDynamicDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,34 +101,286 @@ public class ContractTermDynamicServiceImpl implements ContractTermDynamicServic
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractTermDynamicDTO>> filterContractTermDynamicsByCursor(CursorFilterRequest<ContractTermDynamicDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractTermDynamic.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<PaginationResponse<ContractTermDynamicDTO>> filterContractTermDynamics(UUID contractId, FilterRequest<ContractTermDynamicDTO> filterRequest) {
+        return filterContractTermDynamics(ScopedFilters.scope(filterRequest, contractId, ContractTermDynamicDTO::new, ContractTermDynamicDTO::setContractId));
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractTermDynamicDTO>> filterContractTermDynamicsByCursor(UUID contractId, CursorFilterRequest<ContractTermDynamicDTO> filterRequest) {
+        return filterContractTermDynamicsByCursor(ScopedFilters.scope(filterRequest, contractId, ContractTermDynamicDTO::new, ContractTermDynamicDTO::setContractId));
+    }
+
     @Override
     public Mono<ContractTermDynamicDTO> createContractTermDynamic(ContractTermDynamicDTO contractTermDynamicDTO) {
-        return Mono.just(contractTermDynamicDTO)
+        return validationEngine.validate(contractTermDynamicDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(ContractChangeAggregateEnum.CONTRACT_TERM, created.getTermId(),
+                        created.getContractId(), ContractChangeTypeEnum.CREATED, created)
+                        .then(effectiveTermIndexCache.evict(created.getContractId()))
+                        .thenReturn(created));
+    }
+
+    @Override
+    public Mono<ContractTermBulkUpsertResponseDTO> bulkUpsertContractTermDynamics(UUID contractId, ContractTermBulkUpsertRequestDTO request) {
+        boolean atomic = !Boolean.FALSE.equals(request.getAtomic());
+        List<BulkItem> items = new ArrayList<>(request.getTerms().size());
+        for (ContractTermDynamicDTO term : request.getTerms()) {
+            items.add(new BulkItem(items.size(), term));
+        }
+        return contractRepository.existsById(contractId)
+                .flatMap(exists -> exists
+                        ? validateBulkItems(contractId, items)
+                        : Mono.error(new RuntimeException("Contract not found with ID: " + contractId)))
+                .flatMap(validated -> {
+                    boolean anyRejected = items.stream().anyMatch(BulkItem::isRejected);
+                    if (anyRejected && atomic) {
+                        items.stream().filter(item -> !item.isRejected()).forEach(item -> item.status = BulkItemStatusEnum.SKIPPED);
+                        return Mono.just(toBulkResponse(contractId, items));
+                    }
+                    return writeBulkItems(contractId, items).thenReturn(toBulkResponse(contractId, items));
+                });
+    }
+
+    /**
+     * Checks the structure of every item, rejects duplicates within the request and runs each remaining
+     * item through the compiled validator of its template, loading each distinct template only once.
+     */
+    private Mono<List<BulkItem>> validateBulkItems(UUID contractId, List<BulkItem> items) {
+        Set<TermKey> seen = new HashSet<>();
+        Set<UUID> templateIds = new HashSet<>();
+        for (BulkItem item : items) {
+            ContractTermDynamicDTO term = item.term;
+            if (term == null) {
+                item.reject("Term is required");
+                continue;
+            }
+            term.setContractId(contractId);
+            if (term.getTermTemplateId() == null) {
+                item.reject("Term template ID is required");
+            }
+            if (term.getEffectiveDate() == null) {
+                item.reject("Effective date is required");
+            }
+            if (item.isRejected()) {
+                continue;
+            }
+            if (!seen.add(TermKey.of(term))) {
+                item.reject("Duplicate term for template " + term.getTermTemplateId()
+                        + " and effective date " + term.getEffectiveDate() + " in request");
+                continue;
+            }
+            templateIds.add(term.getTermTemplateId());
+        }
+        return Flux.fromIterable(templateIds)
+                .flatMap(templateId -> templateCache.getById(templateId)
+                        .flatMap(template -> validationEngine.getValidator(templateId))
+                        .map(validator -> Map.entry(templateId, validator)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(validators -> {
+                    for (BulkItem item : items) {
+                        if (item.isRejected()) {
+                            continue;
+                        }
+                        CompiledTermValidator validator = validators.get(item.term.getTermTemplateId());
+                        if (validator == null) {
+                            item.reject("Term template not found with ID: " + item.term.getTermTemplateId());
+                        } else {
+                            validator.violations(item.term).forEach(item::reject);
+                        }
+                    }
+                    return items;
+                });
+    }
+
+    /**
+     * Serializes bulk writes per contract, matches the valid items against the contract's existing terms and
+     * writes all inserts and all updates as batched multi-row statements.
+     */
+    private Mono<Void> writeBulkItems(UUID contractId, List<BulkItem> items) {
+        List<BulkItem> valid = items.stream().filter(item -> !item.isRejected()).toList();
+        if (valid.isEmpty()) {
+            return Mono.empty();
+        }
+        Set<UUID> templateIds = new HashSet<>();
+        valid.forEach(item -> templateIds.add(item.term.getTermTemplateId()));
+        return repository.lockContractForBulkWrite(contractId)
+                .then(repository.findByContractIdAndTermTemplateIdIn(contractId, templateIds)
+                        .collect(HashMap<TermKey, ContractTermDynamic>::new,
+                                (existing, term) -> existing.putIfAbsent(TermKey.of(term), term)))
+                .flatMap(existing -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<ContractTermDynamic> inserts = new ArrayList<>();
+                    List<ContractTermDynamic> updates = new ArrayList<>();
+                    List<ContractOutboxEntry> changes = new ArrayList<>(valid.size());
+                    for (BulkItem item : valid) {
+                        ContractTermDynamic entity = mapper.toEntity(item.term);
+                        if (entity.getIsActive() == null) {
+                            entity.setIsActive(Boolean.TRUE);
+                        }
+                        entity.setUpdatedAt(now);
+                        ContractTermDynamic match = existing.get(TermKey.of(entity));
+                        if (match != null) {
+                            entity.setTermId(match.getTermId());
+                            entity.setCreatedAt(match.getCreatedAt());
+                            item.status = BulkItemStatusEnum.UPDATED;
+                            updates.add(entity);
+                        } else {
+                            entity.setTermId(UUID.randomUUID());
+                            entity.setCreatedAt(now);
+                            item.status = BulkItemStatusEnum.CREATED;
+                            inserts.add(entity);
+                        }
+                        item.termId = entity.getTermId();
+                        changes.add(outbox.entry(ContractChangeAggregateEnum.CONTRACT_TERM, entity.getTermId(), contractId,
+                                item.status == BulkItemStatusEnum.CREATED ? ContractChangeTypeEnum.CREATED : ContractChangeTypeEnum.UPDATED,
+                                mapper.toDTO(entity)));
+                    }
+                    return repository.insertAll(inserts)
+                            .then(repository.updateAll(updates))
+                            .then(outbox.appendAll(changes))
+                            .then(effectiveTermIndexCache.evict(contractId));
+                })
+                .then();
+    }
+
+    private static ContractTermBulkUpsertResponseDTO toBulkResponse(UUID contractId, List<BulkItem> items) {
+        List<ContractTermBulkItemResultDTO> results = new ArrayList<>(items.size());
+        int created = 0;
+        int updated = 0;
+        int rejected = 0;
+        for (BulkItem item : items) {
+            switch (item.status) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case REJECTED -> rejected++;
+                default -> { }
+            }
+            results.add(ContractTermBulkItemResultDTO.builder()
+                    .index(item.index)
+                    .termId(item.termId)
+                    .termTemplateId(item.term != null ? item.term.getTermTemplateId() : null)
+                    .status(item.status)
+                    .errors(item.errors == null ? List.of() : item.errors)
+                    .build());
+        }
+        return ContractTermBulkUpsertResponseDTO.builder()
+                .contractId(contractId)
+                .created(created)
+                .updated(updated)
+                .rejected(rejected)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Natural key used to match requested terms against the contract's existing terms.
+     */
+    private record TermKey(UUID termTemplateId, LocalDateTime effectiveDate) {
+
+        static TermKey of(ContractTermDynamicDTO term) {
+            return new TermKey(term.getTermTemplateId(), term.getEffectiveDate());
+        }
+
+        static TermKey of(ContractTermDynamic term) {
+            return new TermKey(term.getTermTemplateId(), term.getEffectiveDate());
+        }
+    }
+
+    /**
+     * Mutable per-request state of one bulk item.
+     */
+    private static final class BulkItem {
+
+        private final int index;
+        private final ContractTermDynamicDTO term;
+        private UUID termId;
+        private BulkItemStatusEnum status;
+        private List<String> errors;
+
+        private BulkItem(int index, ContractTermDynamicDTO term) {
+            this.index = index;
+            this.term = term;
+        }
+
+        private void reject(String error) {
+            if (errors == null) {
+                errors = new ArrayList<>(2);
+            }
+            errors.add(error);
+            status = BulkItemStatusEnum.REJECTED;
+        }
+
+        private boolean isRejected() {
+            return status == BulkItemStatusEnum.REJECTED;
+        }
     }
 
     @Override
     public Mono<ContractTermDynamicDTO> updateContractTermDynamic(UUID termId, ContractTermDynamicDTO contractTermDynamicDTO) {
-        return repository.findById(termId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Contract term dynamic not found with ID: " + termId)))
-                .flatMap(existingTerm -> {
-                    ContractTermDynamic updatedTerm = mapper.toEntity(contractTermDynamicDTO);
+        return validationEngine.validate(contractTermDynamicDTO)
+                .flatMap(validTerm -> {
+                    ContractTermDynamic updatedTerm = mapper.toEntity(validTerm);
                     updatedTerm.setTermId(termId);
-                    return repository.save(updatedTerm);
+                    return repository.updateExisting(updatedTerm);
                 })
-                .map(mapper::toDTO);
+                .switchIfEmpty(Mono.error(new RuntimeException("Contract term dynamic not found with ID: " + termId)))
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(ContractChangeAggregateEnum.CONTRACT_TERM, termId,
+                        updated.getContractId(), ContractChangeTypeEnum.UPDATED, updated)
+                        .then(effectiveTermIndexCache.evictTerm(termId, updated.getContractId()))
+                        .thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteContractTermDynamic(UUID termId) {
-        return repository.findById(termId)
+        return repository.deleteByIdReturning(termId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term dynamic not found with ID: " + termId)))
-                .flatMap(term -> repository.deleteById(termId));
+                .flatMap(deleted -> outbox.append(ContractChangeAggregateEnum.CONTRACT_TERM, termId,
+                        deleted.getContractId(), ContractChangeTypeEnum.DELETED, mapper.toDTO(deleted))
+                        .then(effectiveTermIndexCache.evict(deleted.getContractId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<ContractEffectiveTermsResponseDTO> getEffectiveTermsAt(UUID contractId, ContractEffectiveTermsRequestDTO request) {
+        return contractRepository.existsById(contractId)
+                .flatMap(exists -> exists
+                        ? effectiveTermIndexCache.getByContractId(contractId)
+                        : Mono.error(new RuntimeException("Contract not found with ID: " + contractId)))
+                .map(index -> {
+                    List<ContractEffectiveTermsDTO> periods = new ArrayList<>(request.getAsOf().size());
+                    for (LocalDateTime asOf : request.getAsOf()) {
+                        periods.add(ContractEffectiveTermsDTO.builder()
+                                .asOf(asOf)
+                                .terms(index.effectiveAt(asOf))
+                                .build());
+                    }
+                    return ContractEffectiveTermsResponseDTO.builder()
+                            .contractId(contractId)
+                            .periods(periods)
+                            .build();
+                });
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractTermDynamicDTO> getContractTermDynamicById(UUID termId) {
         return repository.findById(termId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term dynamic not found with ID: " + termId)))
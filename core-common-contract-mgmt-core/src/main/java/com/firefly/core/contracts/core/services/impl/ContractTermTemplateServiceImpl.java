@@ -20,28 +20,50 @@ package com.firefly.core.contracts.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.cache.ContractTermTemplateCache;
 import com.firefly.core.contracts.core.mappers.ContractTermTemplateMapper;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractTermTemplateService;
+import com.firefly.core.contracts.core.validation.ContractTermValidationEngine;
+import com.firefly.core.contracts.core.validation.TermValidatorCompiler;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermTemplateDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.TermCategoryEnum;
 import com.firefly.core.contracts.models.entities.ContractTermTemplate;
 import com.firefly.core.contracts.models.repositories.ContractTermTemplateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractTermTemplateServiceImpl implements ContractTermTemplateService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "code");
+
     @Autowired
     private ContractTermTemplateRepository repository;
 
     @Autowired
     private ContractTermTemplateMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractTermValidationEngine validationEngine;
+
+    @Autowired
+    private ContractTermTemplateCache templateCache;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractTermTemplateDTO>> filterContractTermTemplates(FilterRequest<ContractTermTemplateDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,37 +73,73 @@ public class ContractTermTemplateServiceImpl implements ContractTermTemplateServ
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractTermTemplateDTO>> filterContractTermTemplatesByCursor(CursorFilterRequest<ContractTermTemplateDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractTermTemplate.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
     @Override
     public Mono<ContractTermTemplateDTO> createContractTermTemplate(ContractTermTemplateDTO contractTermTemplateDTO) {
-        return Mono.just(contractTermTemplateDTO)
-                .map(mapper::toEntity)
+        return Mono.fromRunnable(() -> TermValidatorCompiler.verifyTemplateRules(contractTermTemplateDTO.getValidationRules()))
+                .then(Mono.fromCallable(() -> mapper.toEntity(contractTermTemplateDTO)))
                 .flatMap(repository::save)
+                .flatMap(savedTemplate -> templateCache.evict(savedTemplate.getTermTemplateId(), savedTemplate.getCode())
+                        .thenReturn(savedTemplate))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ContractTermTemplateDTO> updateContractTermTemplate(UUID termTemplateId, ContractTermTemplateDTO contractTermTemplateDTO) {
-        return repository.findById(termTemplateId)
+        ContractTermTemplate updatedTemplate = mapper.toEntity(contractTermTemplateDTO);
+        updatedTemplate.setTermTemplateId(termTemplateId);
+        return Mono.fromRunnable(() -> TermValidatorCompiler.verifyTemplateRules(contractTermTemplateDTO.getValidationRules()))
+                .then(repository.updateExisting(updatedTemplate))
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term template not found with ID: " + termTemplateId)))
-                .flatMap(existingTemplate -> {
-                    ContractTermTemplate updatedTemplate = mapper.toEntity(contractTermTemplateDTO);
-                    updatedTemplate.setTermTemplateId(termTemplateId);
-                    return repository.save(updatedTemplate);
-                })
+                // evicting by ID also drops the entry under the template's previous code
+                .flatMap(savedTemplate -> templateCache.evict(termTemplateId, savedTemplate.getCode())
+                        .then(validationEngine.evict(termTemplateId))
+                        .thenReturn(savedTemplate))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteContractTermTemplate(UUID termTemplateId) {
-        return repository.findById(termTemplateId)
+        return repository.deleteByIdReturning(termTemplateId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term template not found with ID: " + termTemplateId)))
-                .flatMap(template -> repository.deleteById(termTemplateId));
+                .flatMap(template -> templateCache.evict(termTemplateId, template.getCode())
+                        .then(validationEngine.evict(termTemplateId)));
     }
 
     @Override
     public Mono<ContractTermTemplateDTO> getContractTermTemplateById(UUID termTemplateId) {
-        return repository.findById(termTemplateId)
+        return templateCache.getById(termTemplateId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term template not found with ID: " + termTemplateId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    public Mono<ContractTermTemplateDTO> getContractTermTemplateByCode(String code) {
+        return templateCache.getByCode(code)
+                .switchIfEmpty(Mono.error(new RuntimeException("Contract term template not found with code: " + code)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<ContractTermTemplateDTO> getActiveContractTermTemplatesByCategory(TermCategoryEnum termCategory) {
+        return templateCache.getActiveByCategory(termCategory)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<ContractTermTemplateDTO> getActiveRequiredContractTermTemplates() {
+        return templateCache.getActiveRequired()
+                .map(mapper::toDTO);
+    }
 }
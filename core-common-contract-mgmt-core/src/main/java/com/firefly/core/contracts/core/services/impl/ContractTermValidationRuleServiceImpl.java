@@ -21,27 +21,44 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.core.mappers.ContractTermValidationRuleMapper;
+import com.firefly.core.contracts.core.pagination.KeysetPaginator;
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
 import com.firefly.core.contracts.core.services.ContractTermValidationRuleService;
+import com.firefly.core.contracts.core.support.ScopedFilters;
+import com.firefly.core.contracts.core.validation.ContractTermValidationEngine;
+import com.firefly.core.contracts.core.validation.TermValidatorCompiler;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermValidationRuleDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.contracts.models.entities.ContractTermValidationRule;
 import com.firefly.core.contracts.models.repositories.ContractTermValidationRuleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ContractTermValidationRuleServiceImpl implements ContractTermValidationRuleService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt");
+
     @Autowired
     private ContractTermValidationRuleRepository repository;
 
     @Autowired
     private ContractTermValidationRuleMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private ContractTermValidationEngine validationEngine;
+
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<PaginationResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRules(FilterRequest<ContractTermValidationRuleDTO> filterRequest) {
         return FilterUtils
                 .createFilter(
@@ -51,37 +68,71 @@ public class ContractTermValidationRuleServiceImpl implements ContractTermValida
                 .filter(filterRequest);
     }
 
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRulesByCursor(CursorFilterRequest<ContractTermValidationRuleDTO> filterRequest) {
+        return keysetPaginator.paginate(
+                ContractTermValidationRule.class,
+                filterRequest,
+                mapper::toEntity,
+                mapper::toDTO,
+                CURSOR_SORT_PROPERTIES
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<PaginationResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRules(UUID termTemplateId, FilterRequest<ContractTermValidationRuleDTO> filterRequest) {
+        return filterContractTermValidationRules(ScopedFilters.scope(filterRequest, termTemplateId, ContractTermValidationRuleDTO::new, ContractTermValidationRuleDTO::setTermTemplateId));
+    }
+
+    @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
+    public Mono<CursorPageResponse<ContractTermValidationRuleDTO>> filterContractTermValidationRulesByCursor(UUID termTemplateId, CursorFilterRequest<ContractTermValidationRuleDTO> filterRequest) {
+        return filterContractTermValidationRulesByCursor(ScopedFilters.scope(filterRequest, termTemplateId, ContractTermValidationRuleDTO::new, ContractTermValidationRuleDTO::setTermTemplateId));
+    }
+
     @Override
     public Mono<ContractTermValidationRuleDTO> createContractTermValidationRule(ContractTermValidationRuleDTO contractTermValidationRuleDTO) {
-        return Mono.just(contractTermValidationRuleDTO)
-                .map(mapper::toEntity)
+        return Mono.fromRunnable(() -> verify(contractTermValidationRuleDTO))
+                .then(Mono.fromCallable(() -> mapper.toEntity(contractTermValidationRuleDTO)))
                 .flatMap(repository::save)
+                .flatMap(savedRule -> validationEngine.evict(savedRule.getTermTemplateId()).thenReturn(savedRule))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ContractTermValidationRuleDTO> updateContractTermValidationRule(UUID validationRuleId, ContractTermValidationRuleDTO contractTermValidationRuleDTO) {
-        return repository.findById(validationRuleId)
+        ContractTermValidationRule updatedRule = mapper.toEntity(contractTermValidationRuleDTO);
+        updatedRule.setValidationRuleId(validationRuleId);
+        return Mono.fromRunnable(() -> verify(contractTermValidationRuleDTO))
+                .then(repository.lockTermTemplateIdByValidationRuleId(validationRuleId))
+                .flatMap(previousTemplateId -> repository.updateExisting(updatedRule)
+                        .flatMap(savedRule -> validationEngine.evict(previousTemplateId, savedRule.getTermTemplateId())
+                                .thenReturn(savedRule)))
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term validation rule not found with ID: " + validationRuleId)))
-                .flatMap(existingRule -> {
-                    ContractTermValidationRule updatedRule = mapper.toEntity(contractTermValidationRuleDTO);
-                    updatedRule.setValidationRuleId(validationRuleId);
-                    return repository.save(updatedRule);
-                })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteContractTermValidationRule(UUID validationRuleId) {
-        return repository.findById(validationRuleId)
+        return repository.deleteByIdReturning(validationRuleId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term validation rule not found with ID: " + validationRuleId)))
-                .flatMap(rule -> repository.deleteById(validationRuleId));
+                .flatMap(rule -> validationEngine.evict(rule.getTermTemplateId()));
     }
 
     @Override
+    @Transactional(readOnly = true, label = ReadReplicaRouting.REPLICA)
     public Mono<ContractTermValidationRuleDTO> getContractTermValidationRuleById(UUID validationRuleId) {
         return repository.findById(validationRuleId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Contract term validation rule not found with ID: " + validationRuleId)))
                 .map(mapper::toDTO);
     }
+
+    /**
+     * Rejects rules that cannot be compiled before they are stored, rather than on the next term write.
+     */
+    private static void verify(ContractTermValidationRuleDTO rule) {
+        TermValidatorCompiler.verify(rule.getValidationType(), rule.getValidationValue());
+    }
 }
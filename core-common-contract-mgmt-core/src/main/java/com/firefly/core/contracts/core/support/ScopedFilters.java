@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.support;
+
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import org.fireflyframework.core.filters.FilterRequest;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Pins filter requests to their parent resource (a contract, or a term template for validation rules).
+ * <p>
+ * The parent ID always becomes part of the generated predicate, combined with the caller's criteria, so that a
+ * nested listing is served by the parent's index and cannot return another parent's rows. A parent ID sent by the
+ * caller in the filter body is overridden.
+ */
+public final class ScopedFilters {
+
+    private ScopedFilters() {
+    }
+
+    /**
+     * Scopes an offset filter request to a parent.
+     *
+     * @param request the caller's request, updated in place
+     * @param parentId the parent ID from the path
+     * @param emptyFilters creates criteria for requests without any
+     * @param setParentId sets the parent ID on the criteria
+     * @param <D> the DTO type used as criteria
+     * @return the scoped request
+     */
+    public static <D> FilterRequest<D> scope(FilterRequest<D> request, UUID parentId,
+                                             Supplier<D> emptyFilters, BiConsumer<D, UUID> setParentId) {
+        if (request.getFilters() == null) {
+            request.setFilters(emptyFilters.get());
+        }
+        setParentId.accept(request.getFilters(), parentId);
+        return request;
+    }
+
+    /**
+     * Scopes a cursor filter request to a parent.
+     *
+     * @param request the caller's request, updated in place
+     * @param parentId the parent ID from the path
+     * @param emptyFilters creates criteria for requests without any
+     * @param setParentId sets the parent ID on the criteria
+     * @param <D> the DTO type used as criteria
+     * @return the scoped request
+     */
+    public static <D> CursorFilterRequest<D> scope(CursorFilterRequest<D> request, UUID parentId,
+                                                   Supplier<D> emptyFilters, BiConsumer<D, UUID> setParentId) {
+        if (request.getFilters() == null) {
+            request.setFilters(emptyFilters.get());
+        }
+        setParentId.accept(request.getFilters(), parentId);
+        return request;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.terms;
+
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable interval index over the active terms of one contract, answering "which terms were effective at T"
+ * without going back to the database.
+ * <p>
+ * Terms are grouped by template; within a template they are sorted by effective date and form an implicit
+ * balanced interval tree, each node carrying the maximum expiration date of its subtree. A lookup skips every
+ * subtree whose terms all expired before T and every subtree whose terms all start after T, so it costs
+ * O((k + 1) log n) for k effective terms out of n per template, even when an early open-ended term overlaps
+ * every later one. Semantics match
+ * {@code ContractTermDynamicRepository.findEffectiveTermsByContractIdAndDate}: both bounds are inclusive
+ * and a missing expiration date means open-ended.
+ */
+public final class EffectiveTermIndex {
+
+    public static final EffectiveTermIndex EMPTY = new EffectiveTermIndex(new TemplateTerms[0], 0);
+
+    private static final Comparator<ContractTermDynamicDTO> BY_EFFECTIVE_DATE =
+            Comparator.comparing(ContractTermDynamicDTO::getEffectiveDate);
+
+    private final TemplateTerms[] templates;
+
+    private final int size;
+
+    private EffectiveTermIndex(TemplateTerms[] templates, int size) {
+        this.templates = templates;
+        this.size = size;
+    }
+
+    /**
+     * Builds an index over the given terms; inactive terms and terms without an effective date are ignored.
+     *
+     * @param terms the terms of a single contract
+     * @return the index
+     */
+    public static EffectiveTermIndex build(List<ContractTermDynamicDTO> terms) {
+        Map<UUID, List<ContractTermDynamicDTO>> byTemplate = new LinkedHashMap<>();
+        int size = 0;
+        for (ContractTermDynamicDTO term : terms) {
+            if (Boolean.TRUE.equals(term.getIsActive()) && term.getEffectiveDate() != null) {
+                byTemplate.computeIfAbsent(term.getTermTemplateId(), id -> new ArrayList<>()).add(term);
+                size++;
+            }
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        TemplateTerms[] templates = new TemplateTerms[byTemplate.size()];
+        int i = 0;
+        for (List<ContractTermDynamicDTO> templateTerms : byTemplate.values()) {
+            templates[i++] = TemplateTerms.of(templateTerms);
+        }
+        return new EffectiveTermIndex(templates, size);
+    }
+
+    /**
+     * Returns the terms effective at the given point in time, grouped by template and ordered by effective date.
+     *
+     * @param at the point in time
+     * @return the effective terms, empty if none
+     */
+    public List<ContractTermDynamicDTO> effectiveAt(LocalDateTime at) {
+        List<ContractTermDynamicDTO> effective = new ArrayList<>(templates.length);
+        for (TemplateTerms template : templates) {
+            template.collectEffectiveAt(at, effective);
+        }
+        return effective;
+    }
+
+    /**
+     * Whether the index contains the term with the given ID.
+     */
+    public boolean containsTerm(UUID termId) {
+        for (TemplateTerms template : templates) {
+            for (ContractTermDynamicDTO term : template.terms) {
+                if (termId.equals(term.getTermId())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of indexed terms.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Terms of one template, sorted by effective date. The sorted array is read as a balanced binary tree rooted
+     * at the middle of each range, and {@code maxEnds} holds the latest expiration date of each node's subtree.
+     */
+    private static final class TemplateTerms {
+
+        private final ContractTermDynamicDTO[] terms;
+
+        private final LocalDateTime[] starts;
+
+        private final LocalDateTime[] ends;
+
+        private final LocalDateTime[] maxEnds;
+
+        private TemplateTerms(ContractTermDynamicDTO[] terms) {
+            this.terms = terms;
+            this.starts = new LocalDateTime[terms.length];
+            this.ends = new LocalDateTime[terms.length];
+            this.maxEnds = new LocalDateTime[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                starts[i] = terms[i].getEffectiveDate();
+                ends[i] = terms[i].getExpirationDate() != null ? terms[i].getExpirationDate() : LocalDateTime.MAX;
+            }
+            computeMaxEnds(0, terms.length - 1);
+        }
+
+        static TemplateTerms of(List<ContractTermDynamicDTO> terms) {
+            ContractTermDynamicDTO[] sorted = terms.toArray(new ContractTermDynamicDTO[0]);
+            Arrays.sort(sorted, BY_EFFECTIVE_DATE);
+            return new TemplateTerms(sorted);
+        }
+
+        void collectEffectiveAt(LocalDateTime at, List<ContractTermDynamicDTO> effective) {
+            collect(0, terms.length - 1, at, effective);
+        }
+
+        private LocalDateTime computeMaxEnds(int low, int high) {
+            if (low > high) {
+                return LocalDateTime.MIN;
+            }
+            int mid = (low + high) >>> 1;
+            LocalDateTime maxEnd = ends[mid];
+            LocalDateTime left = computeMaxEnds(low, mid - 1);
+            LocalDateTime right = computeMaxEnds(mid + 1, high);
+            if (left.isAfter(maxEnd)) {
+                maxEnd = left;
+            }
+            if (right.isAfter(maxEnd)) {
+                maxEnd = right;
+            }
+            maxEnds[mid] = maxEnd;
+            return maxEnd;
+        }
+
+        // In-order walk, so terms are collected by effective date
+        private void collect(int low, int high, LocalDateTime at, List<ContractTermDynamicDTO> effective) {
+            if (low > high) {
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            // Every term in this subtree expired before `at`
+            if (maxEnds[mid].isBefore(at)) {
+                return;
+            }
+            collect(low, mid - 1, at, effective);
+            // This term and the whole right subtree start after `at`
+            if (starts[mid].isAfter(at)) {
+                return;
+            }
+            if (!ends[mid].isBefore(at)) {
+                effective.add(terms[mid]);
+            }
+            collect(mid + 1, high, at, effective);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.tracing;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trace of one request, carried in the Reactor context from the web filter down to the repositories.
+ * <p>
+ * Every request gets a trace id so that warnings (such as slow queries) can be correlated with it, but only
+ * sampled traces log their queries and a per-request summary. Query counters are updated from whichever thread
+ * completes the query, hence the adders.
+ */
+public final class RequestTrace {
+
+    private static final Object CONTEXT_KEY = RequestTrace.class;
+
+    private final String traceId;
+
+    private final boolean sampled;
+
+    private final long startNanos = System.nanoTime();
+
+    private final LongAdder queries = new LongAdder();
+
+    private final LongAdder queryNanos = new LongAdder();
+
+    RequestTrace(String traceId, boolean sampled) {
+        this.traceId = traceId;
+        this.sampled = sampled;
+    }
+
+    /**
+     * Returns the trace of the current request, if any.
+     *
+     * @param context the Reactor context of the subscriber
+     * @return the trace, or {@code null} outside of a traced request
+     */
+    public static RequestTrace from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    /**
+     * Returns the trace of the current request, for service code that wants to add its own diagnostics.
+     *
+     * @return a Mono emitting the trace, or empty outside of a traced request
+     */
+    public static Mono<RequestTrace> current() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(from(context)));
+    }
+
+    /**
+     * Adds this trace to a Reactor context.
+     *
+     * @param context the context to extend
+     * @return the context carrying this trace
+     */
+    public Context putInto(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    /**
+     * Records one completed repository query.
+     *
+     * @param nanos the query duration
+     */
+    public void recordQuery(long nanos) {
+        queries.increment();
+        queryNanos.add(nanos);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public long getQueryCount() {
+        return queries.sum();
+    }
+
+    public long getQueryMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(queryNanos.sum());
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
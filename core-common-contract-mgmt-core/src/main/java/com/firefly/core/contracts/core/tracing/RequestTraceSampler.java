@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Starts request traces and decides which of them are sampled.
+ * <p>
+ * A request is sampled with probability {@code contracts.tracing.sample-rate}, or always when the caller asks for
+ * it and {@code contracts.tracing.allow-forced-sampling} is on. A trace id supplied by the caller is kept when it
+ * is well formed, so the service's logs line up with the caller's.
+ */
+@Component
+public class RequestTraceSampler {
+
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[A-Za-z0-9-]{8,64}");
+
+    @Value("${contracts.tracing.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${contracts.tracing.allow-forced-sampling:true}")
+    private boolean allowForcedSampling;
+
+    /**
+     * Starts the trace of a request.
+     *
+     * @param incomingTraceId the trace id sent by the caller, may be {@code null}
+     * @param samplingRequested whether the caller asked for the request to be sampled
+     * @return the new trace
+     */
+    public RequestTrace start(String incomingTraceId, boolean samplingRequested) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = incomingTraceId != null && VALID_TRACE_ID.matcher(incomingTraceId).matches()
+                ? incomingTraceId
+                : HexFormat.of().toHexDigits(random.nextLong());
+        boolean sampled = (samplingRequested && allowForcedSampling)
+                || (sampleRate > 0 && random.nextDouble() < sampleRate);
+        return new RequestTrace(traceId, sampled);
+    }
+}
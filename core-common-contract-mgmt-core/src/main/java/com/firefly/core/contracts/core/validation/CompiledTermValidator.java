@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.validation;
+
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.enums.TermValidationTypeEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, pre-compiled chain of validation checks for a single term template.
+ * <p>
+ * Instances are built once by {@link TermValidatorCompiler} and shared between requests;
+ * evaluating a passing term allocates nothing.
+ */
+public final class CompiledTermValidator {
+
+    /**
+     * Validator used for templates without any rules.
+     */
+    public static final CompiledTermValidator EMPTY = new CompiledTermValidator(new Check[0]);
+
+    private final Check[] checks;
+
+    CompiledTermValidator(Check[] checks) {
+        this.checks = checks;
+    }
+
+    /**
+     * Returns the message of the first failing check, or {@code null} when the term is valid.
+     *
+     * @param term the term to validate
+     * @return the first violation message, or {@code null}
+     */
+    public String firstViolation(ContractTermDynamicDTO term) {
+        for (Check check : checks) {
+            if (!check.predicate().test(term)) {
+                return check.message();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the messages of all failing checks.
+     *
+     * @param term the term to validate
+     * @return the violation messages, empty when the term is valid
+     */
+    public List<String> violations(ContractTermDynamicDTO term) {
+        List<String> violations = null;
+        for (Check check : checks) {
+            if (!check.predicate().test(term)) {
+                if (violations == null) {
+                    violations = new ArrayList<>(checks.length);
+                }
+                violations.add(check.message());
+            }
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    /**
+     * Number of compiled checks in this chain.
+     */
+    public int size() {
+        return checks.length;
+    }
+
+    public boolean isEmpty() {
+        return checks.length == 0;
+    }
+
+    /**
+     * A single compiled check with its pre-rendered error message.
+     */
+    record Check(TermValidationTypeEnum type, Predicate<ContractTermDynamicDTO> predicate, String message) {
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.validation;
+
+import com.firefly.core.contracts.core.cache.ContractTermTemplateCache;
+import com.firefly.core.contracts.core.cache.GenerationGuardedCache;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.models.repositories.ContractTermValidationRuleRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Validates contract term values against the rules of their term template.
+ * <p>
+ * Rules are loaded from {@code contract_term_validation_rule} and the template's
+ * {@code validation_rules} JSONB, compiled once by {@link TermValidatorCompiler} and cached per
+ * term template ID, up to {@code contracts.cache.term-validators.maximum-size} templates. The rule and
+ * template services evict entries whenever they change.
+ */
+@Component
+public class ContractTermValidationEngine {
+
+    @Autowired
+    private ContractTermValidationRuleRepository ruleRepository;
+
+    @Autowired
+    private ContractTermTemplateCache templateCache;
+
+    @Value("${contracts.cache.term-validators.maximum-size:2000}")
+    private long maximumSize;
+
+    private GenerationGuardedCache<UUID, CompiledTermValidator> validators;
+
+    @PostConstruct
+    void init() {
+        validators = new GenerationGuardedCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build());
+    }
+
+    /**
+     * Validates a term against its template rules.
+     *
+     * @param term the term to validate
+     * @return a Mono emitting the term when valid, or erroring with {@link TermValidationException}
+     */
+    public Mono<ContractTermDynamicDTO> validate(ContractTermDynamicDTO term) {
+        UUID termTemplateId = term.getTermTemplateId();
+        if (termTemplateId == null) {
+            return Mono.just(term);
+        }
+        return getValidator(termTemplateId)
+                .flatMap(validator -> {
+                    List<String> violations = validator.violations(term);
+                    return violations.isEmpty()
+                            ? Mono.just(term)
+                            : Mono.error(new TermValidationException(termTemplateId, violations));
+                });
+    }
+
+    /**
+     * Returns the compiled validator for a term template, loading and compiling it on a cache miss.
+     *
+     * @param termTemplateId the term template ID
+     * @return a Mono emitting the compiled validator
+     */
+    public Mono<CompiledTermValidator> getValidator(UUID termTemplateId) {
+        CompiledTermValidator cached = validators.getIfPresent(termTemplateId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return validators.load(termTemplateId, Mono.zip(
+                        ruleRepository.findByTermTemplateId(termTemplateId).collectList(),
+                        templateCache.getById(termTemplateId).map(Optional::of).defaultIfEmpty(Optional.empty()))
+                .map(tuple -> TermValidatorCompiler.compile(tuple.getT2().orElse(null), tuple.getT1())));
+    }
+
+    /**
+     * Evicts the compiled validators of the given term templates now and again once the current transaction
+     * completes. A rule moved to another template passes both its previous and its new template.
+     *
+     * @param termTemplateIds the term template IDs; {@code null} entries are ignored
+     * @return a Mono that completes when the eviction has been applied or scheduled
+     */
+    public Mono<Void> evict(UUID... termTemplateIds) {
+        return GenerationGuardedCache.evictNowAndAfterCompletion(() -> {
+            for (UUID termTemplateId : termTemplateIds) {
+                validators.invalidate(termTemplateId);
+            }
+        });
+    }
+
+    /**
+     * Drops the compiled validator of a term template.
+     *
+     * @param termTemplateId the term template ID
+     */
+    public void invalidate(UUID termTemplateId) {
+        validators.invalidate(termTemplateId);
+    }
+
+    /**
+     * Drops all compiled validators.
+     */
+    public void invalidateAll() {
+        validators.invalidateAll();
+    }
+}
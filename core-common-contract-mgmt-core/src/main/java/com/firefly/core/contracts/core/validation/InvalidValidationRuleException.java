@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.validation;
+
+/**
+ * Raised when a validation rule cannot be compiled, such as a REGEX_PATTERN rule with an invalid regular
+ * expression. Rules are compiled when they are saved, so a broken rule is rejected there instead of failing
+ * every later write of a term for its template.
+ */
+public class InvalidValidationRuleException extends IllegalArgumentException {
+
+    public InvalidValidationRuleException(String message) {
+        super(message);
+    }
+
+    public InvalidValidationRuleException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
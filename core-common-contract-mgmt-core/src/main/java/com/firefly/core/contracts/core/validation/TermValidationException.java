@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.validation;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Raised when a contract term does not satisfy the validation rules of its term template.
+ */
+@Getter
+public class TermValidationException extends RuntimeException {
+
+    private final UUID termTemplateId;
+
+    private final List<String> violations;
+
+    public TermValidationException(UUID termTemplateId, List<String> violations) {
+        super("Contract term is invalid for term template " + termTemplateId + ": " + String.join("; ", violations));
+        this.termTemplateId = termTemplateId;
+        this.violations = List.copyOf(violations);
+    }
+}
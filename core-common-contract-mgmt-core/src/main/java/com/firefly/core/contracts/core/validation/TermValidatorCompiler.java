@@ -0,0 +1,414 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.enums.TermValidationTypeEnum;
+import com.firefly.core.contracts.models.entities.ContractTermTemplate;
+import com.firefly.core.contracts.models.entities.ContractTermValidationRule;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles {@link ContractTermValidationRule} rows and the JSONB {@code validation_rules} of a
+ * {@link ContractTermTemplate} into a {@link CompiledTermValidator}.
+ * <p>
+ * All parsing (regular expressions, numeric and date bounds, enumerations) happens here, so the
+ * resulting checks only compare already-typed values. Supported {@code validationValue} shapes:
+ * <ul>
+ *   <li>REQUIRED: {@code {"required": true}} or no value</li>
+ *   <li>MIN_LENGTH / MAX_LENGTH: {@code {"minLength": 5, "maxLength": 50}}, {@code {"min": 5}} or a bare number</li>
+ *   <li>MIN_VALUE / MAX_VALUE: {@code {"min": 0, "max": 100}} or a bare number</li>
+ *   <li>REGEX_PATTERN: {@code {"pattern": "^[A-Z]+$", "flags": "i"}} or a bare string</li>
+ *   <li>ENUM_VALUES: {@code {"values": ["A", "B"]}}, a bare array or a comma separated string</li>
+ *   <li>DATE_RANGE: {@code {"min": "2024-01-01", "max": "2024-12-31T23:59:59"}} (also {@code from}/{@code to})</li>
+ * </ul>
+ * Legacy values migrated by V6 ({@code {"value": "..."}}) are accepted for every type.
+ * CUSTOM_FUNCTION rules cannot be evaluated in-process and are ignored.
+ */
+public final class TermValidatorCompiler {
+
+    private TermValidatorCompiler() {
+    }
+
+    /**
+     * Compiles the rules of a template into an immutable validator.
+     *
+     * @param template the term template, may be {@code null} when it could not be found
+     * @param rules the validation rule rows attached to the template
+     * @return the compiled validator, {@link CompiledTermValidator#EMPTY} when there is nothing to check
+     * @throws InvalidValidationRuleException when a rule cannot be compiled (e.g. an invalid regular expression)
+     */
+    public static CompiledTermValidator compile(ContractTermTemplate template, List<ContractTermValidationRule> rules) {
+        List<CompiledTermValidator.Check> checks = new ArrayList<>();
+        if (rules != null) {
+            for (ContractTermValidationRule rule : rules) {
+                addChecks(checks, rule.getValidationType(), rule.getValidationValue(), rule.getErrorMessage());
+            }
+        }
+        if (template != null && template.getValidationRules() != null) {
+            addTemplateChecks(checks, template.getValidationRules());
+        }
+        return checks.isEmpty()
+                ? CompiledTermValidator.EMPTY
+                : new CompiledTermValidator(checks.toArray(new CompiledTermValidator.Check[0]));
+    }
+
+    /**
+     * Checks that a validation rule row compiles, without building a validator.
+     *
+     * @param type the validation type of the rule
+     * @param value the validation value of the rule
+     * @throws InvalidValidationRuleException when the rule cannot be compiled
+     */
+    public static void verify(TermValidationTypeEnum type, JsonNode value) {
+        addChecks(new ArrayList<>(), type, value, null);
+    }
+
+    /**
+     * Checks that the JSONB {@code validation_rules} of a term template compile, without building a validator.
+     *
+     * @param validationRules the validation rules of the template, may be {@code null}
+     * @throws InvalidValidationRuleException when a rule cannot be compiled
+     */
+    public static void verifyTemplateRules(JsonNode validationRules) {
+        if (validationRules != null) {
+            addTemplateChecks(new ArrayList<>(), validationRules);
+        }
+    }
+
+    private static void addTemplateChecks(List<CompiledTermValidator.Check> checks, JsonNode validationRules) {
+        if (validationRules.isArray()) {
+            for (JsonNode rule : validationRules) {
+                addTemplateRule(checks, rule);
+            }
+        } else if (validationRules.isObject()) {
+            if (validationRules.path("rules").isArray()) {
+                addTemplateChecks(checks, validationRules.get("rules"));
+                return;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = validationRules.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                TermValidationTypeEnum type = parseType(field.getKey());
+                if (type != null) {
+                    addChecks(checks, type, field.getValue(), null);
+                }
+            }
+        }
+    }
+
+    private static void addTemplateRule(List<CompiledTermValidator.Check> checks, JsonNode rule) {
+        TermValidationTypeEnum type = parseType(text(rule, "validationType", "type"));
+        if (type == null) {
+            return;
+        }
+        JsonNode value = rule.has("validationValue") ? rule.get("validationValue") : rule.get("value");
+        addChecks(checks, type, value, text(rule, "errorMessage", "message"));
+    }
+
+    private static void addChecks(List<CompiledTermValidator.Check> checks,
+                                  TermValidationTypeEnum type,
+                                  JsonNode value,
+                                  String errorMessage) {
+        if (type == null) {
+            return;
+        }
+        switch (type) {
+            case REQUIRED -> {
+                if (value == null || value.isNull() || value.path("required").asBoolean(true)) {
+                    checks.add(check(type, TermValidatorCompiler::hasValue, errorMessage, "Term value is required"));
+                }
+            }
+            case MIN_LENGTH -> {
+                Integer min = integer(value, "minLength", "min", "length", "value");
+                if (min != null) {
+                    int bound = min;
+                    checks.add(check(type, term -> {
+                        String text = term.getTermValueText();
+                        return text == null || text.length() >= bound;
+                    }, errorMessage, "Term value must be at least " + bound + " characters long"));
+                }
+            }
+            case MAX_LENGTH -> {
+                Integer max = integer(value, "maxLength", "max", "length", "value");
+                if (max != null) {
+                    int bound = max;
+                    checks.add(check(type, term -> {
+                        String text = term.getTermValueText();
+                        return text == null || text.length() <= bound;
+                    }, errorMessage, "Term value must be at most " + bound + " characters long"));
+                }
+            }
+            case MIN_VALUE, MAX_VALUE -> {
+                boolean lower = type == TermValidationTypeEnum.MIN_VALUE;
+                BigDecimal min = null;
+                BigDecimal max = null;
+                if (value != null && value.isObject()) {
+                    // A range object on either rule type carries both bounds
+                    min = decimal(value, "min");
+                    max = decimal(value, "max");
+                    BigDecimal legacy = decimal(value, "value");
+                    if (lower && min == null) {
+                        min = legacy;
+                    } else if (!lower && max == null) {
+                        max = legacy;
+                    }
+                } else if (lower) {
+                    min = decimal(value);
+                } else {
+                    max = decimal(value);
+                }
+                addRangeCheck(checks, type, min, max, errorMessage);
+            }
+            case REGEX_PATTERN -> {
+                String pattern = value != null && value.isTextual() ? value.asText() : text(value, "pattern", "value");
+                if (pattern != null) {
+                    Pattern compiled = compilePattern(pattern, text(value, "flags"));
+                    checks.add(check(type, term -> {
+                        String text = term.getTermValueText();
+                        return text == null || compiled.matcher(text).matches();
+                    }, errorMessage, "Term value must match pattern " + pattern));
+                }
+            }
+            case ENUM_VALUES -> {
+                Set<String> allowed = enumValues(value);
+                if (!allowed.isEmpty()) {
+                    checks.add(check(type, term -> {
+                        String text = term.getTermValueText();
+                        return text == null || allowed.contains(text);
+                    }, errorMessage, "Term value must be one of " + allowed));
+                }
+            }
+            case DATE_RANGE -> {
+                LocalDateTime from = dateBound(text(value, "min", "from", "start"));
+                LocalDateTime to = dateBound(text(value, "max", "to", "end"));
+                if (from != null || to != null) {
+                    checks.add(check(type, term -> {
+                        String text = term.getTermValueText();
+                        if (text == null) {
+                            return true;
+                        }
+                        LocalDateTime date = dateTime(text);
+                        return date != null
+                                && (from == null || !date.isBefore(from))
+                                && (to == null || !date.isAfter(to));
+                    }, errorMessage, "Term value must be a date between " + (from == null ? "-" : from)
+                            + " and " + (to == null ? "-" : to)));
+                }
+            }
+            case CUSTOM_FUNCTION -> {
+                // Custom functions are evaluated by the owning channel, not in-process
+            }
+        }
+    }
+
+    private static void addRangeCheck(List<CompiledTermValidator.Check> checks,
+                                      TermValidationTypeEnum type,
+                                      BigDecimal min,
+                                      BigDecimal max,
+                                      String errorMessage) {
+        if (min == null && max == null) {
+            return;
+        }
+        String defaultMessage = min != null && max != null
+                ? "Term value must be between " + min.toPlainString() + " and " + max.toPlainString()
+                : min != null
+                ? "Term value must be greater than or equal to " + min.toPlainString()
+                : "Term value must be less than or equal to " + max.toPlainString();
+        checks.add(check(type, term -> {
+            BigDecimal number = numericValue(term);
+            if (number == null) {
+                return term.getTermValueText() == null;
+            }
+            return (min == null || number.compareTo(min) >= 0) && (max == null || number.compareTo(max) <= 0);
+        }, errorMessage, defaultMessage));
+    }
+
+    private static CompiledTermValidator.Check check(TermValidationTypeEnum type,
+                                                     Predicate<ContractTermDynamicDTO> predicate,
+                                                     String errorMessage,
+                                                     String defaultMessage) {
+        String message = errorMessage == null || errorMessage.isBlank() ? defaultMessage : errorMessage;
+        return new CompiledTermValidator.Check(type, predicate, message);
+    }
+
+    private static boolean hasValue(ContractTermDynamicDTO term) {
+        String text = term.getTermValueText();
+        if (text != null && !text.isBlank()) {
+            return true;
+        }
+        JsonNode json = term.getTermValueJson();
+        return term.getTermValueNumeric() != null || (json != null && !json.isNull() && !json.isMissingNode());
+    }
+
+    private static BigDecimal numericValue(ContractTermDynamicDTO term) {
+        if (term.getTermValueNumeric() != null) {
+            return term.getTermValueNumeric();
+        }
+        String text = term.getTermValueText();
+        if (text == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Pattern compilePattern(String pattern, String flags) {
+        int mask = 0;
+        if (flags != null) {
+            for (char flag : flags.toCharArray()) {
+                switch (flag) {
+                    case 'i' -> mask |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+                    case 'm' -> mask |= Pattern.MULTILINE;
+                    case 's' -> mask |= Pattern.DOTALL;
+                    case 'x' -> mask |= Pattern.COMMENTS;
+                    default -> {
+                    }
+                }
+            }
+        }
+        try {
+            return Pattern.compile(pattern, mask);
+        } catch (PatternSyntaxException e) {
+            throw new InvalidValidationRuleException("Invalid REGEX_PATTERN validation rule: " + pattern, e);
+        }
+    }
+
+    private static Set<String> enumValues(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return Set.of();
+        }
+        JsonNode values = value.isArray() ? value : value.has("values") ? value.get("values") : value.get("value");
+        if (values == null && value.isTextual()) {
+            values = value;
+        }
+        Set<String> allowed = new HashSet<>();
+        if (values != null && values.isArray()) {
+            values.forEach(v -> allowed.add(v.asText()));
+        } else if (values != null && values.isTextual()) {
+            for (String v : values.asText().split(",")) {
+                if (!v.isBlank()) {
+                    allowed.add(v.trim());
+                }
+            }
+        }
+        return Set.copyOf(allowed);
+    }
+
+    private static TermValidationTypeEnum parseType(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return TermValidationTypeEnum.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String text(JsonNode node, String... fields) {
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        for (String field : fields) {
+            JsonNode value = node.get(field);
+            if (value != null && !value.isNull()) {
+                return value.asText();
+            }
+        }
+        return null;
+    }
+
+    private static Integer integer(JsonNode node, String... fields) {
+        BigDecimal value = decimal(node, fields);
+        return value == null ? null : value.intValue();
+    }
+
+    private static BigDecimal decimal(JsonNode node, String... fields) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.decimalValue();
+        }
+        if (node.isTextual()) {
+            return parseDecimal(node.asText());
+        }
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            JsonNode value = node.get(field);
+            if (value != null && value.isNumber()) {
+                return value.decimalValue();
+            }
+            if (value != null && value.isTextual()) {
+                return parseDecimal(value.asText());
+            }
+        }
+        return null;
+    }
+
+    private static BigDecimal parseDecimal(String text) {
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidValidationRuleException("Invalid numeric bound in validation rule: " + text, e);
+        }
+    }
+
+    private static LocalDateTime dateBound(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        LocalDateTime bound = dateTime(text);
+        if (bound == null) {
+            throw new InvalidValidationRuleException("Invalid date bound in DATE_RANGE validation rule: " + text);
+        }
+        return bound;
+    }
+
+    private static LocalDateTime dateTime(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return text.length() <= 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
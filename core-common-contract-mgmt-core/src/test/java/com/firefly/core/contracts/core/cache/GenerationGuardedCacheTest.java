@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationGuardedCacheTest {
+
+    private GenerationGuardedCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GenerationGuardedCache<>(Caffeine.newBuilder().<String, String>build());
+    }
+
+    @Test
+    void loadCachesTheLoadedValue() {
+        StepVerifier.create(cache.load("a", Mono.just("value")))
+                .expectNext("value")
+                .verifyComplete();
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("value");
+    }
+
+    @Test
+    void loadRacingWithAnEvictionOfItsKeyIsNotCached() {
+        Sinks.One<String> source = Sinks.one();
+        StepVerifier.create(cache.load("a", source.asMono()))
+                .then(() -> cache.invalidate("a"))
+                .then(() -> source.tryEmitValue("stale"))
+                .expectNext("stale")
+                .verifyComplete();
+
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+
+    @Test
+    void evictionOfAnotherKeyDoesNotDiscardTheLoad() {
+        Sinks.One<String> source = Sinks.one();
+        StepVerifier.create(cache.load("a", source.asMono()))
+                .then(() -> cache.invalidate("b"))
+                .then(() -> source.tryEmitValue("value"))
+                .expectNext("value")
+                .verifyComplete();
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("value");
+    }
+
+    @Test
+    void invalidateAllDiscardsEveryLoadInFlight() {
+        Sinks.One<String> source = Sinks.one();
+        cache.put("b", "other");
+        StepVerifier.create(cache.load("a", source.asMono()))
+                .then(cache::invalidateAll)
+                .then(() -> source.tryEmitValue("stale"))
+                .expectNext("stale")
+                .verifyComplete();
+
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.getIfPresent("b")).isNull();
+    }
+
+    @Test
+    void generationOfAKeyChangesOnlyWhenItsStripeIsEvicted() {
+        long generation = cache.generation("a");
+
+        cache.invalidate("b");
+        assertThat(cache.isCurrent("a", generation)).isTrue();
+
+        cache.invalidate("a");
+        assertThat(cache.isCurrent("a", generation)).isFalse();
+    }
+
+    @Test
+    void invalidateIfDropsMatchingValuesOnly() {
+        cache.put("a", "keep");
+        cache.put("b", "drop");
+
+        cache.invalidateIf("drop"::equals);
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("keep");
+        assertThat(cache.getIfPresent("b")).isNull();
+    }
+
+    @Test
+    void evictOutsideATransactionAppliesImmediately() {
+        cache.put("a", "value");
+
+        StepVerifier.create(cache.evict("a")).verifyComplete();
+
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+}
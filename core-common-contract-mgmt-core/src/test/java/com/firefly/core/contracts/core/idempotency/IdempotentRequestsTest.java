@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.contracts.models.entities.IdempotencyKey;
+import com.firefly.core.contracts.models.repositories.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentRequestsTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private static final String SCOPE = "contract-party";
+
+    private static final String KEY = "3f9d2c1e-retry";
+
+    private static final UUID KEY_ID = UUID.nameUUIDFromBytes((SCOPE + ':' + KEY).getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private IdempotentRequests idempotentRequests;
+
+    private final AtomicInteger creates = new AtomicInteger();
+
+    record Party(UUID contractId, String role) {
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(idempotentRequests, "ttl", TTL);
+        ReflectionTestUtils.setField(idempotentRequests, "cacheMaximumSize", 100L);
+        idempotentRequests.init();
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void claimsANewKeyAndReplaysItsResponseFromTheCache() throws Exception {
+        Party request = new Party(UUID.randomUUID(), "BORROWER");
+        Party created = new Party(request.contractId(), "BORROWER");
+        when(repository.claim(eq(KEY_ID), eq(requestHash(request)), any(), any())).thenReturn(Mono.just(KEY_ID));
+        when(repository.complete(KEY_ID, objectMapper.writeValueAsString(created))).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(execute(request, created))
+                .expectNext(created)
+                .verifyComplete();
+        StepVerifier.create(execute(request, created))
+                .expectNext(created)
+                .verifyComplete();
+
+        assertThat(creates).hasValue(1);
+        verify(repository, times(1)).claim(eq(KEY_ID), any(), any(), any());
+        verify(repository, never()).findUnexpired(any(), any());
+    }
+
+    @Test
+    void claimsKeysUntilTheTtlHasPassed() {
+        Party request = new Party(UUID.randomUUID(), "BORROWER");
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(repository.claim(eq(KEY_ID), any(), expiresAt.capture(), now.capture())).thenReturn(Mono.just(KEY_ID));
+        when(repository.complete(eq(KEY_ID), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(execute(request, request))
+                .expectNext(request)
+                .verifyComplete();
+
+        assertThat(Duration.between(now.getValue(), expiresAt.getValue())).isEqualTo(TTL);
+    }
+
+    @Test
+    void replaysTheStoredResponseOfAKeyClaimedElsewhere() throws Exception {
+        Party request = new Party(UUID.randomUUID(), "GUARANTOR");
+        Party stored = new Party(request.contractId(), "GUARANTOR");
+        when(repository.claim(eq(KEY_ID), any(), any(), any())).thenReturn(Mono.empty());
+        when(repository.findUnexpired(eq(KEY_ID), any())).thenReturn(Mono.just(IdempotencyKey.builder()
+                .idempotencyKeyId(KEY_ID)
+                .requestHash(requestHash(request))
+                .responseBody(objectMapper.writeValueAsString(stored))
+                .build()));
+
+        StepVerifier.create(execute(request, new Party(request.contractId(), "OTHER")))
+                .expectNext(stored)
+                .verifyComplete();
+
+        assertThat(creates).hasValue(0);
+        verify(repository, never()).complete(any(), any());
+    }
+
+    @Test
+    void rejectsAKeyWhoseStoredResponseHasExpired() {
+        Party request = new Party(UUID.randomUUID(), "BORROWER");
+        when(repository.claim(eq(KEY_ID), any(), any(), any())).thenReturn(Mono.empty());
+        when(repository.findUnexpired(eq(KEY_ID), any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(execute(request, request))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(IdempotencyKeyConflictException.class)
+                        .hasMessageContaining("cannot be replayed"))
+                .verify();
+
+        assertThat(creates).hasValue(0);
+    }
+
+    @Test
+    void rejectsAKeyStoredForADifferentRequest() throws Exception {
+        Party original = new Party(UUID.randomUUID(), "BORROWER");
+        Party changed = new Party(original.contractId(), "GUARANTOR");
+        when(repository.claim(eq(KEY_ID), any(), any(), any())).thenReturn(Mono.empty());
+        when(repository.findUnexpired(eq(KEY_ID), any())).thenReturn(Mono.just(IdempotencyKey.builder()
+                .idempotencyKeyId(KEY_ID)
+                .requestHash(requestHash(original))
+                .responseBody(objectMapper.writeValueAsString(original))
+                .build()));
+
+        StepVerifier.create(execute(changed, changed))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(IdempotencyKeyConflictException.class)
+                        .hasMessageContaining("different request"))
+                .verify();
+
+        assertThat(creates).hasValue(0);
+    }
+
+    @Test
+    void rejectsACachedKeySentAgainWithADifferentRequest() {
+        Party original = new Party(UUID.randomUUID(), "BORROWER");
+        when(repository.claim(eq(KEY_ID), any(), any(), any())).thenReturn(Mono.just(KEY_ID));
+        when(repository.complete(eq(KEY_ID), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(execute(original, original))
+                .expectNext(original)
+                .verifyComplete();
+        StepVerifier.create(execute(new Party(original.contractId(), "GUARANTOR"), original))
+                .expectError(IdempotencyKeyConflictException.class)
+                .verify();
+
+        assertThat(creates).hasValue(1);
+        verify(repository, times(1)).claim(eq(KEY_ID), any(), any(), any());
+    }
+
+    private Mono<Party> execute(Party request, Party response) {
+        return idempotentRequests.execute(SCOPE, KEY, request, Party.class, () -> {
+            creates.incrementAndGet();
+            return Mono.just(response);
+        });
+    }
+
+    private UUID requestHash(Party request) throws Exception {
+        return UUID.nameUUIDFromBytes(objectMapper.writeValueAsBytes(request));
+    }
+}
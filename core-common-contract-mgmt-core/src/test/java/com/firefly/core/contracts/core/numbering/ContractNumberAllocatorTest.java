@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.numbering;
+
+import com.firefly.core.contracts.models.repositories.ContractRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContractNumberAllocatorTest {
+
+    private static final UUID LOAN_CATALOG = UUID.fromString("5f0c4b6e-2f4a-4c55-9c1e-7f0d2b8a1e33");
+
+    @Mock
+    private ContractRepository repository;
+
+    @Spy
+    private ContractNumberingProperties properties = new ContractNumberingProperties();
+
+    @InjectMocks
+    private ContractNumberAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        properties.getFormats().put(LOAN_CATALOG, "LN-%2$tY-%1$08d");
+        allocator.init();
+    }
+
+    @Test
+    void rendersNumbersWithTheDefaultAndTheProductCatalogFormats() {
+        when(repository.findContractNumberBlockSize()).thenReturn(Mono.just(1000L));
+        when(repository.nextContractNumberBlock()).thenReturn(Mono.just(12001L));
+
+        StepVerifier.create(allocator.allocate(null))
+                .expectNext("CTR-0000012001")
+                .verifyComplete();
+        StepVerifier.create(allocator.allocate(LOAN_CATALOG))
+                .expectNext("LN-" + LocalDate.now().getYear() + "-00012002")
+                .verifyComplete();
+        StepVerifier.create(allocator.allocate(UUID.randomUUID()))
+                .expectNext("CTR-0000012003")
+                .verifyComplete();
+    }
+
+    @Test
+    void leasesANewBlockOnceTheCurrentOneIsExhausted() {
+        when(repository.findContractNumberBlockSize()).thenReturn(Mono.just(2L));
+        when(repository.nextContractNumberBlock()).thenReturn(Mono.just(1L), Mono.just(3L), Mono.just(5L));
+
+        StepVerifier.create(Flux.range(0, 5).concatMap(i -> allocator.allocate(null)))
+                .expectNext("CTR-0000000001", "CTR-0000000002", "CTR-0000000003", "CTR-0000000004", "CTR-0000000005")
+                .verifyComplete();
+
+        verify(repository, times(3)).nextContractNumberBlock();
+        verify(repository, times(1)).findContractNumberBlockSize();
+    }
+
+    @Test
+    void skipsNumbersLeftInABlockLeasedByAnotherInstance() {
+        when(repository.findContractNumberBlockSize()).thenReturn(Mono.just(2L));
+        // another instance leased [3, 5) in between
+        when(repository.nextContractNumberBlock()).thenReturn(Mono.just(1L), Mono.just(5L));
+
+        StepVerifier.create(Flux.range(0, 3).concatMap(i -> allocator.allocate(null)))
+                .expectNext("CTR-0000000001", "CTR-0000000002", "CTR-0000000005")
+                .verifyComplete();
+    }
+
+    @Test
+    void failsWhenTheSequenceIsMissing() {
+        when(repository.findContractNumberBlockSize()).thenReturn(Mono.empty());
+
+        StepVerifier.create(allocator.allocate(null))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    void recognisesNumbersInAnAllocatorFormat() {
+        assertThat(allocator.matchesAllocatedFormat("CTR-0000000001")).isTrue();
+        assertThat(allocator.matchesAllocatedFormat("CTR-12345678901")).isTrue();
+        assertThat(allocator.matchesAllocatedFormat("LN-2024-00012001")).isTrue();
+        assertThat(allocator.matchesAllocatedFormat("CTR-ABC")).isFalse();
+        assertThat(allocator.matchesAllocatedFormat("LN-2024-X")).isFalse();
+        assertThat(allocator.matchesAllocatedFormat("ACME/2024/17")).isFalse();
+    }
+
+    @Test
+    void rejectsFormatsWithoutTheNumber() {
+        properties.setDefaultFormat("CTR-%2$tY");
+
+        assertThatThrownBy(allocator::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsInvalidFormats() {
+        properties.setDefaultFormat("CTR-%q");
+
+        assertThatThrownBy(allocator::init).isInstanceOf(IllegalStateException.class);
+    }
+}
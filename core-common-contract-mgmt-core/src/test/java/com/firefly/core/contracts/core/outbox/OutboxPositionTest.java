@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxPositionTest {
+
+    @Test
+    void parseReadsBackTheRenderedPosition() {
+        OutboxPosition position = new OutboxPosition(1234L, 56L);
+
+        assertThat(position.toString()).isEqualTo("1234-56");
+        assertThat(OutboxPosition.parse(position.toString())).isEqualTo(position);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "42", "-42", "42-", "a-1", "1-b", "1.5-2", "99999999999999999999-1"})
+    void parseRejectsMalformedPositions(String value) {
+        assertThatThrownBy(() -> OutboxPosition.parse(value))
+                .isInstanceOf(InvalidChangeStreamPositionException.class)
+                .hasMessageContaining("Invalid change stream position");
+    }
+}
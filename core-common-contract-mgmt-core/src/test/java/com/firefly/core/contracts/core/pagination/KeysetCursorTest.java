@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.pagination;
+
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final UUID ID = UUID.fromString("0b6f9d3c-5a1e-4f3b-9c2d-7e8f1a2b3c4d");
+
+    @Test
+    void roundTripsEverySupportedSortType() {
+        assertRoundTrip(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_000_000), LocalDateTime.class);
+        assertRoundTrip(LocalDate.of(2024, 3, 1), LocalDate.class);
+        assertRoundTrip("LOAN|FIXED", String.class);
+        assertRoundTrip(new BigDecimal("1E+3"), BigDecimal.class);
+        assertRoundTrip(42L, Long.class);
+        assertRoundTrip(7, Integer.class);
+        assertRoundTrip(Boolean.TRUE, Boolean.class);
+        assertRoundTrip(UUID.randomUUID(), UUID.class);
+        assertRoundTrip(ContractStatusEnum.ACTIVE, ContractStatusEnum.class);
+    }
+
+    @Test
+    void encodesAsUrlSafeTokenWithoutPadding() {
+        String token = new KeysetCursor("createdAt", Sort.Direction.DESC, ID, LocalDateTime.of(2024, 3, 1, 10, 0)).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSortProperty() {
+        String token = new KeysetCursor("createdAt", Sort.Direction.ASC, ID, LocalDateTime.of(2024, 3, 1, 10, 0)).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "eventDate", Sort.Direction.ASC, LocalDateTime.class))
+                .isInstanceOf(InvalidPaginationException.class)
+                .hasMessageContaining("different sort order");
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherDirection() {
+        String token = new KeysetCursor("createdAt", Sort.Direction.ASC, ID, LocalDateTime.of(2024, 3, 1, 10, 0)).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "createdAt", Sort.Direction.DESC, LocalDateTime.class))
+                .isInstanceOf(InvalidPaginationException.class);
+    }
+
+    @Test
+    void rejectsTokenThatIsNotBase64() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!", "createdAt", Sort.Direction.ASC, LocalDateTime.class))
+                .isInstanceOf(InvalidPaginationException.class);
+    }
+
+    @Test
+    void rejectsTokenWithMissingParts() {
+        assertThatThrownBy(() -> KeysetCursor.decode(token("createdAt|ASC|" + ID), "createdAt", Sort.Direction.ASC,
+                LocalDateTime.class))
+                .isInstanceOf(InvalidPaginationException.class);
+    }
+
+    @Test
+    void rejectsTamperedId() {
+        assertThatThrownBy(() -> KeysetCursor.decode(token("createdAt|ASC|not-a-uuid|2024-03-01T10:00"), "createdAt",
+                Sort.Direction.ASC, LocalDateTime.class))
+                .isInstanceOf(InvalidPaginationException.class);
+    }
+
+    @Test
+    void rejectsTamperedSortValue() {
+        assertThatThrownBy(() -> KeysetCursor.decode(token("createdAt|ASC|" + ID + "|yesterday"), "createdAt",
+                Sort.Direction.ASC, LocalDateTime.class))
+                .isInstanceOf(InvalidPaginationException.class);
+    }
+
+    private static void assertRoundTrip(Object value, Class<?> type) {
+        KeysetCursor cursor = new KeysetCursor("sortKey", Sort.Direction.ASC, ID, value);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), "sortKey", Sort.Direction.ASC, type);
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.core.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetPaginatorTest {
+
+    private static final UUID ID = UUID.fromString("0b6f9d3c-5a1e-4f3b-9c2d-7e8f1a2b3c4d");
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Test
+    void seeksPastTheCursorInAscendingOrder() {
+        Criteria seek = KeysetPaginator.seekCriteria("createdAt", "contractId", Sort.Direction.ASC,
+                new KeysetCursor("createdAt", Sort.Direction.ASC, ID, CREATED_AT));
+
+        assertThat(seek).hasToString("createdAt >= '" + CREATED_AT + "' AND (createdAt > '" + CREATED_AT
+                + "' OR (createdAt = '" + CREATED_AT + "' AND contractId > '" + ID + "'))");
+    }
+
+    @Test
+    void seeksPastTheCursorInDescendingOrder() {
+        Criteria seek = KeysetPaginator.seekCriteria("createdAt", "contractId", Sort.Direction.DESC,
+                new KeysetCursor("createdAt", Sort.Direction.DESC, ID, CREATED_AT));
+
+        assertThat(seek).hasToString("createdAt <= '" + CREATED_AT + "' AND (createdAt < '" + CREATED_AT
+                + "' OR (createdAt = '" + CREATED_AT + "' AND contractId < '" + ID + "'))");
+    }
+}
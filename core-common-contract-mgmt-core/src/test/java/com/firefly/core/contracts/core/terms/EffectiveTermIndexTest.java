@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.terms;
+
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EffectiveTermIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final UUID RATE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+
+    private static final UUID FEE = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+    @Test
+    void boundsAreInclusive() {
+        ContractTermDynamicDTO term = term(RATE, day(10), day(20));
+        EffectiveTermIndex index = EffectiveTermIndex.build(List.of(term));
+
+        assertThat(index.effectiveAt(day(10))).containsExactly(term);
+        assertThat(index.effectiveAt(day(20))).containsExactly(term);
+        assertThat(index.effectiveAt(day(10).minusNanos(1))).isEmpty();
+        assertThat(index.effectiveAt(day(20).plusNanos(1))).isEmpty();
+    }
+
+    @Test
+    void openEndedTermStaysEffectiveAfterLaterTermsExpire() {
+        ContractTermDynamicDTO openEnded = term(RATE, day(0), null);
+        ContractTermDynamicDTO shortTerm = term(RATE, day(5), day(6));
+        ContractTermDynamicDTO laterTerm = term(RATE, day(30), day(40));
+        EffectiveTermIndex index = EffectiveTermIndex.build(List.of(laterTerm, shortTerm, openEnded));
+
+        assertThat(index.effectiveAt(day(5))).containsExactly(openEnded, shortTerm);
+        assertThat(index.effectiveAt(day(20))).containsExactly(openEnded);
+        assertThat(index.effectiveAt(day(35))).containsExactly(openEnded, laterTerm);
+        assertThat(index.effectiveAt(LocalDateTime.MAX)).containsExactly(openEnded);
+    }
+
+    @Test
+    void nestedIntervalsAreAllReturnedInEffectiveDateOrder() {
+        ContractTermDynamicDTO outer = term(RATE, day(0), day(100));
+        ContractTermDynamicDTO middle = term(RATE, day(10), day(90));
+        ContractTermDynamicDTO inner = term(RATE, day(40), day(60));
+        EffectiveTermIndex index = EffectiveTermIndex.build(List.of(inner, outer, middle));
+
+        assertThat(index.effectiveAt(day(50))).containsExactly(outer, middle, inner);
+        assertThat(index.effectiveAt(day(95))).containsExactly(outer);
+        assertThat(index.effectiveAt(day(60))).containsExactly(outer, middle, inner);
+        assertThat(index.effectiveAt(day(61))).containsExactly(outer, middle);
+    }
+
+    @Test
+    void termsAreGroupedByTemplate() {
+        ContractTermDynamicDTO fee = term(FEE, day(0), null);
+        ContractTermDynamicDTO rate = term(RATE, day(1), null);
+        EffectiveTermIndex index = EffectiveTermIndex.build(List.of(fee, rate));
+
+        assertThat(index.effectiveAt(day(2))).containsExactly(fee, rate);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void inactiveTermsAndTermsWithoutEffectiveDateAreIgnored() {
+        ContractTermDynamicDTO inactive = term(RATE, day(0), null);
+        inactive.setIsActive(false);
+        ContractTermDynamicDTO undated = term(RATE, null, null);
+
+        EffectiveTermIndex index = EffectiveTermIndex.build(List.of(inactive, undated));
+
+        assertThat(index).isSameAs(EffectiveTermIndex.EMPTY);
+        assertThat(index.effectiveAt(day(1))).isEmpty();
+        assertThat(index.containsTerm(inactive.getTermId())).isFalse();
+    }
+
+    @Test
+    void containsTermFindsIndexedTerms() {
+        ContractTermDynamicDTO term = term(RATE, day(0), day(1));
+        EffectiveTermIndex index = EffectiveTermIndex.build(List.of(term));
+
+        assertThat(index.containsTerm(term.getTermId())).isTrue();
+        assertThat(index.containsTerm(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    void matchesBruteForceFilterOnRandomIntervals() {
+        Random random = new Random(42);
+        UUID[] templateIds = {RATE, FEE, UUID.fromString("00000000-0000-0000-0000-00000000000c")};
+        for (int round = 0; round < 200; round++) {
+            List<ContractTermDynamicDTO> terms = new ArrayList<>();
+            TreeSet<LocalDateTime> probes = new TreeSet<>();
+            int count = 1 + random.nextInt(40);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = day(random.nextInt(60));
+                // Roughly one in five terms is open-ended; the rest range from a single instant to long overlaps
+                LocalDateTime end = random.nextInt(5) == 0 ? null : start.plusDays(random.nextInt(30));
+                ContractTermDynamicDTO term = term(templateIds[random.nextInt(templateIds.length)], start, end);
+                term.setIsActive(random.nextInt(10) != 0);
+                terms.add(term);
+                probes.add(start);
+                probes.add(start.minusNanos(1));
+                if (end != null) {
+                    probes.add(end);
+                    probes.add(end.plusNanos(1));
+                }
+            }
+            probes.add(day(-1));
+            probes.add(day(100));
+
+            EffectiveTermIndex index = EffectiveTermIndex.build(terms);
+            for (LocalDateTime at : probes) {
+                assertThat(index.effectiveAt(at))
+                        .as("round %d at %s", round, at)
+                        .containsExactlyElementsOf(bruteForce(terms, at));
+            }
+        }
+    }
+
+    /**
+     * Reference implementation: a linear scan with the index's grouping (templates in first-seen order) and
+     * ordering (stable by effective date).
+     */
+    private static List<ContractTermDynamicDTO> bruteForce(List<ContractTermDynamicDTO> terms, LocalDateTime at) {
+        Map<UUID, List<ContractTermDynamicDTO>> byTemplate = new LinkedHashMap<>();
+        for (ContractTermDynamicDTO term : terms) {
+            if (Boolean.TRUE.equals(term.getIsActive()) && term.getEffectiveDate() != null) {
+                byTemplate.computeIfAbsent(term.getTermTemplateId(), id -> new ArrayList<>()).add(term);
+            }
+        }
+        List<ContractTermDynamicDTO> effective = new ArrayList<>();
+        for (List<ContractTermDynamicDTO> templateTerms : byTemplate.values()) {
+            templateTerms.stream()
+                    .sorted(Comparator.comparing(ContractTermDynamicDTO::getEffectiveDate))
+                    .filter(term -> !term.getEffectiveDate().isAfter(at))
+                    .filter(term -> term.getExpirationDate() == null || !term.getExpirationDate().isBefore(at))
+                    .forEach(effective::add);
+        }
+        return effective;
+    }
+
+    private static ContractTermDynamicDTO term(UUID termTemplateId, LocalDateTime effectiveDate, LocalDateTime expirationDate) {
+        return ContractTermDynamicDTO.builder()
+                .termId(UUID.randomUUID())
+                .termTemplateId(termTemplateId)
+                .effectiveDate(effectiveDate)
+                .expirationDate(expirationDate)
+                .isActive(true)
+                .build();
+    }
+
+    private static LocalDateTime day(int offset) {
+        return T0.plusDays(offset);
+    }
+}
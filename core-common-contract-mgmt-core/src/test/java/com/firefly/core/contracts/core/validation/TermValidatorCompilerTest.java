@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.core.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.enums.TermValidationTypeEnum;
+import com.firefly.core.contracts.models.entities.ContractTermTemplate;
+import com.firefly.core.contracts.models.entities.ContractTermValidationRule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TermValidatorCompilerTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Test
+    void requiredRejectsBlankValuesOnly() {
+        CompiledTermValidator validator = compile(TermValidationTypeEnum.REQUIRED, null);
+
+        assertThat(validator.violations(text(" "))).containsExactly("Term value is required");
+        assertThat(validator.violations(text("x"))).isEmpty();
+        assertThat(validator.violations(numeric("0"))).isEmpty();
+        assertThat(compile(TermValidationTypeEnum.REQUIRED, "{\"required\": false}"))
+                .isSameAs(CompiledTermValidator.EMPTY);
+    }
+
+    @Test
+    void lengthRulesBoundTheTextLength() {
+        CompiledTermValidator min = compile(TermValidationTypeEnum.MIN_LENGTH, "{\"minLength\": 3}");
+        CompiledTermValidator max = compile(TermValidationTypeEnum.MAX_LENGTH, "5");
+
+        assertThat(min.violations(text("ab"))).containsExactly("Term value must be at least 3 characters long");
+        assertThat(min.violations(text("abc"))).isEmpty();
+        assertThat(max.violations(text("abcdef"))).containsExactly("Term value must be at most 5 characters long");
+        assertThat(max.violations(text("abcde"))).isEmpty();
+        assertThat(max.violations(numeric("123456"))).isEmpty();
+    }
+
+    @Test
+    void valueRulesCheckNumericAndNumericTextValues() {
+        CompiledTermValidator range = compile(TermValidationTypeEnum.MIN_VALUE, "{\"min\": 0, \"max\": \"100.5\"}");
+        CompiledTermValidator min = compile(TermValidationTypeEnum.MIN_VALUE, "10");
+        CompiledTermValidator legacyMax = compile(TermValidationTypeEnum.MAX_VALUE, "{\"value\": \"20\"}");
+
+        assertThat(range.violations(numeric("100.5"))).isEmpty();
+        assertThat(range.violations(numeric("100.51"))).containsExactly("Term value must be between 0 and 100.5");
+        assertThat(range.violations(text("-1"))).hasSize(1);
+        assertThat(range.violations(text("not a number"))).hasSize(1);
+        assertThat(min.violations(numeric("9.99"))).containsExactly("Term value must be greater than or equal to 10");
+        assertThat(legacyMax.violations(numeric("21"))).containsExactly("Term value must be less than or equal to 20");
+        assertThat(legacyMax.violations(new ContractTermDynamicDTO())).isEmpty();
+    }
+
+    @Test
+    void regexPatternMatchesTheWholeTextWithFlags() {
+        CompiledTermValidator strict = compile(TermValidationTypeEnum.REGEX_PATTERN, "\"^[A-Z]{3}$\"");
+        CompiledTermValidator caseInsensitive = compile(TermValidationTypeEnum.REGEX_PATTERN,
+                "{\"pattern\": \"[a-z]{3}\", \"flags\": \"i\"}");
+
+        assertThat(strict.violations(text("EUR"))).isEmpty();
+        assertThat(strict.violations(text("eur"))).containsExactly("Term value must match pattern ^[A-Z]{3}$");
+        assertThat(caseInsensitive.violations(text("EUR"))).isEmpty();
+        assertThat(caseInsensitive.violations(text("EURO"))).hasSize(1);
+    }
+
+    @Test
+    void enumValuesAcceptArraysAndCommaSeparatedLists() {
+        CompiledTermValidator array = compile(TermValidationTypeEnum.ENUM_VALUES, "{\"values\": [\"FIXED\", \"VARIABLE\"]}");
+        CompiledTermValidator list = compile(TermValidationTypeEnum.ENUM_VALUES, "\"MONTHLY, QUARTERLY\"");
+
+        assertThat(array.violations(text("FIXED"))).isEmpty();
+        assertThat(array.violations(text("fixed"))).hasSize(1);
+        assertThat(list.violations(text("QUARTERLY"))).isEmpty();
+        assertThat(list.violations(text("YEARLY"))).hasSize(1);
+    }
+
+    @Test
+    void dateRangeIsInclusiveAndRejectsUnparseableValues() {
+        CompiledTermValidator range = compile(TermValidationTypeEnum.DATE_RANGE,
+                "{\"from\": \"2024-01-01\", \"to\": \"2024-12-31T23:59:59\"}");
+
+        assertThat(range.violations(text("2024-01-01"))).isEmpty();
+        assertThat(range.violations(text("2024-12-31T23:59:59"))).isEmpty();
+        assertThat(range.violations(text("2023-12-31"))).hasSize(1);
+        assertThat(range.violations(text("2025-01-01T00:00:00"))).hasSize(1);
+        assertThat(range.violations(text("31/12/2024"))).hasSize(1);
+    }
+
+    @Test
+    void customFunctionsAreNotEvaluated() {
+        assertThat(compile(TermValidationTypeEnum.CUSTOM_FUNCTION, "{\"function\": \"checkIban\"}"))
+                .isSameAs(CompiledTermValidator.EMPTY);
+    }
+
+    @Test
+    void customErrorMessageReplacesTheDefault() {
+        ContractTermValidationRule rule = rule(TermValidationTypeEnum.MAX_LENGTH, "2");
+        rule.setErrorMessage("Too long");
+
+        CompiledTermValidator validator = TermValidatorCompiler.compile(null, List.of(rule));
+
+        assertThat(validator.violations(text("abc"))).containsExactly("Too long");
+    }
+
+    @Test
+    void templateRulesAreCompiledInObjectAndArrayForm() {
+        ContractTermTemplate byType = ContractTermTemplate.builder()
+                .validationRules(json("{\"MIN_LENGTH\": 2, \"unknown\": 1}"))
+                .build();
+        ContractTermTemplate list = ContractTermTemplate.builder()
+                .validationRules(json("{\"rules\": [{\"type\": \"max_length\", \"value\": 3, \"message\": \"Max 3\"}]}"))
+                .build();
+
+        CompiledTermValidator validator = TermValidatorCompiler.compile(byType,
+                List.of(rule(TermValidationTypeEnum.REQUIRED, null)));
+
+        assertThat(validator.size()).isEqualTo(2);
+        assertThat(validator.violations(text("a"))).containsExactly("Term value must be at least 2 characters long");
+        assertThat(TermValidatorCompiler.compile(list, List.of()).violations(text("abcd"))).containsExactly("Max 3");
+    }
+
+    @Test
+    void invalidRulesAreRejected() {
+        assertThatThrownBy(() -> TermValidatorCompiler.verify(TermValidationTypeEnum.REGEX_PATTERN, json("\"[a-z\"")))
+                .isInstanceOf(InvalidValidationRuleException.class);
+        assertThatThrownBy(() -> TermValidatorCompiler.verify(TermValidationTypeEnum.MIN_VALUE, json("{\"min\": \"ten\"}")))
+                .isInstanceOf(InvalidValidationRuleException.class);
+        assertThatThrownBy(() -> TermValidatorCompiler.verify(TermValidationTypeEnum.DATE_RANGE, json("{\"min\": \"2024-13-01\"}")))
+                .isInstanceOf(InvalidValidationRuleException.class)
+                .hasMessageContaining("2024-13-01");
+        assertThatThrownBy(() -> TermValidatorCompiler.verify(TermValidationTypeEnum.DATE_RANGE, json("{\"max\": \"tomorrow\"}")))
+                .isInstanceOf(InvalidValidationRuleException.class);
+        assertThatThrownBy(() -> TermValidatorCompiler.verifyTemplateRules(json("[{\"type\": \"REGEX_PATTERN\", \"value\": \"(\"}]")))
+                .isInstanceOf(InvalidValidationRuleException.class);
+        assertThatThrownBy(() -> TermValidatorCompiler.compile(null, List.of(rule(TermValidationTypeEnum.MAX_VALUE, "\"1e\""))))
+                .isInstanceOf(InvalidValidationRuleException.class);
+    }
+
+    private static CompiledTermValidator compile(TermValidationTypeEnum type, String value) {
+        return TermValidatorCompiler.compile(null, List.of(rule(type, value)));
+    }
+
+    private static ContractTermValidationRule rule(TermValidationTypeEnum type, String value) {
+        return ContractTermValidationRule.builder()
+                .validationType(type)
+                .validationValue(value == null ? null : json(value))
+                .build();
+    }
+
+    private static JsonNode json(String value) {
+        try {
+            return JSON.readTree(value);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(value, e);
+        }
+    }
+
+    private static ContractTermDynamicDTO text(String value) {
+        return ContractTermDynamicDTO.builder().termValueText(value).build();
+    }
+
+    private static ContractTermDynamicDTO numeric(String value) {
+        return ContractTermDynamicDTO.builder().termValueNumeric(new BigDecimal(value)).build();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.dtos;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A change to a contract or one of its children, as published on the contract change stream
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractChangeDTO {
+
+    /**
+     * Stream position of this change; pass it back as {@code after} (or Last-Event-ID) to resume after it
+     */
+    private String position;
+
+    private ContractChangeAggregateEnum aggregateType;
+
+    private UUID aggregateId;
+
+    private UUID contractId;
+
+    private ContractChangeTypeEnum changeType;
+
+    /**
+     * State of the resource after the change, or its identifiers for deletions
+     */
+    private JsonNode payload;
+
+    private LocalDateTime createdAt;
+}
@@ -42,6 +42,9 @@ public class ContractDTO {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private UUID contractId;
 
+    /**
+     * Human-readable contract number; allocated by the service when omitted on create
+     */
     @Size(max = 255, message = "Contract number must not exceed 255 characters")
     private String contractNumber;
 
@@ -61,4 +64,10 @@ public class ContractDTO {
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic locking version, also returned as the ETag; send it back in If-Match to update conditionally
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
 }
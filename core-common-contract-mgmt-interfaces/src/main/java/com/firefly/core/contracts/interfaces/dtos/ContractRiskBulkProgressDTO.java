@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Progress of a bulk risk assessment ingestion, emitted once per written batch
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractRiskBulkProgressDTO {
+
+    /**
+     * Zero-based sequence number of the batch; batches written concurrently may complete out of order
+     */
+    private long batch;
+
+    private int received;
+
+    private int created;
+
+    private int rejected;
+
+    /**
+     * Running totals over all batches completed so far, this one included
+     */
+    private long totalReceived;
+
+    private long totalCreated;
+
+    private long totalRejected;
+
+    /**
+     * The records of this batch that were not written, with their errors
+     */
+    private List<ContractRiskBulkItemResultDTO> failures;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.dtos;
+
+import com.firefly.core.contracts.interfaces.enums.RiskLevelEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Current risk distribution of the active contracts, by the level of each contract's latest assessment
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractRiskDistributionDTO {
+
+    /**
+     * Active contracts that have at least one risk assessment
+     */
+    private long assessedContracts;
+
+    /**
+     * Active contracts per risk level, including levels without contracts
+     */
+    private Map<RiskLevelEnum, Long> contractsByRiskLevel;
+
+    /**
+     * Active contracts currently assessed HIGH or CRITICAL, highest score first
+     */
+    private List<ContractLatestRiskAssessmentDTO> highRiskContracts;
+
+    /**
+     * Whether more HIGH or CRITICAL contracts exist than were returned
+     */
+    private boolean highRiskTruncated;
+}
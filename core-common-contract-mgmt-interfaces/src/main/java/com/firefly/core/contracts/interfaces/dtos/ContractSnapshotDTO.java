@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only aggregate of a contract with its active parties, effective terms, current status and latest risk assessment.
+ * Sections left out of the field mask are omitted from the response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContractSnapshotDTO {
+
+    private UUID contractId;
+
+    /**
+     * Point in time the effective terms were resolved for
+     */
+    private LocalDateTime asOf;
+
+    private ContractDTO contract;
+
+    private List<ContractPartyDTO> parties;
+
+    private List<ContractTermDynamicDTO> terms;
+
+    private ContractStatusHistoryDTO currentStatus;
+
+    private ContractRiskAssessmentDTO latestRiskAssessment;
+}
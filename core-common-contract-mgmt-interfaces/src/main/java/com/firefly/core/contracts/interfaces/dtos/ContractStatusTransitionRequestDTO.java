@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.dtos;
+
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import com.firefly.core.contracts.interfaces.enums.StatusCodeEnum;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request to move a contract to a new status
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractStatusTransitionRequestDTO {
+
+    @NotNull(message = "Status code is required")
+    private StatusCodeEnum statusCode;
+
+    /**
+     * Contract status to set; derived from the status code when omitted
+     */
+    private ContractStatusEnum contractStatus;
+
+    /**
+     * When the new status takes effect; defaults to now
+     */
+    private LocalDateTime effectiveDate;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk upsert request for the dynamic terms of a single contract.
+ * <p>
+ * Terms are matched to existing rows of the contract by term template ID and effective date;
+ * matches are updated in place, everything else is inserted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractTermBulkUpsertRequestDTO {
+
+    @NotEmpty(message = "At least one term is required")
+    @Size(max = 1000, message = "At most 1000 terms can be written in one request")
+    private List<ContractTermDynamicDTO> terms;
+
+    /**
+     * When {@code true} (the default) nothing is written if any term is rejected.
+     * When {@code false} valid terms are written and rejected ones are reported.
+     */
+    private Boolean atomic;
+}
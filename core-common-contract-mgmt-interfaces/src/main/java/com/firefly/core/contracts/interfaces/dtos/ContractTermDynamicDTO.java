@@ -67,4 +67,10 @@ public class ContractTermDynamicDTO {
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic locking version, also returned as the ETag; send it back in If-Match to update conditionally
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keyset (seek) pagination request for the filter endpoints.
+ * <p>
+ * Unlike offset pagination, each page is fetched by seeking past the last row of the previous
+ * page on {@code (sortBy, primary key)}, so deep pages cost the same as the first one. Pass the
+ * {@code nextCursor} of a {@link CursorPageResponse} back as {@code cursor} to fetch the next page,
+ * keeping {@code filters}, {@code sortBy} and {@code sortDirection} unchanged.
+ *
+ * @param <T> the DTO type used as filter criteria
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorFilterRequest<T> {
+
+    /**
+     * Equality criteria; every non-null property must match.
+     */
+    private T filters;
+
+    /**
+     * DTO property to sort and seek on. Defaults to {@code createdAt}.
+     */
+    private String sortBy;
+
+    @Pattern(regexp = "(?i)ASC|DESC", message = "Sort direction must be ASC or DESC")
+    private String sortDirection;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 1000, message = "Page size must not exceed 1000")
+    private Integer size;
+
+    /**
+     * Opaque continuation token returned by the previous page, {@code null} for the first page.
+     */
+    private String cursor;
+
+    /**
+     * Whether to run a separate COUNT query for {@code totalElements}. Defaults to {@code false}.
+     */
+    private Boolean includeTotal;
+}
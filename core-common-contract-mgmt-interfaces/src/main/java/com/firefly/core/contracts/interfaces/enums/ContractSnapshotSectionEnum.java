@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.interfaces.enums;
+
+import java.util.Locale;
+
+/**
+ * Sections of a contract snapshot that can be selected with a field mask
+ */
+public enum ContractSnapshotSectionEnum {
+    CONTRACT,
+    PARTIES,
+    TERMS,
+    STATUS,
+    RISK;
+
+    /**
+     * Resolve a section from its field mask name, ignoring case
+     *
+     * @param name the section name, e.g. {@code parties}
+     * @return the matching section
+     * @throws IllegalArgumentException if no section has the given name
+     */
+    public static ContractSnapshotSectionEnum fromFieldName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown contract snapshot field: " + name);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeAggregateEnum;
+import com.firefly.core.contracts.interfaces.enums.ContractChangeTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ContractOutboxEntry entity representing the contract_outbox table; rows are appended through
+ * {@code ContractOutboxRepository.appendAll} and never updated
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("contract_outbox")
+public class ContractOutboxEntry {
+
+    @Id
+    @Column("outbox_id")
+    private Long outboxId;
+
+    /**
+     * Writing transaction ID, assigned by the database
+     */
+    @Column("transaction_id")
+    private Long transactionId;
+
+    @Column("aggregate_type")
+    private ContractChangeAggregateEnum aggregateType;
+
+    @Column("aggregate_id")
+    private UUID aggregateId;
+
+    @Column("contract_id")
+    private UUID contractId;
+
+    @Column("change_type")
+    private ContractChangeTypeEnum changeType;
+
+    @Column("payload")
+    private JsonNode payload;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+}
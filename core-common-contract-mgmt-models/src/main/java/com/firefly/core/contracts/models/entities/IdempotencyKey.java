@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * IdempotencyKey entity representing the idempotency_key table; rows are claimed and completed through
+ * {@code IdempotencyKeyRepository} and removed once expired
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("idempotency_key")
+public class IdempotencyKey {
+
+    @Id
+    @Column("idempotency_key_id")
+    private UUID idempotencyKeyId;
+
+    @Column("request_hash")
+    private UUID requestHash;
+
+    /**
+     * JSON response of the create request, replayed for retries
+     */
+    @Column("response_body")
+    private String responseBody;
+
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+}
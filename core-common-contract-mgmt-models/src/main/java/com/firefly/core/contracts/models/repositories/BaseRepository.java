@@ -27,4 +27,19 @@ import reactor.core.publisher.Mono;
 public interface BaseRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
     Flux<T> findAllBy(Pageable pageable);
     Mono<Long> count();
+
+    /**
+     * Overwrite an existing row in a single UPDATE ... RETURNING statement; empty if no row has the entity's ID
+     */
+    Mono<T> updateExisting(T entity);
+
+    /**
+     * Delete a row in a single DELETE statement, returning the number of deleted rows
+     */
+    Mono<Long> deleteByIdReturningCount(ID id);
+
+    /**
+     * Delete a row in a single DELETE ... RETURNING statement; empty if no row has the ID
+     */
+    Mono<T> deleteByIdReturning(ID id);
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Maintenance of the monthly contract_event partitions, mixed into {@link ContractEventRepository}
+ */
+public interface ContractEventPartitionRepository {
+
+    /**
+     * Create the missing monthly partitions from the current month up to {@code monthsAhead} months ahead,
+     * returning the number of partitions created
+     */
+    Mono<Integer> createEventPartitions(int monthsAhead);
+
+    /**
+     * Detach the monthly partitions that end on or before {@code beforeDate} and move them to the archive schema,
+     * returning their names
+     */
+    Flux<String> archiveEventPartitionsBefore(LocalDate beforeDate);
+
+    /**
+     * Find the names of the detached partitions still held in the archive schema, oldest first
+     */
+    Flux<String> findArchivedEventPartitions();
+
+    /**
+     * Stream the events of an archived partition through a server-side cursor, fetching {@code fetchSize} rows
+     * per round trip
+     */
+    Flux<ContractEvent> streamArchivedEventPartition(String partitionName, int fetchSize);
+
+    /**
+     * Drop an archived partition once it has been exported
+     */
+    Mono<Void> dropArchivedEventPartition(String partitionName);
+}
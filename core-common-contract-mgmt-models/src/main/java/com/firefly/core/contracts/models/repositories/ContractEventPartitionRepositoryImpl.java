@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractEvent;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+
+/**
+ * {@link DatabaseClient} based implementation of {@link ContractEventPartitionRepository}.
+ * <p>
+ * Partitions are created and detached by the functions installed in V15. Archived partitions are addressed by
+ * table name, so names are checked against the partition naming scheme before they are put into SQL.
+ */
+public class ContractEventPartitionRepositoryImpl implements ContractEventPartitionRepository {
+
+    static final String ARCHIVE_SCHEMA = "contract_archive";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("contract_event_p\\d{6}");
+
+    private static final String CREATE_PARTITIONS =
+            "SELECT create_monthly_partitions('contract_event', 'event_date', CURRENT_DATE, :monthsAhead) AS created";
+
+    private static final String ARCHIVE_PARTITIONS =
+            "SELECT archive_monthly_partitions('contract_event', :beforeDate, '" + ARCHIVE_SCHEMA + "') AS partition_name";
+
+    private static final String SELECT_ARCHIVED_PARTITIONS = "SELECT tablename FROM pg_tables "
+            + "WHERE schemaname = '" + ARCHIVE_SCHEMA + "' AND tablename ~ '^contract_event_p[0-9]{6}$' ORDER BY tablename";
+
+    private final DatabaseClient databaseClient;
+
+    private final R2dbcConverter converter;
+
+    public ContractEventPartitionRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Mono<Integer> createEventPartitions(int monthsAhead) {
+        return databaseClient.sql(CREATE_PARTITIONS)
+                .bind("monthsAhead", monthsAhead)
+                .map(row -> row.get("created", Integer.class))
+                .one();
+    }
+
+    @Override
+    public Flux<String> archiveEventPartitionsBefore(LocalDate beforeDate) {
+        return databaseClient.sql(ARCHIVE_PARTITIONS)
+                .bind("beforeDate", beforeDate)
+                .map(row -> row.get("partition_name", String.class))
+                .all();
+    }
+
+    @Override
+    public Flux<String> findArchivedEventPartitions() {
+        return databaseClient.sql(SELECT_ARCHIVED_PARTITIONS)
+                .map(row -> row.get("tablename", String.class))
+                .all();
+    }
+
+    @Override
+    public Flux<ContractEvent> streamArchivedEventPartition(String partitionName, int fetchSize) {
+        return databaseClient.sql("SELECT * FROM " + archivedTable(partitionName) + " ORDER BY event_date, contract_event_id")
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map((row, metadata) -> converter.read(ContractEvent.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<Void> dropArchivedEventPartition(String partitionName) {
+        return databaseClient.sql("DROP TABLE IF EXISTS " + archivedTable(partitionName))
+                .then();
+    }
+
+    private static String archivedTable(String partitionName) {
+        if (partitionName == null || !PARTITION_NAME.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("Not a contract event partition: " + partitionName);
+        }
+        return ARCHIVE_SCHEMA + "." + partitionName;
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.core.contracts.models.repositories;
 
 import com.firefly.core.contracts.interfaces.enums.EventTypeEnum;
 import com.firefly.core.contracts.models.entities.ContractEvent;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,13 +27,14 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
  * Repository interface for ContractEvent entity operations
  */
 @Repository
-public interface ContractEventRepository extends BaseRepository<ContractEvent, UUID> {
+public interface ContractEventRepository extends BaseRepository<ContractEvent, UUID>, ContractEventPartitionRepository {
 
     /**
      * Find events by contract ID
@@ -94,4 +96,14 @@ public interface ContractEventRepository extends BaseRepository<ContractEvent, U
      */
     @Query("SELECT * FROM contract_event WHERE contract_id = :contractId ORDER BY event_date DESC LIMIT 1")
     Mono<ContractEvent> findLatestEventByContractId(@Param("contractId") UUID contractId);
+
+    /**
+     * Record a CONTRACT_EXPIRED event dated at the contract's end date for each given contract
+     */
+    @Modifying
+    @Query("INSERT INTO contract_event (contract_id, event_type, event_date, event_description, created_at, updated_at) "
+            + "SELECT contract_id, 'CONTRACT_EXPIRED', end_date, 'Contract expired at its end date', :now, :now "
+            + "FROM contract WHERE contract_id IN (:contractIds)")
+    Mono<Long> insertContractExpiredEvents(@Param("contractIds") Collection<UUID> contractIds,
+                                           @Param("now") LocalDateTime now);
 }
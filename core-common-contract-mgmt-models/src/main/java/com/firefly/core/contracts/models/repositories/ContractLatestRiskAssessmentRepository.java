@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractLatestRiskAssessment;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for the ContractLatestRiskAssessment projection
+ */
+@Repository
+public interface ContractLatestRiskAssessmentRepository
+        extends BaseRepository<ContractLatestRiskAssessment, UUID>, ContractRiskProjectionRepository {
+
+    /**
+     * Find active contracts whose latest assessment is HIGH or CRITICAL, highest score first
+     */
+    @Query("SELECT p.* FROM contract_latest_risk_assessment p JOIN contract c ON c.contract_id = p.contract_id "
+            + "WHERE p.risk_level IN ('HIGH', 'CRITICAL') AND c.contract_status = 'ACTIVE' "
+            + "ORDER BY p.risk_score DESC NULLS LAST, p.assessment_date DESC LIMIT :limit")
+    Flux<ContractLatestRiskAssessment> findActiveHighRisk(@Param("limit") int limit);
+}
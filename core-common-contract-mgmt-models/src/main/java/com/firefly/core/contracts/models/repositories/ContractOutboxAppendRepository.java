@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Batched append for ContractOutboxEntry entities, mixed into {@link ContractOutboxRepository}
+ */
+public interface ContractOutboxAppendRepository {
+
+    /**
+     * Append all entries using multi-row INSERT statements; IDs, transaction IDs and creation times are assigned
+     * by the database
+     */
+    Mono<Long> appendAll(List<ContractOutboxEntry> entries);
+}
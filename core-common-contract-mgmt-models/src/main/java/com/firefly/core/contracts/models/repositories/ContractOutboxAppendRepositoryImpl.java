@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DatabaseClient} based implementation of {@link ContractOutboxAppendRepository}, writing up to
+ * {@value #CHUNK_SIZE} entries per statement.
+ */
+public class ContractOutboxAppendRepositoryImpl implements ContractOutboxAppendRepository {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO contract_outbox (aggregate_type, aggregate_id, contract_id, "
+            + "change_type, payload) VALUES ";
+
+    private final DatabaseClient databaseClient;
+
+    public ContractOutboxAppendRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> appendAll(List<ContractOutboxEntry> entries) {
+        List<List<ContractOutboxEntry>> chunks = new ArrayList<>();
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            chunks.add(entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(this::insertChunk)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> insertChunk(List<ContractOutboxEntry> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * 100).append(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:aggregateType").append(i)
+                    .append(", :aggregateId").append(i)
+                    .append(", :contractId").append(i)
+                    .append(", :changeType").append(i)
+                    .append(", CAST(:payload").append(i).append(" AS JSONB)")
+                    .append(')');
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            ContractOutboxEntry entry = chunk.get(i);
+            spec = spec.bind("aggregateType" + i, entry.getAggregateType().name())
+                    .bind("aggregateId" + i, entry.getAggregateId())
+                    .bind("contractId" + i, entry.getContractId())
+                    .bind("changeType" + i, entry.getChangeType().name());
+            spec = entry.getPayload() == null || entry.getPayload().isNull()
+                    ? spec.bindNull("payload" + i, String.class)
+                    : spec.bind("payload" + i, entry.getPayload().toString());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractOutboxEntry;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repository interface for ContractOutboxEntry entity operations
+ */
+@Repository
+public interface ContractOutboxRepository extends BaseRepository<ContractOutboxEntry, Long>, ContractOutboxAppendRepository {
+
+    /**
+     * Find up to {@code limit} published entries after the given position, in (transaction ID, outbox ID) order,
+     * optionally for a single contract. Entries only become visible here once no older transaction is still
+     * running, so that an entry committed late can never end up behind a consumer's position.
+     */
+    @Query("SELECT outbox_id, CAST(CAST(transaction_id AS TEXT) AS BIGINT) AS transaction_id, aggregate_type, "
+            + "aggregate_id, contract_id, change_type, payload, created_at FROM contract_outbox "
+            + "WHERE (transaction_id, outbox_id) > (CAST(CAST(:transactionId AS TEXT) AS XID8), :outboxId) "
+            + "AND transaction_id < pg_snapshot_xmin(pg_current_snapshot()) "
+            + "AND (CAST(:contractId AS UUID) IS NULL OR contract_id = :contractId) "
+            + "ORDER BY transaction_id, outbox_id LIMIT :limit")
+    Flux<ContractOutboxEntry> findPublishedAfter(@Param("transactionId") long transactionId,
+                                                 @Param("outboxId") long outboxId,
+                                                 @Param("contractId") UUID contractId,
+                                                 @Param("limit") int limit);
+
+    /**
+     * Find the most recent published entry, i.e. the current end of the stream
+     */
+    @Query("SELECT outbox_id, CAST(CAST(transaction_id AS TEXT) AS BIGINT) AS transaction_id, aggregate_type, "
+            + "aggregate_id, contract_id, change_type, payload, created_at FROM contract_outbox "
+            + "WHERE transaction_id < pg_snapshot_xmin(pg_current_snapshot()) "
+            + "ORDER BY transaction_id DESC, outbox_id DESC LIMIT 1")
+    Mono<ContractOutboxEntry> findLastPublished();
+
+    /**
+     * Append an EXPIRED entry for each given contract, carrying its new status
+     */
+    @Modifying
+    @Query("INSERT INTO contract_outbox (aggregate_type, aggregate_id, contract_id, change_type, payload) "
+            + "SELECT 'CONTRACT', contract_id, contract_id, 'EXPIRED', jsonb_build_object('contractId', contract_id, "
+            + "'contractStatus', contract_status, 'endDate', end_date, 'version', version) "
+            + "FROM contract WHERE contract_id IN (:contractIds)")
+    Mono<Long> appendContractsExpired(@Param("contractIds") Collection<UUID> contractIds);
+
+    /**
+     * Delete up to {@code limit} entries created before the cutoff
+     */
+    @Modifying
+    @Query("DELETE FROM contract_outbox WHERE outbox_id IN "
+            + "(SELECT outbox_id FROM contract_outbox WHERE created_at < :cutoff LIMIT :limit)")
+    Mono<Long> deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -23,6 +23,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -46,11 +48,28 @@ public interface ContractPartyRepository extends BaseRepository<ContractParty, U
      */
     Flux<ContractParty> findByContractIdAndIsActive(UUID contractId, Boolean isActive);
 
+    /**
+     * Find contract parties of any of the given contracts by active flag
+     */
+    Flux<ContractParty> findByContractIdInAndIsActive(Collection<UUID> contractIds, Boolean isActive);
+
     /**
      * Find active contract parties by party ID
      */
     Flux<ContractParty> findByPartyIdAndIsActive(UUID partyId, Boolean isActive);
 
+    /**
+     * Lock a contract party row and return the party it currently belongs to
+     */
+    @Query("SELECT party_id FROM contract_party WHERE contract_party_id = :contractPartyId FOR UPDATE")
+    Mono<UUID> lockPartyIdByContractPartyId(@Param("contractPartyId") UUID contractPartyId);
+
+    /**
+     * Delete the contract parties of a contract, returning the party ID of every deleted row
+     */
+    @Query("DELETE FROM contract_party WHERE contract_id = :contractId RETURNING party_id")
+    Flux<UUID> deleteByContractIdReturningPartyIds(@Param("contractId") UUID contractId);
+
     /**
      * Find contract parties by role
      */
@@ -26,13 +26,14 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
  * Repository interface for Contract entity operations
  */
 @Repository
-public interface ContractRepository extends BaseRepository<Contract, UUID> {
+public interface ContractRepository extends BaseRepository<Contract, UUID>, ContractStreamRepository {
 
     /**
      * Find contracts by status
@@ -64,8 +65,64 @@ public interface ContractRepository extends BaseRepository<Contract, UUID> {
     Flux<Contract> findContractsExpiringBetween(@Param("fromDate") LocalDateTime fromDate, 
                                                 @Param("toDate") LocalDateTime toDate);
 
+    /**
+     * Set the status of a contract and bump its version, optionally only if it still has the expected version;
+     * a null status keeps the current one. Locks the contract row for the rest of the transaction.
+     */
+    @Query("UPDATE contract SET contract_status = COALESCE(CAST(:contractStatus AS contract_status_enum), contract_status), "
+            + "updated_at = :updatedAt, version = version + 1 "
+            + "WHERE contract_id = :contractId AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion) "
+            + "RETURNING *")
+    Mono<Contract> updateContractStatus(@Param("contractId") UUID contractId,
+                                        @Param("contractStatus") ContractStatusEnum contractStatus,
+                                        @Param("expectedVersion") Long expectedVersion,
+                                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Try to take a transaction-scoped advisory lock identified by name, without waiting
+     */
+    @Query("SELECT pg_try_advisory_xact_lock(hashtext(:lockName))")
+    Mono<Boolean> tryAdvisoryTransactionLock(@Param("lockName") String lockName);
+
+    /**
+     * Mark up to {@code limit} active or suspended contracts whose end date is before {@code now} as expired,
+     * oldest first, skipping rows locked by other transactions
+     */
+    @Query("UPDATE contract SET contract_status = 'EXPIRED', updated_at = :now, version = version + 1 "
+            + "WHERE contract_id IN (SELECT contract_id FROM contract "
+            + "WHERE contract_status IN ('ACTIVE', 'SUSPENDED') AND end_date < :now "
+            + "ORDER BY end_date LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "RETURNING contract_id")
+    Flux<UUID> expireContractsEndedBefore(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Find the end date of the oldest active or suspended contract that has ended before {@code now}
+     */
+    @Query("SELECT end_date FROM contract WHERE contract_status IN ('ACTIVE', 'SUSPENDED') AND end_date < :now "
+            + "ORDER BY end_date LIMIT 1")
+    Mono<LocalDateTime> findOldestPendingExpiry(@Param("now") LocalDateTime now);
+
+    /**
+     * Lease the next block of contract numbers; the block starts at the returned value and spans the
+     * sequence increment
+     */
+    @Query("SELECT nextval('contract_number_seq')")
+    Mono<Long> nextContractNumberBlock();
+
+    /**
+     * Find the size of the contract number blocks, which is the increment of their sequence
+     */
+    @Query("SELECT increment_by FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = 'contract_number_seq'")
+    Mono<Long> findContractNumberBlockSize();
+
     /**
      * Count contracts by status
      */
     Mono<Long> countByContractStatus(ContractStatusEnum contractStatus);
+
+    /**
+     * Find which of the given contract IDs exist, in a single query
+     */
+    @Query("SELECT contract_id FROM contract WHERE contract_id IN (:contractIds)")
+    Flux<UUID> findExistingContractIds(@Param("contractIds") Collection<UUID> contractIds);
 }
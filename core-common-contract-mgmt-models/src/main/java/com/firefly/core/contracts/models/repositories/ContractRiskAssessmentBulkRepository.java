@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractRiskAssessment;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Batched write operations for contract risk assessments
+ */
+public interface ContractRiskAssessmentBulkRepository {
+
+    /**
+     * Insert all assessments using multi-row INSERT statements; IDs, assessment dates and timestamps must already
+     * be set
+     */
+    Mono<Long> insertAll(List<ContractRiskAssessment> assessments);
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractRiskAssessment;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DatabaseClient} based implementation of {@link ContractRiskAssessmentBulkRepository}.
+ * <p>
+ * Rows are written in chunks of {@value #CHUNK_SIZE} per statement, staying well below PostgreSQL's bind
+ * parameter limit.
+ */
+public class ContractRiskAssessmentBulkRepositoryImpl implements ContractRiskAssessmentBulkRepository {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String INSERT_PREFIX = "INSERT INTO contract_risk_assessment (contract_risk_assessment_id, "
+            + "contract_id, risk_score, risk_level, assessment_date, assessor, notes, created_at, updated_at) VALUES ";
+
+    private final DatabaseClient databaseClient;
+
+    public ContractRiskAssessmentBulkRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<ContractRiskAssessment> assessments) {
+        return Flux.fromIterable(chunks(assessments))
+                .concatMap(this::insertChunk)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> insertChunk(List<ContractRiskAssessment> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * 120).append(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i)
+                    .append(", :contractId").append(i)
+                    .append(", :score").append(i)
+                    .append(", CAST(:level").append(i).append(" AS risk_level_enum)")
+                    .append(", :date").append(i)
+                    .append(", :assessor").append(i)
+                    .append(", :notes").append(i)
+                    .append(", :created").append(i)
+                    .append(", :created").append(i)
+                    .append(')');
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            ContractRiskAssessment assessment = chunk.get(i);
+            spec = spec.bind("id" + i, assessment.getContractRiskAssessmentId())
+                    .bind("contractId" + i, assessment.getContractId())
+                    .bind("level" + i, assessment.getRiskLevel().name())
+                    .bind("date" + i, assessment.getAssessmentDate())
+                    .bind("created" + i, assessment.getCreatedAt());
+            spec = bindNullable(spec, "score" + i, assessment.getRiskScore(), BigDecimal.class);
+            spec = bindNullable(spec, "assessor" + i, assessment.getAssessor(), String.class);
+            spec = bindNullable(spec, "notes" + i, assessment.getNotes(), String.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                                      T value, Class<T> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        if (items.size() <= CHUNK_SIZE) {
+            return items.isEmpty() ? List.of() : List.of(items);
+        }
+        int count = (items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<List<T>> chunks = new ArrayList<>(count);
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(from + CHUNK_SIZE, items.size())));
+        }
+        return chunks;
+    }
+}
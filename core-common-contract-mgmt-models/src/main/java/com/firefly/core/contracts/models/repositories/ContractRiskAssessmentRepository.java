@@ -33,7 +33,8 @@ import java.util.UUID;
  * Repository interface for ContractRiskAssessment entity operations
  */
 @Repository
-public interface ContractRiskAssessmentRepository extends BaseRepository<ContractRiskAssessment, UUID> {
+public interface ContractRiskAssessmentRepository
+        extends BaseRepository<ContractRiskAssessment, UUID>, ContractRiskAssessmentBulkRepository {
 
     /**
      * Find risk assessments by contract ID
@@ -56,9 +57,10 @@ public interface ContractRiskAssessmentRepository extends BaseRepository<Contrac
     Flux<ContractRiskAssessment> findByAssessor(String assessor);
 
     /**
-     * Find latest risk assessment for a contract
+     * Find latest risk assessment for a contract, through the contract_latest_risk_assessment projection
      */
-    @Query("SELECT * FROM contract_risk_assessment WHERE contract_id = :contractId ORDER BY assessment_date DESC LIMIT 1")
+    @Query("SELECT a.* FROM contract_latest_risk_assessment p JOIN contract_risk_assessment a "
+            + "ON a.contract_risk_assessment_id = p.contract_risk_assessment_id WHERE p.contract_id = :contractId")
     Mono<ContractRiskAssessment> findLatestByContractId(@Param("contractId") UUID contractId);
 
     /**
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.interfaces.enums.RiskLevelEnum;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintenance and aggregate queries of the contract_latest_risk_assessment projection
+ */
+public interface ContractRiskProjectionRepository {
+
+    /**
+     * Recompute the latest assessment of a contract, and of whichever contract the given assessment was the latest
+     * of, from the assessment history; contracts left without assessments are removed from the projection.
+     * Serialized per contract with a transaction-scoped advisory lock, so it must run after the assessment write
+     * in the same transaction
+     */
+    Mono<Void> refreshLatest(UUID contractId, UUID contractRiskAssessmentId);
+
+    /**
+     * Recompute the latest assessment of each of the given contracts from the assessment history, locking them in
+     * a fixed order; used after bulk assessment inserts, in the same transaction
+     */
+    Mono<Void> refreshLatest(Collection<UUID> contractIds);
+
+    /**
+     * Count active contracts per latest risk level; levels without contracts are absent
+     */
+    Mono<Map<RiskLevelEnum, Long>> countActiveContractsByRiskLevel();
+}
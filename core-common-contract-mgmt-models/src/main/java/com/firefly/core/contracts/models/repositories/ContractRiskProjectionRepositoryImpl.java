@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.interfaces.enums.RiskLevelEnum;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link DatabaseClient} based implementation of {@link ContractRiskProjectionRepository}.
+ * <p>
+ * The refresh takes the contract's lock after the caller's write, so of two concurrent writers to one contract
+ * the second recomputes only once the first has committed and therefore sees both assessments.
+ */
+public class ContractRiskProjectionRepositoryImpl implements ContractRiskProjectionRepository {
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('contract-risk'), hashtext(CAST(:contractId AS TEXT)))";
+
+    // Sorted, so that transactions locking overlapping sets of contracts cannot deadlock
+    private static final String LOCK_ALL = "SELECT pg_advisory_xact_lock(hashtext('contract-risk'), hashtext(CAST(id AS TEXT))) "
+            + "FROM (SELECT DISTINCT id FROM unnest(CAST(:contractIds AS UUID[])) AS id ORDER BY id) ids";
+
+    private static final String AFFECTED_CONTRACT = "WITH affected AS ("
+            + "SELECT CAST(:contractId AS UUID) AS contract_id "
+            + "UNION SELECT contract_id FROM contract_latest_risk_assessment WHERE contract_risk_assessment_id = :assessmentId), ";
+
+    private static final String AFFECTED_CONTRACTS = "WITH affected AS ("
+            + "SELECT DISTINCT unnest(CAST(:contractIds AS UUID[])) AS contract_id), ";
+
+    private static final String REFRESH = "latest AS (SELECT DISTINCT ON (a.contract_id) a.contract_id, a.contract_risk_assessment_id, a.risk_level, "
+            + "a.risk_score, a.assessment_date FROM contract_risk_assessment a JOIN affected f ON f.contract_id = a.contract_id "
+            + "ORDER BY a.contract_id, a.assessment_date DESC, a.created_at DESC, a.contract_risk_assessment_id DESC), "
+            + "removed AS (DELETE FROM contract_latest_risk_assessment p USING affected f "
+            + "WHERE p.contract_id = f.contract_id AND NOT EXISTS (SELECT 1 FROM latest l WHERE l.contract_id = p.contract_id)) "
+            + "INSERT INTO contract_latest_risk_assessment AS p "
+            + "(contract_id, contract_risk_assessment_id, risk_level, risk_score, assessment_date, updated_at) "
+            + "SELECT contract_id, contract_risk_assessment_id, risk_level, risk_score, assessment_date, CURRENT_TIMESTAMP "
+            + "FROM latest ON CONFLICT (contract_id) DO UPDATE "
+            + "SET contract_risk_assessment_id = EXCLUDED.contract_risk_assessment_id, risk_level = EXCLUDED.risk_level, "
+            + "risk_score = EXCLUDED.risk_score, assessment_date = EXCLUDED.assessment_date, updated_at = EXCLUDED.updated_at "
+            + "WHERE (p.contract_risk_assessment_id, p.risk_level, p.risk_score, p.assessment_date) IS DISTINCT FROM "
+            + "(EXCLUDED.contract_risk_assessment_id, EXCLUDED.risk_level, EXCLUDED.risk_score, EXCLUDED.assessment_date)";
+
+    private static final String COUNT_BY_LEVEL = "SELECT p.risk_level, COUNT(*) AS contracts "
+            + "FROM contract_latest_risk_assessment p JOIN contract c ON c.contract_id = p.contract_id "
+            + "WHERE c.contract_status = 'ACTIVE' GROUP BY p.risk_level";
+
+    private final DatabaseClient databaseClient;
+
+    public ContractRiskProjectionRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Void> refreshLatest(UUID contractId, UUID contractRiskAssessmentId) {
+        return databaseClient.sql(LOCK)
+                .bind("contractId", contractId)
+                .fetch()
+                .first()
+                .then(databaseClient.sql(AFFECTED_CONTRACT + REFRESH)
+                        .bind("contractId", contractId)
+                        .bind("assessmentId", contractRiskAssessmentId)
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> refreshLatest(Collection<UUID> contractIds) {
+        if (contractIds.isEmpty()) {
+            return Mono.empty();
+        }
+        UUID[] ids = contractIds.toArray(new UUID[0]);
+        return databaseClient.sql(LOCK_ALL)
+                .bind("contractIds", ids)
+                .fetch()
+                .all()
+                .then(databaseClient.sql(AFFECTED_CONTRACTS + REFRESH)
+                        .bind("contractIds", ids)
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Map<RiskLevelEnum, Long>> countActiveContractsByRiskLevel() {
+        return databaseClient.sql(COUNT_BY_LEVEL)
+                .map((row, metadata) -> Map.entry(
+                        RiskLevelEnum.valueOf(row.get("risk_level", String.class)),
+                        row.get("contracts", Long.class)))
+                .all()
+                .collect(() -> new EnumMap<>(RiskLevelEnum.class), (counts, entry) -> counts.put(entry.getKey(), entry.getValue()));
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.core.contracts.models.repositories;
 
 import com.firefly.core.contracts.interfaces.enums.StatusCodeEnum;
 import com.firefly.core.contracts.models.entities.ContractStatusHistory;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,6 +27,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -55,6 +57,38 @@ public interface ContractStatusHistoryRepository extends BaseRepository<Contract
     @Query("SELECT * FROM contract_status_history WHERE contract_id = :contractId AND status_end_date IS NULL")
     Mono<ContractStatusHistory> findCurrentStatusByContractId(@Param("contractId") UUID contractId);
 
+    /**
+     * Close the current (open) status of a contract at the given date
+     */
+    @Query("UPDATE contract_status_history SET status_end_date = :endDate, updated_at = :updatedAt "
+            + "WHERE contract_id = :contractId AND status_end_date IS NULL RETURNING *")
+    Mono<ContractStatusHistory> closeCurrentStatus(@Param("contractId") UUID contractId,
+                                                   @Param("endDate") LocalDateTime endDate,
+                                                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Close the current status of each given contract at the contract's end date, or at its own start date when
+     * the status started after the contract ended, so that no status ends before it starts
+     */
+    @Modifying
+    @Query("UPDATE contract_status_history h SET status_end_date = GREATEST(h.status_start_date, c.end_date), updated_at = :now "
+            + "FROM contract c WHERE c.contract_id = h.contract_id AND h.contract_id IN (:contractIds) "
+            + "AND h.status_end_date IS NULL")
+    Mono<Long> closeCurrentStatusesAtContractEnd(@Param("contractIds") Collection<UUID> contractIds,
+                                                 @Param("now") LocalDateTime now);
+
+    /**
+     * Open an EXPIRED status for each given contract, starting where its previous status was closed: at the
+     * contract's end date, or at the start of the latest status when that is later
+     */
+    @Modifying
+    @Query("INSERT INTO contract_status_history (contract_id, status_code, status_start_date, created_at, updated_at) "
+            + "SELECT c.contract_id, 'EXPIRED', GREATEST(c.end_date, MAX(h.status_start_date)), :now, :now "
+            + "FROM contract c LEFT JOIN contract_status_history h ON h.contract_id = c.contract_id "
+            + "WHERE c.contract_id IN (:contractIds) GROUP BY c.contract_id, c.end_date")
+    Mono<Long> insertExpiredStatuses(@Param("contractIds") Collection<UUID> contractIds,
+                                     @Param("now") LocalDateTime now);
+
     /**
      * Find status history within a date range
      */
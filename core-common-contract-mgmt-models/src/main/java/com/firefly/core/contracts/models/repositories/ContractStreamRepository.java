@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import com.firefly.core.contracts.models.entities.Contract;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming read operations for Contract entities, mixed into {@link ContractRepository}
+ */
+public interface ContractStreamRepository {
+
+    /**
+     * Stream contracts ordered by ID through a server-side cursor, fetching {@code fetchSize} rows per round trip
+     * as downstream demand arrives; {@code contractStatus} restricts the stream when not null
+     */
+    Flux<Contract> streamContracts(ContractStatusEnum contractStatus, int fetchSize);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import com.firefly.core.contracts.models.entities.Contract;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link DatabaseClient} based implementation of {@link ContractStreamRepository}.
+ * <p>
+ * Setting a fetch size makes the driver read the result through a portal in batches instead of
+ * materializing it, and it only requests the next batch once the previous one has been consumed,
+ * so a slow subscriber throttles the query rather than buffering rows in memory.
+ */
+public class ContractStreamRepositoryImpl implements ContractStreamRepository {
+
+    private static final String SELECT_ALL = "SELECT * FROM contract ORDER BY contract_id";
+
+    private static final String SELECT_BY_STATUS = "SELECT * FROM contract WHERE contract_status = :contractStatus ORDER BY contract_id";
+
+    private final DatabaseClient databaseClient;
+
+    private final R2dbcConverter converter;
+
+    public ContractStreamRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<Contract> streamContracts(ContractStatusEnum contractStatus, int fetchSize) {
+        DatabaseClient.GenericExecuteSpec spec = contractStatus == null
+                ? databaseClient.sql(SELECT_ALL)
+                : databaseClient.sql(SELECT_BY_STATUS).bind("contractStatus", contractStatus.name());
+        return spec
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map((row, metadata) -> converter.read(Contract.class, row, metadata))
+                .all();
+    }
+}
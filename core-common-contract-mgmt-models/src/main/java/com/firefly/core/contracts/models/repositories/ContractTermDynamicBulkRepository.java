@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batched write operations for ContractTermDynamic entities, mixed into {@link ContractTermDynamicRepository}
+ */
+public interface ContractTermDynamicBulkRepository {
+
+    /**
+     * Take a transaction-scoped advisory lock on a contract so concurrent bulk writes to it are serialized
+     */
+    Mono<Void> lockContractForBulkWrite(UUID contractId);
+
+    /**
+     * Insert all terms using multi-row INSERT statements; term IDs and timestamps must already be set
+     */
+    Mono<Long> insertAll(List<ContractTermDynamic> terms);
+
+    /**
+     * Update the values of all terms, matched by term ID, using multi-row UPDATE ... FROM (VALUES ...) statements;
+     * the version of every row is incremented without checking an expected version
+     */
+    Mono<Long> updateAll(List<ContractTermDynamic> terms);
+}
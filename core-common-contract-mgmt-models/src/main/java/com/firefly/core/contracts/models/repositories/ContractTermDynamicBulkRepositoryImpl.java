@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.ContractTermDynamic;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link DatabaseClient} based implementation of {@link ContractTermDynamicBulkRepository}.
+ * <p>
+ * Rows are written in chunks of {@value #CHUNK_SIZE} per statement so that a whole contract's terms
+ * usually go to the database in a single round trip while staying well below PostgreSQL's bind parameter limit.
+ */
+public class ContractTermDynamicBulkRepositoryImpl implements ContractTermDynamicBulkRepository {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO contract_term_dynamic (term_id, contract_id, term_template_id, "
+            + "term_value_text, term_value_numeric, term_value_json, effective_date, expiration_date, is_active, notes, "
+            + "created_at, updated_at) VALUES ";
+
+    private static final String UPDATE_PREFIX = "UPDATE contract_term_dynamic t SET term_value_text = v.term_value_text, "
+            + "term_value_numeric = v.term_value_numeric, term_value_json = v.term_value_json, "
+            + "effective_date = v.effective_date, expiration_date = v.expiration_date, is_active = v.is_active, "
+            + "notes = v.notes, updated_at = v.updated_at, version = t.version + 1 FROM (VALUES ";
+
+    private static final String UPDATE_SUFFIX = ") AS v(term_id, term_value_text, term_value_numeric, term_value_json, "
+            + "effective_date, expiration_date, is_active, notes, updated_at) WHERE t.term_id = v.term_id";
+
+    private final DatabaseClient databaseClient;
+
+    public ContractTermDynamicBulkRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Void> lockContractForBulkWrite(UUID contractId) {
+        return databaseClient.sql("SELECT pg_advisory_xact_lock(hashtext(CAST(:contractId AS TEXT)))")
+                .bind("contractId", contractId)
+                .fetch()
+                .first()
+                .then();
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<ContractTermDynamic> terms) {
+        return Flux.fromIterable(chunks(terms))
+                .concatMap(this::insertChunk)
+                .reduce(0L, Long::sum);
+    }
+
+    @Override
+    public Mono<Long> updateAll(List<ContractTermDynamic> terms) {
+        return Flux.fromIterable(chunks(terms))
+                .concatMap(this::updateChunk)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> insertChunk(List<ContractTermDynamic> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * 160).append(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i)
+                    .append(", :contractId").append(i)
+                    .append(", :templateId").append(i)
+                    .append(", :text").append(i)
+                    .append(", :numeric").append(i)
+                    .append(", CAST(:json").append(i).append(" AS JSONB)")
+                    .append(", :effective").append(i)
+                    .append(", :expiration").append(i)
+                    .append(", :active").append(i)
+                    .append(", :notes").append(i)
+                    .append(", :created").append(i)
+                    .append(", :updated").append(i)
+                    .append(')');
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            ContractTermDynamic term = chunk.get(i);
+            spec = spec.bind("id" + i, term.getTermId())
+                    .bind("contractId" + i, term.getContractId())
+                    .bind("templateId" + i, term.getTermTemplateId())
+                    .bind("created" + i, term.getCreatedAt());
+            spec = bindValues(spec, i, term);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private Mono<Long> updateChunk(List<ContractTermDynamic> chunk) {
+        StringBuilder sql = new StringBuilder(UPDATE_PREFIX.length() + chunk.size() * 200).append(UPDATE_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            // VALUES rows carry no column types, so every placeholder is cast explicitly
+            sql.append("(CAST(:id").append(i).append(" AS UUID)")
+                    .append(", CAST(:text").append(i).append(" AS TEXT)")
+                    .append(", CAST(:numeric").append(i).append(" AS DECIMAL(20,6))")
+                    .append(", CAST(:json").append(i).append(" AS JSONB)")
+                    .append(", CAST(:effective").append(i).append(" AS TIMESTAMP)")
+                    .append(", CAST(:expiration").append(i).append(" AS TIMESTAMP)")
+                    .append(", CAST(:active").append(i).append(" AS BOOLEAN)")
+                    .append(", CAST(:notes").append(i).append(" AS TEXT)")
+                    .append(", CAST(:updated").append(i).append(" AS TIMESTAMP)")
+                    .append(')');
+        }
+        sql.append(UPDATE_SUFFIX);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            ContractTermDynamic term = chunk.get(i);
+            spec = bindValues(spec.bind("id" + i, term.getTermId()), i, term);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindValues(DatabaseClient.GenericExecuteSpec spec, int i,
+                                                                ContractTermDynamic term) {
+        spec = bindNullable(spec, "text" + i, term.getTermValueText(), String.class);
+        spec = bindNullable(spec, "numeric" + i, term.getTermValueNumeric(), BigDecimal.class);
+        spec = bindNullable(spec, "json" + i,
+                term.getTermValueJson() == null || term.getTermValueJson().isNull() ? null : term.getTermValueJson().toString(),
+                String.class);
+        spec = spec.bind("effective" + i, term.getEffectiveDate());
+        spec = bindNullable(spec, "expiration" + i, term.getExpirationDate(), LocalDateTime.class);
+        spec = spec.bind("active" + i, term.getIsActive());
+        spec = bindNullable(spec, "notes" + i, term.getNotes(), String.class);
+        return spec.bind("updated" + i, term.getUpdatedAt());
+    }
+
+    private static <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                                      T value, Class<T> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        if (items.size() <= CHUNK_SIZE) {
+            return items.isEmpty() ? List.of() : List.of(items);
+        }
+        int count = (items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<List<T>> chunks = new ArrayList<>(count);
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(from + CHUNK_SIZE, items.size())));
+        }
+        return chunks;
+    }
+}
@@ -26,13 +26,14 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
  * Repository interface for ContractTermDynamic entity operations
  */
 @Repository
-public interface ContractTermDynamicRepository extends BaseRepository<ContractTermDynamic, UUID> {
+public interface ContractTermDynamicRepository extends BaseRepository<ContractTermDynamic, UUID>, ContractTermDynamicBulkRepository {
 
     /**
      * Find dynamic terms by contract ID
@@ -44,6 +45,11 @@ public interface ContractTermDynamicRepository extends BaseRepository<ContractTe
      */
     Flux<ContractTermDynamic> findByTermTemplateId(UUID termTemplateId);
 
+    /**
+     * Find dynamic terms by contract ID for any of the given term template IDs
+     */
+    Flux<ContractTermDynamic> findByContractIdAndTermTemplateIdIn(UUID contractId, Collection<UUID> termTemplateIds);
+
     /**
      * Find active dynamic terms by contract ID
      */
@@ -68,6 +74,13 @@ public interface ContractTermDynamicRepository extends BaseRepository<ContractTe
     Flux<ContractTermDynamic> findEffectiveTermsByContractIdAndDate(@Param("contractId") UUID contractId, 
                                                                     @Param("date") LocalDateTime date);
 
+    /**
+     * Find dynamic terms of any of the given contracts effective at a specific date
+     */
+    @Query("SELECT * FROM contract_term_dynamic WHERE contract_id IN (:contractIds) AND effective_date <= :date AND (expiration_date IS NULL OR expiration_date >= :date) AND is_active = true")
+    Flux<ContractTermDynamic> findEffectiveTermsByContractIdsAndDate(@Param("contractIds") Collection<UUID> contractIds,
+                                                                     @Param("date") LocalDateTime date);
+
     /**
      * Find dynamic terms expiring within a date range
      */
@@ -126,4 +139,27 @@ public interface ContractTermDynamicRepository extends BaseRepository<ContractTe
      */
     @Query("SELECT * FROM contract_term_dynamic WHERE expiration_date < :currentDate AND is_active = true")
     Flux<ContractTermDynamic> findExpiredTerms(@Param("currentDate") LocalDateTime currentDate);
+
+    /**
+     * Deactivate up to {@code limit} active terms whose expiration date is before {@code now}, oldest first,
+     * skipping rows locked by other transactions, and append an EXPIRED outbox entry for each of them; emits the
+     * contract ID of every deactivated term
+     */
+    @Query("WITH expired AS (UPDATE contract_term_dynamic SET is_active = false, updated_at = :now, version = version + 1 "
+            + "WHERE term_id IN (SELECT term_id FROM contract_term_dynamic "
+            + "WHERE is_active = true AND expiration_date < :now "
+            + "ORDER BY expiration_date LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "RETURNING term_id, contract_id, expiration_date, version) "
+            + "INSERT INTO contract_outbox (aggregate_type, aggregate_id, contract_id, change_type, payload) "
+            + "SELECT 'CONTRACT_TERM', term_id, contract_id, 'EXPIRED', jsonb_build_object('termId', term_id, "
+            + "'contractId', contract_id, 'isActive', false, 'expirationDate', expiration_date, 'version', version) "
+            + "FROM expired RETURNING contract_id")
+    Flux<UUID> deactivateExpiredTerms(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Find the expiration date of the oldest active term that has expired before {@code now}
+     */
+    @Query("SELECT expiration_date FROM contract_term_dynamic WHERE is_active = true AND expiration_date < :now "
+            + "ORDER BY expiration_date LIMIT 1")
+    Mono<LocalDateTime> findOldestPendingTermExpiry(@Param("now") LocalDateTime now);
 }
@@ -38,6 +38,12 @@ public interface ContractTermValidationRuleRepository extends BaseRepository<Con
      */
     Flux<ContractTermValidationRule> findByTermTemplateId(UUID termTemplateId);
 
+    /**
+     * Lock a validation rule row and return the term template it currently belongs to
+     */
+    @Query("SELECT term_template_id FROM contract_term_validation_rule WHERE validation_rule_id = :validationRuleId FOR UPDATE")
+    Mono<UUID> lockTermTemplateIdByValidationRuleId(@Param("validationRuleId") UUID validationRuleId);
+
     /**
      * Find validation rules by validation type
      */
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import com.firefly.core.contracts.models.entities.IdempotencyKey;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository interface for IdempotencyKey entity operations
+ */
+@Repository
+public interface IdempotencyKeyRepository extends BaseRepository<IdempotencyKey, UUID> {
+
+    /**
+     * Claim a key for the current transaction, taking over an expired row; empty if the key is held by an unexpired
+     * row. A concurrent claim of the same key waits until the transaction holding it completes.
+     */
+    @Query("INSERT INTO idempotency_key (idempotency_key_id, request_hash, expires_at) "
+            + "VALUES (:idempotencyKeyId, :requestHash, :expiresAt) "
+            + "ON CONFLICT (idempotency_key_id) DO UPDATE SET request_hash = EXCLUDED.request_hash, "
+            + "response_body = NULL, expires_at = EXCLUDED.expires_at WHERE idempotency_key.expires_at <= :now "
+            + "RETURNING idempotency_key_id")
+    Mono<UUID> claim(@Param("idempotencyKeyId") UUID idempotencyKeyId,
+                     @Param("requestHash") UUID requestHash,
+                     @Param("expiresAt") LocalDateTime expiresAt,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Store the response of the request that claimed a key
+     */
+    @Modifying
+    @Query("UPDATE idempotency_key SET response_body = :responseBody WHERE idempotency_key_id = :idempotencyKeyId")
+    Mono<Long> complete(@Param("idempotencyKeyId") UUID idempotencyKeyId, @Param("responseBody") String responseBody);
+
+    /**
+     * Find a key that has not expired yet
+     */
+    @Query("SELECT * FROM idempotency_key WHERE idempotency_key_id = :idempotencyKeyId AND expires_at > :now")
+    Mono<IdempotencyKey> findUnexpired(@Param("idempotencyKeyId") UUID idempotencyKeyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete up to {@code limit} keys that expired before {@code now}
+     */
+    @Modifying
+    @Query("DELETE FROM idempotency_key WHERE idempotency_key_id IN "
+            + "(SELECT idempotency_key_id FROM idempotency_key WHERE expires_at <= :now LIMIT :limit)")
+    Mono<Long> deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories.support;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.repository.query.RelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Repository base class adding single-statement conditional writes to every repository.
+ * <p>
+ * {@link #updateExisting(Object)} and the delete variants address the row by primary key in one
+ * statement, so callers no longer need a {@code findById} round trip to detect a missing row: an
+ * empty result (or a count of zero) means nothing matched. Versioned entities are updated with an
+ * optimistic version check. Registered as the
+ * {@code repositoryBaseClass} of the application's R2DBC repositories.
+ */
+public class ConditionalWriteR2dbcRepository<T, ID> extends SimpleR2dbcRepository<T, ID> {
+
+    private final RelationalEntityInformation<T, ID> entityInformation;
+
+    private final R2dbcEntityOperations entityOperations;
+
+    private final RelationalPersistentEntity<T> persistentEntity;
+
+    public ConditionalWriteR2dbcRepository(RelationalEntityInformation<T, ID> entityInformation,
+                                           R2dbcEntityOperations entityOperations,
+                                           R2dbcConverter converter) {
+        super(entityInformation, entityOperations, converter);
+        this.entityInformation = entityInformation;
+        this.entityOperations = entityOperations;
+        @SuppressWarnings("unchecked")
+        RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) converter.getMappingContext()
+                .getRequiredPersistentEntity(entityInformation.getJavaType());
+        this.persistentEntity = entity;
+    }
+
+    /**
+     * Overwrites the row identified by the entity's ID with the entity's values using
+     * {@code UPDATE ... WHERE id = :id RETURNING *}.
+     * <p>
+     * {@link CreatedDate} columns are never written and {@link LastModifiedDate} columns are set to now.
+     * For entities with a {@link Version} property the stored version is incremented, and when the
+     * entity carries a version the row is only updated if it still has that version.
+     *
+     * @param entity the entity to write, with its ID set
+     * @return a Mono emitting the updated row as stored, or empty if no row has the entity's ID
+     * @throws OptimisticLockingFailureException (as error signal) if the row exists with a different version
+     */
+    public Mono<T> updateExisting(T entity) {
+        RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+        RelationalPersistentProperty lastModified = persistentEntity.getPersistentProperty(LastModifiedDate.class);
+        if (lastModified != null && LocalDateTime.class.equals(lastModified.getType())) {
+            accessor.setProperty(lastModified, LocalDateTime.now());
+        }
+        RelationalPersistentProperty createdDate = persistentEntity.getPersistentProperty(CreatedDate.class);
+        RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+        Object expectedVersion = versionProperty != null ? accessor.getProperty(versionProperty) : null;
+
+        OutboundRow row = new OutboundRow();
+        entityOperations.getConverter().write(entity, row);
+
+        ReactiveDataAccessStrategy strategy = entityOperations.getDataAccessStrategy();
+        StringBuilder sql = new StringBuilder("UPDATE ")
+                .append(strategy.toSql(persistentEntity.getQualifiedTableName()))
+                .append(" SET ");
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        for (Map.Entry<SqlIdentifier, ?> column : row.entrySet()) {
+            SqlIdentifier columnName = column.getKey();
+            if (columnName.equals(idProperty.getColumnName())
+                    || (createdDate != null && columnName.equals(createdDate.getColumnName()))
+                    || (versionProperty != null && columnName.equals(versionProperty.getColumnName()))) {
+                continue;
+            }
+            String parameter = "p" + bindings.size();
+            if (!bindings.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(strategy.toSql(columnName)).append(" = :").append(parameter);
+            bindings.put(parameter, column.getValue());
+        }
+        if (versionProperty != null) {
+            String versionColumn = strategy.toSql(versionProperty.getColumnName());
+            sql.append(", ").append(versionColumn).append(" = ").append(versionColumn).append(" + 1");
+        }
+        ID id = entityInformation.getRequiredId(entity);
+        sql.append(" WHERE ").append(strategy.toSql(idProperty.getColumnName())).append(" = :id");
+        if (expectedVersion != null) {
+            sql.append(" AND ").append(strategy.toSql(versionProperty.getColumnName())).append(" = :version");
+            bindings.put("version", expectedVersion);
+        }
+        sql.append(" RETURNING *");
+
+        DatabaseClient.GenericExecuteSpec spec = entityOperations.getDatabaseClient().sql(sql.toString()).bind("id", id);
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        Mono<T> updated = entityOperations.getRowsFetchSpec(spec, entityInformation.getJavaType(), entityInformation.getJavaType()).one();
+        if (expectedVersion == null) {
+            return updated;
+        }
+        // Only a miss needs the second look, to tell a stale version from a missing row
+        return updated.switchIfEmpty(Mono.defer(() -> existsById(id)
+                .flatMap(exists -> exists
+                        ? Mono.error(new OptimisticLockingFailureException("Row " + id + " of "
+                                + persistentEntity.getTableName().getReference() + " was modified concurrently; expected version "
+                                + expectedVersion))
+                        : Mono.empty())));
+    }
+
+    /**
+     * Deletes the row with the given ID using a single {@code DELETE ... WHERE id = :id}.
+     *
+     * @param id the ID of the row to delete
+     * @return a Mono emitting the number of deleted rows, {@code 0} if no row has the ID
+     */
+    public Mono<Long> deleteByIdReturningCount(ID id) {
+        return entityOperations.delete(
+                Query.query(Criteria.where(persistentEntity.getRequiredIdProperty().getName()).is(id)),
+                entityInformation.getJavaType());
+    }
+
+    /**
+     * Deletes the row with the given ID using a single {@code DELETE ... WHERE id = :id RETURNING *},
+     * for callers that need the deleted values (for example to evict caches keyed by them).
+     *
+     * @param id the ID of the row to delete
+     * @return a Mono emitting the deleted row, or empty if no row has the ID
+     */
+    public Mono<T> deleteByIdReturning(ID id) {
+        ReactiveDataAccessStrategy strategy = entityOperations.getDataAccessStrategy();
+        String sql = "DELETE FROM " + strategy.toSql(persistentEntity.getQualifiedTableName())
+                + " WHERE " + strategy.toSql(persistentEntity.getRequiredIdProperty().getColumnName())
+                + " = :id RETURNING *";
+        DatabaseClient.GenericExecuteSpec spec = entityOperations.getDatabaseClient().sql(sql).bind("id", id);
+        return entityOperations.getRowsFetchSpec(spec, entityInformation.getJavaType(), entityInformation.getJavaType()).one();
+    }
+}
@@ -0,0 +1,14 @@
+-- =========================
+-- EXPIRY ENGINE INDEXES
+-- =========================
+
+-- Contracts still waiting to be expired, in end date order; the expiry engine claims chunks from the front
+-- of this index and measures its lag from the first entry
+CREATE INDEX idx_contract_expiry_pending
+    ON contract(end_date)
+    WHERE contract_status IN ('ACTIVE', 'SUSPENDED') AND end_date IS NOT NULL;
+
+-- Active terms by expiration date, for the same purpose
+CREATE INDEX idx_contract_term_dynamic_expiry_pending
+    ON contract_term_dynamic(expiration_date)
+    WHERE is_active = true AND expiration_date IS NOT NULL;
@@ -0,0 +1,26 @@
+-- =========================
+-- TRANSACTIONAL OUTBOX
+-- =========================
+
+-- One row per change to a contract or one of its children, written in the same transaction as the change.
+-- transaction_id records the writing transaction: a row is only published once every transaction with a lower
+-- ID has finished, so consumers reading in (transaction_id, outbox_id) order never skip a row that commits late.
+CREATE TABLE contract_outbox (
+    outbox_id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    transaction_id XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    contract_id UUID NOT NULL,
+    change_type VARCHAR(50) NOT NULL,
+    payload JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tailing order and resume position
+CREATE INDEX idx_contract_outbox_position ON contract_outbox(transaction_id, outbox_id);
+
+-- Retention purge
+CREATE INDEX idx_contract_outbox_created_at ON contract_outbox(created_at);
+
+COMMENT ON TABLE contract_outbox IS 'Transactional outbox of contract changes, tailed by the change stream endpoint';
+COMMENT ON COLUMN contract_outbox.transaction_id IS 'ID of the writing transaction, used to publish rows in commit-safe order';
@@ -0,0 +1,35 @@
+-- =========================
+-- LATEST RISK ASSESSMENT PER CONTRACT
+-- =========================
+
+-- Projection of each contract's most recent risk assessment, maintained in the same transaction as every
+-- assessment write so that portfolio queries never have to scan the assessment history
+CREATE TABLE contract_latest_risk_assessment (
+    contract_id UUID PRIMARY KEY,
+    contract_risk_assessment_id UUID NOT NULL,
+    risk_level risk_level_enum NOT NULL,
+    risk_score DECIMAL(5,2),
+    assessment_date TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_contract_latest_risk_assessment_contract FOREIGN KEY (contract_id) REFERENCES contract(contract_id) ON DELETE CASCADE
+);
+
+-- Newest-first probe per contract, used to recompute the projection and by findLatestByContractId;
+-- it also serves every lookup the plain contract_id index did
+CREATE INDEX idx_contract_risk_assessment_latest
+    ON contract_risk_assessment(contract_id, assessment_date DESC, created_at DESC, contract_risk_assessment_id DESC);
+DROP INDEX IF EXISTS idx_contract_risk_assessment_contract_id;
+
+-- Distribution by level, and the currently high-risk contracts in the order dashboards list them
+CREATE INDEX idx_contract_latest_risk_assessment_level ON contract_latest_risk_assessment(risk_level);
+CREATE INDEX idx_contract_latest_risk_assessment_high
+    ON contract_latest_risk_assessment(risk_score DESC NULLS LAST, assessment_date DESC)
+    WHERE risk_level IN ('HIGH', 'CRITICAL');
+
+-- Backfill from the existing history
+INSERT INTO contract_latest_risk_assessment (contract_id, contract_risk_assessment_id, risk_level, risk_score, assessment_date)
+SELECT DISTINCT ON (contract_id) contract_id, contract_risk_assessment_id, risk_level, risk_score, assessment_date
+FROM contract_risk_assessment
+ORDER BY contract_id, assessment_date DESC, created_at DESC, contract_risk_assessment_id DESC;
+
+COMMENT ON TABLE contract_latest_risk_assessment IS 'Most recent risk assessment of each contract, maintained by the risk assessment service';
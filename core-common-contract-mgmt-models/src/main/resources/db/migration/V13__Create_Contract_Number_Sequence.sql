@@ -0,0 +1,17 @@
+-- =========================
+-- CONTRACT NUMBER ALLOCATION
+-- =========================
+
+-- Each nextval leases a block of INCREMENT BY numbers [value, value + increment) to one service instance,
+-- which hands them out from memory. The increment may be raised later but never lowered, or a new block
+-- could overlap the last one leased.
+CREATE SEQUENCE contract_number_seq START WITH 1 INCREMENT BY 1000 NO CYCLE;
+
+COMMENT ON SEQUENCE contract_number_seq IS 'Contract number blocks leased by the service instances; the increment is the block size';
+
+-- Contracts created before numbers were allocated may carry client-supplied numbers in the default format
+-- (CTR-%010d); start past the highest of them so that no leased block repeats one. Product catalog formats
+-- (contracts.numbering.formats) are not known here: check existing numbers against a format before configuring it.
+SELECT setval('contract_number_seq', MAX(substring(contract_number FROM '^CTR-([0-9]{1,18})$')::BIGINT) + 1, false)
+FROM contract
+HAVING MAX(substring(contract_number FROM '^CTR-([0-9]{1,18})$')::BIGINT) IS NOT NULL;
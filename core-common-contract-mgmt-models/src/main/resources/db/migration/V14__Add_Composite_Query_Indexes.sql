@@ -0,0 +1,70 @@
+-- =========================
+-- COMPOSITE QUERY INDEXES
+-- =========================
+
+-- Indexes shaped after the repository queries: the equality columns first, then the range or ORDER BY column,
+-- so that each query is a single index range scan that returns rows already in order. Each new index leads
+-- with the column of the single-column index it replaces, so lookups on that column alone keep using it.
+
+-- Contract terms
+-- findLatestByContractIdAndTermTemplateId, findByContractIdAndTermTemplateId(In) and
+-- findByContractIdAndTermTemplateIdAndIsActive; a contract has few rows per template, so a separate partial
+-- index for the active ones would cost more on writes than it saves on reads
+CREATE INDEX idx_contract_term_dynamic_contract_template
+    ON contract_term_dynamic(contract_id, term_template_id, effective_date DESC);
+-- findEffectiveTermsByContractIdAndDate, findEffectiveTermsByContractIdsAndDate, findByContractIdAndIsActive(true);
+-- expiration_date is included so that the open-ended check is evaluated in the index
+CREATE INDEX idx_contract_term_dynamic_contract_effective
+    ON contract_term_dynamic(contract_id, effective_date)
+    INCLUDE (expiration_date)
+    WHERE is_active = true;
+DROP INDEX IF EXISTS idx_contract_term_dynamic_contract_id;
+DROP INDEX IF EXISTS idx_contract_term_dynamic_active;
+
+-- Contract parties
+-- findByContractIdAndIsActive, findByContractIdInAndIsActive, findByContractIdAndPartyId
+CREATE INDEX idx_contract_party_contract_active ON contract_party(contract_id, is_active);
+-- findByPartyIdAndIsActive, findByPartyId (party index cache)
+CREATE INDEX idx_contract_party_party_active ON contract_party(party_id, is_active);
+DROP INDEX IF EXISTS idx_contract_party_contract_id;
+DROP INDEX IF EXISTS idx_contract_party_party_id;
+DROP INDEX IF EXISTS idx_contract_party_active;
+
+-- Contract events
+-- findByContractIdOrderByEventDateDesc, findRecentEventsByContractId, findLatestEventByContractId,
+-- findByContractIdAndEventDateBetween
+CREATE INDEX idx_contract_event_contract_date ON contract_event(contract_id, event_date DESC);
+DROP INDEX IF EXISTS idx_contract_event_contract_id;
+
+-- Contract status history
+-- findByContractIdOrderByStatusStartDateDesc, findLatestByContractId
+CREATE INDEX idx_contract_status_history_contract_start
+    ON contract_status_history(contract_id, status_start_date DESC);
+DROP INDEX IF EXISTS idx_contract_status_history_contract_id;
+
+-- Contract documents
+-- findLatestByContractId, findByContractId, countByContractId
+CREATE INDEX idx_contract_document_contract_added ON contract_document(contract_id, date_added DESC);
+-- findByDocumentId
+CREATE INDEX idx_contract_document_document_id ON contract_document(document_id) WHERE document_id IS NOT NULL;
+DROP INDEX IF EXISTS idx_contract_document_contract_id;
+
+-- Term templates
+-- findByTermCategoryAndIsActive, findByTermCategory
+CREATE INDEX idx_contract_term_template_category_active ON contract_term_template(term_category, is_active);
+DROP INDEX IF EXISTS idx_contract_term_template_category;
+DROP INDEX IF EXISTS idx_contract_term_template_active;
+-- the UNIQUE constraint on code already has its own index
+DROP INDEX IF EXISTS idx_contract_term_template_code;
+
+-- Term validation rules
+-- findByTermTemplateIdOrderByValidationType, findByTermTemplateIdAndValidationType, findByTermTemplateId
+CREATE INDEX idx_contract_term_validation_rule_template_type
+    ON contract_term_validation_rule(term_template_id, validation_type);
+DROP INDEX IF EXISTS idx_contract_term_validation_rule_template_id;
+
+-- Contracts: duplicates of other indexes
+-- the UNIQUE constraint on contract_number already has its own index
+DROP INDEX IF EXISTS idx_contract_number;
+-- idx_contract_product_catalog_product leads with product_catalog_id
+DROP INDEX IF EXISTS idx_contract_product_catalog_id;
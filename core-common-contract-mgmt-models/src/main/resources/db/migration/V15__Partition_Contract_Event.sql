@@ -0,0 +1,140 @@
+-- =========================
+-- PARTITION CONTRACT EVENTS BY MONTH
+-- =========================
+
+-- contract_event is range partitioned by event_date into one partition per month (contract_event_pYYYYMM), so that
+-- date range queries only scan the months they cover and old months can be detached instead of deleted.
+-- Events from before this migration's month stay in contract_event_legacy, the former table attached as a partition;
+-- rows outside every other partition (far future events) land in contract_event_default.
+-- contract_status_history is not partitioned: its current-status unique index (V9) cannot be enforced across
+-- partitions, and it grows by a few rows per contract rather than per business event.
+
+-- Detached partitions are moved here until they have been exported and dropped
+CREATE SCHEMA IF NOT EXISTS contract_archive;
+
+-- Creates the missing monthly partitions of parent_table from the month of from_date up to months_ahead months
+-- after the current month. Rows already in the default partition for a new month are moved into it.
+-- Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, partition_column TEXT,
+                                                     from_date DATE, months_ahead INT)
+RETURNS INT LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_date)::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::date;
+    month_end DATE;
+    partition_name TEXT;
+    default_name TEXT := parent_table || '_default';
+    has_default_rows BOOLEAN;
+    created INT := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        month_end := (month_start + INTERVAL '1 month')::date;
+        partition_name := parent_table || '_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= %L AND %I < %L)',
+                           default_name, partition_column, month_start, partition_column, month_end)
+                INTO has_default_rows;
+            IF has_default_rows THEN
+                EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                               partition_name, parent_table);
+                EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                               'INSERT INTO %I SELECT * FROM moved',
+                               default_name, partition_column, month_start, partition_column, month_end, partition_name);
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               parent_table, partition_name, month_start, month_end);
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, parent_table, month_start, month_end);
+            END IF;
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Detaches the monthly partitions of parent_table that end on or before before_date, drops their foreign keys
+-- and moves them to archive_schema. Returns the names of the detached partitions.
+CREATE OR REPLACE FUNCTION archive_monthly_partitions(parent_table TEXT, before_date DATE, archive_schema TEXT)
+RETURNS SETOF TEXT LANGUAGE plpgsql AS $$
+DECLARE
+    partition_name TEXT;
+    foreign_key TEXT;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent_table::regclass
+          AND c.relname ~ ('^' || parent_table || '_p[0-9]{6}$')
+          AND to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month' <= before_date
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, partition_name);
+        FOR foreign_key IN
+            SELECT conname FROM pg_constraint WHERE conrelid = partition_name::regclass AND contype = 'f'
+        LOOP
+            EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', partition_name, foreign_key);
+        END LOOP;
+        EXECUTE format('ALTER TABLE %I SET SCHEMA %I', partition_name, archive_schema);
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$;
+
+-- Rebuild contract_event as a partitioned table. The existing table is attached to it as the partition
+-- contract_event_legacy, covering every event before the current month, instead of being copied: only the events
+-- of the current month and later are moved into the new monthly partitions. The migration still holds an ACCESS
+-- EXCLUSIVE lock on contract_event until it commits, during which events can neither be read nor written. That
+-- time is spent on:
+--   * building the (contract_event_id, event_date) primary key of the legacy partition, unless it was built
+--     beforehand with CREATE UNIQUE INDEX CONCURRENTLY contract_event_id_date_idx
+--     ON contract_event (contract_event_id, event_date), in which case it is reused;
+--   * one sequential scan of contract_event by ATTACH PARTITION, checking that every row is before the bound;
+--   * moving the events of the current month and later.
+-- The secondary indexes and the foreign key are reused as they are. contract_event_legacy is not archived by
+-- archive_monthly_partitions; once all its events are past retention, detach and drop it by hand.
+ALTER TABLE contract_event RENAME TO contract_event_legacy;
+ALTER TABLE contract_event_legacy RENAME CONSTRAINT contract_event_pkey TO contract_event_legacy_pkey;
+ALTER INDEX idx_contract_event_contract_date RENAME TO contract_event_legacy_contract_date_idx;
+ALTER INDEX idx_contract_event_type RENAME TO contract_event_legacy_type_idx;
+ALTER INDEX idx_contract_event_date RENAME TO contract_event_legacy_date_idx;
+
+CREATE TABLE contract_event (LIKE contract_event_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+    PARTITION BY RANGE (event_date);
+
+-- The partition key has to be part of the primary key; event IDs stay unique as they are random UUIDs
+ALTER TABLE contract_event ADD CONSTRAINT contract_event_pkey PRIMARY KEY (contract_event_id, event_date);
+ALTER TABLE contract_event ADD CONSTRAINT fk_contract_event_contract
+    FOREIGN KEY (contract_id) REFERENCES contract(contract_id) ON DELETE CASCADE;
+
+CREATE INDEX idx_contract_event_contract_date ON contract_event(contract_id, event_date DESC);
+CREATE INDEX idx_contract_event_type ON contract_event(event_type);
+CREATE INDEX idx_contract_event_date ON contract_event(event_date);
+
+CREATE TABLE contract_event_default PARTITION OF contract_event DEFAULT;
+SELECT create_monthly_partitions('contract_event', 'event_date', CURRENT_DATE, 3);
+
+DO $$
+DECLARE
+    legacy_end DATE := date_trunc('month', CURRENT_DATE)::date;
+BEGIN
+    EXECUTE format('WITH moved AS (DELETE FROM contract_event_legacy WHERE event_date >= %L RETURNING *) '
+                   'INSERT INTO contract_event SELECT * FROM moved', legacy_end);
+
+    ALTER TABLE contract_event_legacy DROP CONSTRAINT contract_event_legacy_pkey;
+    IF to_regclass('contract_event_id_date_idx') IS NOT NULL THEN
+        ALTER TABLE contract_event_legacy
+            ADD CONSTRAINT contract_event_legacy_pkey PRIMARY KEY USING INDEX contract_event_id_date_idx;
+    ELSE
+        ALTER TABLE contract_event_legacy
+            ADD CONSTRAINT contract_event_legacy_pkey PRIMARY KEY (contract_event_id, event_date);
+    END IF;
+
+    EXECUTE format('ALTER TABLE contract_event ATTACH PARTITION contract_event_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+                   legacy_end);
+END;
+$$;
+
+COMMENT ON TABLE contract_event IS 'Contract lifecycle events, partitioned by event_date into monthly partitions';
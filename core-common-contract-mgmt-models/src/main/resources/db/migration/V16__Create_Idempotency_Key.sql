@@ -0,0 +1,22 @@
+-- =========================
+-- IDEMPOTENCY KEYS
+-- =========================
+
+-- One row per Idempotency-Key seen on a create endpoint, claimed in the same transaction as the create.
+-- A retry with the same key either waits for that transaction and replays its response, or claims the key
+-- itself if the transaction rolled back. Keys and request bodies are stored as name-based UUIDs, so rows have
+-- a fixed size apart from the response.
+CREATE TABLE idempotency_key (
+    idempotency_key_id UUID PRIMARY KEY,
+    request_hash UUID NOT NULL,
+    response_body TEXT,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Retention purge
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key(expires_at);
+
+COMMENT ON TABLE idempotency_key IS 'Idempotency keys of create requests and the responses to replay for them';
+COMMENT ON COLUMN idempotency_key.idempotency_key_id IS 'Name-based UUID of the endpoint scope and the Idempotency-Key header';
+COMMENT ON COLUMN idempotency_key.request_hash IS 'Name-based UUID of the request body, to reject a key reused for a different request';
+COMMENT ON COLUMN idempotency_key.response_body IS 'JSON response of the create, written before its transaction commits';
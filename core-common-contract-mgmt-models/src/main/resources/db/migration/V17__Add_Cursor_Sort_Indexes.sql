@@ -0,0 +1,17 @@
+-- =========================
+-- CURSOR PAGINATION INDEXES
+-- =========================
+
+-- The /filter/cursor endpoints sort and seek on (sort key, primary key), createdAt by default. These indexes let
+-- each page start an index range scan at the cursor and stop after the page instead of sorting the whole table.
+-- The other cursor sort keys (event_date, status_start_date, effective_date, assessment_date, code) already lead
+-- an index; rows with the same value are put in primary key order by an incremental sort of those rows only.
+CREATE INDEX idx_contract_created_at ON contract(created_at, contract_id);
+CREATE INDEX idx_contract_party_created_at ON contract_party(created_at, contract_party_id);
+CREATE INDEX idx_contract_document_created_at ON contract_document(created_at, contract_document_id);
+CREATE INDEX idx_contract_status_history_created_at ON contract_status_history(created_at, contract_status_history_id);
+CREATE INDEX idx_contract_event_created_at ON contract_event(created_at, contract_event_id);
+CREATE INDEX idx_contract_risk_assessment_created_at ON contract_risk_assessment(created_at, contract_risk_assessment_id);
+CREATE INDEX idx_contract_term_template_created_at ON contract_term_template(created_at, term_template_id);
+CREATE INDEX idx_contract_term_validation_rule_created_at ON contract_term_validation_rule(created_at, validation_rule_id);
+CREATE INDEX idx_contract_term_dynamic_created_at ON contract_term_dynamic(created_at, term_id);
@@ -0,0 +1,14 @@
+-- =========================
+-- ADD OPTIMISTIC LOCKING VERSION
+-- =========================
+
+-- Row version incremented on every update; writers send it back (If-Match) to detect concurrent modifications
+ALTER TABLE contract
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE contract_term_dynamic
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Add comments for clarity
+COMMENT ON COLUMN contract.version IS 'Optimistic locking version, incremented on every update';
+COMMENT ON COLUMN contract_term_dynamic.version IS 'Optimistic locking version, incremented on every update';
@@ -0,0 +1,25 @@
+-- =========================
+-- MATERIALIZE CURRENT CONTRACT STATUS
+-- =========================
+
+-- Close every open status row except the most recent one per contract, ending it where its successor starts,
+-- so that at most one open row per contract remains
+UPDATE contract_status_history h
+SET status_end_date = newest.status_start_date,
+    updated_at = CURRENT_TIMESTAMP
+FROM (
+    SELECT DISTINCT ON (contract_id) contract_id, contract_status_history_id, status_start_date
+    FROM contract_status_history
+    WHERE status_end_date IS NULL
+    ORDER BY contract_id, status_start_date DESC, created_at DESC
+) newest
+WHERE h.contract_id = newest.contract_id
+  AND h.status_end_date IS NULL
+  AND h.contract_status_history_id <> newest.contract_status_history_id;
+
+-- At most one open (current) status row per contract; the included columns make the current-status
+-- lookup an index-only probe
+CREATE UNIQUE INDEX uq_contract_status_history_current
+    ON contract_status_history(contract_id)
+    INCLUDE (contract_status_history_id, status_code, status_start_date, status_end_date, created_at, updated_at)
+    WHERE status_end_date IS NULL;
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.models.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations against a real Postgres and checks with {@code EXPLAIN} that the hot repository
+ * queries are answered by an index scan, so that a migration dropping or reshaping one of their indexes fails
+ * the build instead of turning the query into a sequential scan in production.
+ * <p>
+ * Sequential and bitmap scans are disabled for the session: on the empty test tables the planner would otherwise
+ * prefer a sequential scan even where a matching index exists. Queries declared with {@link Query} are read from
+ * the repository so the plan always covers the SQL that is actually run; derived queries are spelled out the way
+ * Spring Data R2DBC renders them.
+ * <p>
+ * The test is skipped, not failed, where no Docker daemon is available, so a green build without Docker says
+ * nothing about the plans. It has not been run against the current migrations yet: run it on a machine with
+ * Docker before relying on it, and remove this note once it has passed there.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanTest {
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":(\\w+)");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void findByContractIdAndIsActiveOnTermsUsesIndex() throws SQLException {
+        assertIndexScan("SELECT contract_term_dynamic.* FROM contract_term_dynamic"
+                        + " WHERE contract_term_dynamic.contract_id = ? AND contract_term_dynamic.is_active = ?",
+                UUID.randomUUID(), true);
+    }
+
+    @Test
+    void findByContractIdAndIsActiveOnPartiesUsesIndex() throws SQLException {
+        assertIndexScan("SELECT contract_party.* FROM contract_party"
+                        + " WHERE contract_party.contract_id = ? AND contract_party.is_active = ?",
+                UUID.randomUUID(), true);
+    }
+
+    @Test
+    void findEffectiveTermsByContractIdAndDateUsesIndex() throws SQLException {
+        assertIndexScan(declaredQuery(ContractTermDynamicRepository.class, "findEffectiveTermsByContractIdAndDate"),
+                Map.of("contractId", UUID.randomUUID(), "date", LocalDateTime.now()));
+    }
+
+    @Test
+    void findByContractIdOrderByEventDateDescUsesIndex() throws SQLException {
+        assertIndexScan("SELECT contract_event.* FROM contract_event"
+                        + " WHERE contract_event.contract_id = ? ORDER BY contract_event.event_date DESC",
+                UUID.randomUUID());
+    }
+
+    @Test
+    void findLatestByContractIdAndTermTemplateIdUsesIndex() throws SQLException {
+        assertIndexScan(declaredQuery(ContractTermDynamicRepository.class, "findLatestByContractIdAndTermTemplateId"),
+                Map.of("contractId", UUID.randomUUID(), "termTemplateId", UUID.randomUUID()));
+    }
+
+    @Test
+    void findByPartyIdAndIsActiveUsesIndex() throws SQLException {
+        assertIndexScan("SELECT contract_party.* FROM contract_party"
+                        + " WHERE contract_party.party_id = ? AND contract_party.is_active = ?",
+                UUID.randomUUID(), true);
+    }
+
+    private static String declaredQuery(Class<?> repository, String methodName) {
+        return Arrays.stream(repository.getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .map(method -> method.getAnnotation(Query.class))
+                .filter(query -> query != null)
+                .map(Query::value)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No @Query on " + repository.getSimpleName() + "." + methodName));
+    }
+
+    private static void assertIndexScan(String namedSql, Map<String, Object> parameters) throws SQLException {
+        List<Object> values = new ArrayList<>();
+        Matcher matcher = NAMED_PARAMETER.matcher(namedSql);
+        StringBuilder sql = new StringBuilder();
+        while (matcher.find()) {
+            values.add(parameters.get(matcher.group(1)));
+            matcher.appendReplacement(sql, "?");
+        }
+        matcher.appendTail(sql);
+        assertIndexScan(sql.toString(), values.toArray());
+    }
+
+    private static void assertIndexScan(String sql, Object... values) throws SQLException {
+        String plan = explain(sql, values);
+        assertThat(plan)
+                .as("plan for %s", sql)
+                .doesNotContain("Seq Scan")
+                .doesNotContain("Bitmap")
+                .containsPattern("Index (Only )?Scan");
+    }
+
+    private static String explain(String sql, Object... values) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET enable_bitmapscan = off");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < values.length; i++) {
+                    statement.setObject(i + 1, values[i]);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        }
+    }
+}
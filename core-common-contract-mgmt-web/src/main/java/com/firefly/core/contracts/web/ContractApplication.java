@@ -17,6 +17,7 @@
 
 package com.firefly.core.contracts.web;
 
+import com.firefly.core.contracts.models.repositories.support.ConditionalWriteR2dbcRepository;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -26,6 +27,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.reactive.config.EnableWebFlux;
 
 @SpringBootApplication(
@@ -36,9 +38,11 @@ import org.springframework.web.reactive.config.EnableWebFlux;
 )
 @EnableWebFlux
 @EnableR2dbcRepositories(
-        basePackages = "com.firefly.core.contracts.models.repositories"
+        basePackages = "com.firefly.core.contracts.models.repositories",
+        repositoryBaseClass = ConditionalWriteR2dbcRepository.class
 )
 @EnableR2dbcAuditing
+@EnableScheduling
 @ConfigurationPropertiesScan
 @OpenAPIDefinition(
         info = @Info(
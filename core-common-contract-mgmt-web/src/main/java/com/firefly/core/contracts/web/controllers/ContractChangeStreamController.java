@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.web.controllers;
+
+import com.firefly.core.contracts.core.services.ContractChangeStreamService;
+import com.firefly.core.contracts.interfaces.dtos.ContractChangeDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/contract-changes")
+@Tag(name = "Contract Changes", description = "API for subscribing to changes of contracts and their children")
+@RequiredArgsConstructor
+public class ContractChangeStreamController {
+
+    /**
+     * Keeps idle connections from being closed by proxies while no changes are published
+     */
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final ContractChangeStreamService contractChangeStreamService;
+
+    @Operation(summary = "Stream contract changes", description = "Server-sent event stream of every committed change to contracts, terms, parties, status history and contract events. Each event's id is its stream position; reconnect with Last-Event-ID (or after) to resume without gaps. Without a position the stream starts at the current end")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Contract change stream",
+                content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, 
+                schema = @Schema(implementation = ContractChangeDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid stream position", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<ContractChangeDTO>>> streamChanges(
+            @Parameter(description = "Position to resume after; takes precedence over Last-Event-ID")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Position of the last event received, sent automatically by EventSource clients on reconnect")
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "Only stream changes of this contract")
+            @RequestParam(required = false) UUID contractId) {
+        Flux<ServerSentEvent<ContractChangeDTO>> changes = contractChangeStreamService
+                .streamChanges(after != null ? after : lastEventId, contractId)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(change.getPosition())
+                        .event(change.getChangeType().name())
+                        .build());
+        Flux<ServerSentEvent<ContractChangeDTO>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<ContractChangeDTO>builder().comment("heartbeat").build());
+        return ResponseEntity.ok(Flux.merge(changes, heartbeats));
+    }
+}
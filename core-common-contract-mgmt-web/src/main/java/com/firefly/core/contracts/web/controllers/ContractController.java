@@ -19,8 +19,14 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractService;
 import com.firefly.core.contracts.interfaces.dtos.ContractDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusTransitionRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractStatusTransitionResponseDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.web.support.EntityTags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,6 +36,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +52,8 @@ public class ContractController {
 
     private final ContractService contractService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contracts", description = "Returns a paginated list of contracts based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contracts",
@@ -61,6 +70,22 @@ public class ContractController {
         return ResponseEntity.ok(contractService.filterContracts(filterRequest));
     }
 
+    @Operation(summary = "Filter contracts with cursor pagination", description = "Returns a page of contracts using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contracts",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractDTO>>> filterContractsByCursor(
+            @Valid @RequestBody CursorFilterRequest<ContractDTO> filterRequest) {
+        return ResponseEntity.ok(contractService.filterContractsByCursor(filterRequest));
+    }
+
     @Operation(summary = "Create a new contract", description = "Creates a new contract with the provided information")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Contract successfully created",
@@ -68,14 +93,19 @@ public class ContractController {
                 schema = @Schema(implementation = ContractDTO.class))),
         @ApiResponse(responseCode = "400", description = "Invalid contract data provided", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Mono<ContractDTO>> createContract(
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractDTO contractDTO) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractService.createContract(contractDTO));
+                .body(idempotentRequests.execute("contract", idempotencyKey, contractDTO, ContractDTO.class,
+                        () -> contractService.createContract(contractDTO)));
     }
 
     @Operation(summary = "Get contract by ID", description = "Returns a contract based on its ID")
@@ -89,10 +119,29 @@ public class ContractController {
                 content = @Content)
     })
     @GetMapping(value = "/{contractId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Mono<ContractDTO>> getContractById(
+    public Mono<ResponseEntity<ContractDTO>> getContractById(
             @Parameter(description = "ID of the contract to retrieve", required = true)
             @PathVariable UUID contractId) {
-        return ResponseEntity.ok(contractService.getContractById(contractId));
+        return contractService.getContractById(contractId)
+                .map(contract -> ResponseEntity.ok().eTag(EntityTags.of(contract.getVersion())).body(contract));
+    }
+
+    @Operation(summary = "Get contract by contract number", description = "Returns a contract based on its contract number")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Contract not found", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(value = "/by-number/{contractNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ContractDTO>> getContractByNumber(
+            @Parameter(description = "Contract number of the contract to retrieve", required = true)
+            @PathVariable String contractNumber) {
+        return contractService.getContractByNumber(contractNumber)
+                .map(contract -> ResponseEntity.ok().eTag(EntityTags.of(contract.getVersion())).body(contract));
     }
 
     @Operation(summary = "Update contract", description = "Updates an existing contract with the provided information")
@@ -104,15 +153,52 @@ public class ContractController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "409", description = "Contract was modified concurrently (If-Match does not match)", 
+                content = @Content),
+        @ApiResponse(responseCode = "428", description = "If-Match header is missing", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
     @PutMapping(value = "/{contractId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Mono<ContractDTO>> updateContract(
+    public Mono<ResponseEntity<ContractDTO>> updateContract(
             @Parameter(description = "ID of the contract to update", required = true)
             @PathVariable UUID contractId,
+            @Parameter(description = "ETag of the contract version being updated, or * to overwrite; the update is rejected with 409 if the contract has changed since", required = true)
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ContractDTO contractDTO) {
-        return ResponseEntity.ok(contractService.updateContract(contractId, contractDTO));
+        contractDTO.setVersion(EntityTags.requireIfMatch(ifMatch));
+        return contractService.updateContract(contractId, contractDTO)
+                .map(contract -> ResponseEntity.ok().eTag(EntityTags.of(contract.getVersion())).body(contract));
+    }
+
+    @Operation(summary = "Transition contract status", description = "Atomically closes the contract's current status history entry, opens a new one and updates the contract status")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Contract status successfully changed",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractStatusTransitionResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid status transition provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Contract not found", 
+                content = @Content),
+        @ApiResponse(responseCode = "409", description = "Contract was modified concurrently (If-Match does not match)", 
+                content = @Content),
+        @ApiResponse(responseCode = "428", description = "If-Match header is missing", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/{contractId}/status-transitions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ContractStatusTransitionResponseDTO>> transitionContractStatus(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Parameter(description = "ETag of the contract version being transitioned, or * to overwrite; rejected with 409 if the contract has changed since", required = true)
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody ContractStatusTransitionRequestDTO request) {
+        return contractService.transitionContractStatus(contractId, request, EntityTags.requireIfMatch(ifMatch))
+                .map(result -> ResponseEntity.ok()
+                        .eTag(EntityTags.of(result.getContract().getVersion()))
+                        .body(result));
     }
 
     @Operation(summary = "Delete contract", description = "Deletes a contract based on its ID")
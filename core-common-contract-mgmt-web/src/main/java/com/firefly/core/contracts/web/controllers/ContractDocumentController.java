@@ -19,8 +19,11 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractDocumentService;
 import com.firefly.core.contracts.interfaces.dtos.ContractDocumentDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,6 +48,8 @@ public class ContractDocumentController {
 
     private final ContractDocumentService contractDocumentService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract documents", description = "Returns a paginated list of contract documents based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract documents",
@@ -60,7 +65,25 @@ public class ContractDocumentController {
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Valid @RequestBody FilterRequest<ContractDocumentDTO> filterRequest) {
-        return ResponseEntity.ok(contractDocumentService.filterContractDocuments(filterRequest));
+        return ResponseEntity.ok(contractDocumentService.filterContractDocuments(contractId, filterRequest));
+    }
+
+    @Operation(summary = "Filter contract documents with cursor pagination", description = "Returns a page of contract documents using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract documents",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractDocumentDTO>>> filterContractDocumentsByCursor(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody CursorFilterRequest<ContractDocumentDTO> filterRequest) {
+        return ResponseEntity.ok(contractDocumentService.filterContractDocumentsByCursor(contractId, filterRequest));
     }
 
     @Operation(summary = "Create a new contract document", description = "Creates a new contract document with the provided information")
@@ -72,6 +95,8 @@ public class ContractDocumentController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
@@ -79,11 +104,14 @@ public class ContractDocumentController {
     public ResponseEntity<Mono<ContractDocumentDTO>> createContractDocument(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractDocumentDTO contractDocumentDTO) {
         // Ensure the contractId in the path is used
         contractDocumentDTO.setContractId(contractId);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractDocumentService.createContractDocument(contractDocumentDTO));
+                .body(idempotentRequests.execute("contract-document", idempotencyKey, contractDocumentDTO, ContractDocumentDTO.class,
+                        () -> contractDocumentService.createContractDocument(contractDocumentDTO)));
     }
 
     @Operation(summary = "Get contract document by ID", description = "Returns a contract document based on its ID")
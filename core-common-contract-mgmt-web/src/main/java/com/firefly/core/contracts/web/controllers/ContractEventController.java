@@ -19,8 +19,11 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractEventService;
 import com.firefly.core.contracts.interfaces.dtos.ContractEventDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,6 +48,8 @@ public class ContractEventController {
 
     private final ContractEventService contractEventService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract events", description = "Returns a paginated list of contract events based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract events",
@@ -60,7 +65,25 @@ public class ContractEventController {
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Valid @RequestBody FilterRequest<ContractEventDTO> filterRequest) {
-        return ResponseEntity.ok(contractEventService.filterContractEvents(filterRequest));
+        return ResponseEntity.ok(contractEventService.filterContractEvents(contractId, filterRequest));
+    }
+
+    @Operation(summary = "Filter contract events with cursor pagination", description = "Returns a page of contract events using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract events",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractEventDTO>>> filterContractEventsByCursor(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody CursorFilterRequest<ContractEventDTO> filterRequest) {
+        return ResponseEntity.ok(contractEventService.filterContractEventsByCursor(contractId, filterRequest));
     }
 
     @Operation(summary = "Create a new contract event", description = "Creates a new contract event with the provided information")
@@ -72,6 +95,8 @@ public class ContractEventController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
@@ -79,11 +104,14 @@ public class ContractEventController {
     public ResponseEntity<Mono<ContractEventDTO>> createContractEvent(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractEventDTO contractEventDTO) {
         // Ensure the contractId in the path is used
         contractEventDTO.setContractId(contractId);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractEventService.createContractEvent(contractEventDTO));
+                .body(idempotentRequests.execute("contract-event", idempotencyKey, contractEventDTO, ContractEventDTO.class,
+                        () -> contractEventService.createContractEvent(contractEventDTO)));
     }
 
     @Operation(summary = "Get contract event by ID", description = "Returns a contract event based on its ID")
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.web.controllers;
+
+import com.firefly.core.contracts.core.services.ContractExportService;
+import com.firefly.core.contracts.interfaces.dtos.ContractExportRecordDTO;
+import com.firefly.core.contracts.interfaces.enums.ContractStatusEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/contracts/export")
+@Tag(name = "Contract Export", description = "API for streaming bulk exports of contracts")
+@RequiredArgsConstructor
+public class ContractExportController {
+
+    private final ContractExportService contractExportService;
+
+    @Operation(summary = "Export contracts", description = "Streams all contracts as newline-delimited JSON, one contract per line, optionally with their active parties and effective terms inline. The response is written as rows are read from a database cursor, so exports of any size run in constant memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Contract export stream",
+                content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, 
+                schema = @Schema(implementation = ContractExportRecordDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid export parameters", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<ContractExportRecordDTO>> exportContracts(
+            @Parameter(description = "Only export contracts in this status")
+            @RequestParam(required = false) ContractStatusEnum contractStatus,
+            @Parameter(description = "Include the active parties of each contract")
+            @RequestParam(defaultValue = "false") boolean includeParties,
+            @Parameter(description = "Include the terms of each contract effective at asOf")
+            @RequestParam(defaultValue = "false") boolean includeTerms,
+            @Parameter(description = "Point in time used to resolve effective terms; defaults to now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @Parameter(description = "Contracts fetched from the database per round trip (1-10000); defaults to contracts.export.fetch-size")
+            @RequestParam(required = false) Integer fetchSize) {
+        return ResponseEntity.ok(contractExportService.exportContracts(contractStatus, includeParties, includeTerms, asOf, fetchSize));
+    }
+}
@@ -19,8 +19,11 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractPartyService;
 import com.firefly.core.contracts.interfaces.dtos.ContractPartyDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,6 +48,8 @@ public class ContractPartyController {
 
     private final ContractPartyService contractPartyService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract parties", description = "Returns a paginated list of contract parties based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract parties",
@@ -60,7 +65,25 @@ public class ContractPartyController {
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Valid @RequestBody FilterRequest<ContractPartyDTO> filterRequest) {
-        return ResponseEntity.ok(contractPartyService.filterContractParties(filterRequest));
+        return ResponseEntity.ok(contractPartyService.filterContractParties(contractId, filterRequest));
+    }
+
+    @Operation(summary = "Filter contract parties with cursor pagination", description = "Returns a page of contract parties using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract parties",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractPartyDTO>>> filterContractPartiesByCursor(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody CursorFilterRequest<ContractPartyDTO> filterRequest) {
+        return ResponseEntity.ok(contractPartyService.filterContractPartiesByCursor(contractId, filterRequest));
     }
 
     @Operation(summary = "Create a new contract party", description = "Creates a new contract party with the provided information")
@@ -72,6 +95,8 @@ public class ContractPartyController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
@@ -79,11 +104,14 @@ public class ContractPartyController {
     public ResponseEntity<Mono<ContractPartyDTO>> createContractParty(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractPartyDTO contractPartyDTO) {
         // Ensure the contractId in the path is used
         contractPartyDTO.setContractId(contractId);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractPartyService.createContractParty(contractPartyDTO));
+                .body(idempotentRequests.execute("contract-party:" + contractId, idempotencyKey, contractPartyDTO, ContractPartyDTO.class,
+                        () -> contractPartyService.createContractParty(contractPartyDTO)));
     }
 
     @Operation(summary = "Get contract party by ID", description = "Returns a contract party based on its ID")
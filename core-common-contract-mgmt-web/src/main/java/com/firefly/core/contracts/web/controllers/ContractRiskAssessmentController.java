@@ -19,8 +19,11 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractRiskAssessmentService;
 import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,6 +48,8 @@ public class ContractRiskAssessmentController {
 
     private final ContractRiskAssessmentService contractRiskAssessmentService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract risk assessments", description = "Returns a paginated list of contract risk assessments based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract risk assessments",
@@ -60,7 +65,25 @@ public class ContractRiskAssessmentController {
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Valid @RequestBody FilterRequest<ContractRiskAssessmentDTO> filterRequest) {
-        return ResponseEntity.ok(contractRiskAssessmentService.filterContractRiskAssessments(filterRequest));
+        return ResponseEntity.ok(contractRiskAssessmentService.filterContractRiskAssessments(contractId, filterRequest));
+    }
+
+    @Operation(summary = "Filter contract risk assessments with cursor pagination", description = "Returns a page of contract risk assessments using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract risk assessments",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractRiskAssessmentDTO>>> filterContractRiskAssessmentsByCursor(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody CursorFilterRequest<ContractRiskAssessmentDTO> filterRequest) {
+        return ResponseEntity.ok(contractRiskAssessmentService.filterContractRiskAssessmentsByCursor(contractId, filterRequest));
     }
 
     @Operation(summary = "Create a new contract risk assessment", description = "Creates a new contract risk assessment with the provided information")
@@ -72,6 +95,8 @@ public class ContractRiskAssessmentController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
@@ -79,11 +104,14 @@ public class ContractRiskAssessmentController {
     public ResponseEntity<Mono<ContractRiskAssessmentDTO>> createContractRiskAssessment(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractRiskAssessmentDTO contractRiskAssessmentDTO) {
         // Ensure the contractId in the path is used
         contractRiskAssessmentDTO.setContractId(contractId);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractRiskAssessmentService.createContractRiskAssessment(contractRiskAssessmentDTO));
+                .body(idempotentRequests.execute("contract-risk-assessment", idempotencyKey, contractRiskAssessmentDTO, ContractRiskAssessmentDTO.class,
+                        () -> contractRiskAssessmentService.createContractRiskAssessment(contractRiskAssessmentDTO)));
     }
 
     @Operation(summary = "Get contract risk assessment by ID", description = "Returns a contract risk assessment based on its ID")
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.web.controllers;
+
+import com.firefly.core.contracts.core.services.ContractRiskAssessmentService;
+import com.firefly.core.contracts.core.services.ContractRiskBulkIngestionService;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskAssessmentDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskBulkProgressDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractRiskDistributionDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/contract-risk")
+@Tag(name = "Contract Risk Portfolio", description = "API for portfolio-wide views of current contract risk")
+@RequiredArgsConstructor
+public class ContractRiskPortfolioController {
+
+    private final ContractRiskAssessmentService contractRiskAssessmentService;
+
+    private final ContractRiskBulkIngestionService contractRiskBulkIngestionService;
+
+    @Operation(summary = "Get current risk distribution", description = "Returns the number of active contracts per risk level of their latest assessment, and the active contracts currently assessed HIGH or CRITICAL, highest score first. Served from the latest-assessment projection, so the cost does not grow with the assessment history")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved risk distribution",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractRiskDistributionDTO.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(value = "/distribution", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<ContractRiskDistributionDTO>> getRiskDistribution(
+            @Parameter(description = "Maximum number of HIGH/CRITICAL contracts to list (1-1000); defaults to 100")
+            @RequestParam(required = false) Integer highRiskLimit) {
+        return ResponseEntity.ok(contractRiskAssessmentService.getRiskDistribution(highRiskLimit));
+    }
+
+    @Operation(summary = "Bulk ingest risk assessments", description = "Accepts a newline-delimited JSON stream of risk assessments (contractId, riskScore, riskLevel, assessor and optionally assessmentDate and notes) and writes them in batches with multi-row inserts, several batches at a time. Each batch checks all of its contracts with one query and runs in its own transaction. Progress is streamed back as one line per completed batch, with running totals and the records that were not written")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ingestion progress stream",
+                content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, 
+                schema = @Schema(implementation = ContractRiskBulkProgressDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Malformed assessment stream", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/assessments/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<ContractRiskBulkProgressDTO>> ingestRiskAssessments(
+            @RequestBody Flux<ContractRiskAssessmentDTO> assessments,
+            @Parameter(description = "Records per batch and transaction (1-5000); defaults to contracts.risk-ingestion.batch-size")
+            @RequestParam(required = false) Integer batchSize,
+            @Parameter(description = "Batches written concurrently (1-16); defaults to contracts.risk-ingestion.concurrency")
+            @RequestParam(required = false) Integer concurrency) {
+        return ResponseEntity.ok(contractRiskBulkIngestionService.ingestRiskAssessments(assessments, batchSize, concurrency));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.web.controllers;
+
+import com.firefly.core.contracts.core.services.ContractSnapshotService;
+import com.firefly.core.contracts.interfaces.dtos.ContractSnapshotDTO;
+import com.firefly.core.contracts.interfaces.enums.ContractSnapshotSectionEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/contracts/{contractId}/snapshot")
+@Tag(name = "Contract Snapshots", description = "API for reading aggregated contract snapshots")
+@RequiredArgsConstructor
+public class ContractSnapshotController {
+
+    private final ContractSnapshotService contractSnapshotService;
+
+    @Operation(summary = "Get contract snapshot", description = "Returns the contract with its active parties, effective terms, current status and latest risk assessment in one response; the requested sections are loaded concurrently")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract snapshot",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractSnapshotDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Unknown snapshot field requested", 
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Contract not found", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<ContractSnapshotDTO>> getContractSnapshot(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Parameter(description = "Sections to include (contract, parties, terms, status, risk); all sections when omitted")
+            @RequestParam(required = false) List<String> fields,
+            @Parameter(description = "Point in time used to resolve effective terms; defaults to now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        Set<ContractSnapshotSectionEnum> sections = EnumSet.noneOf(ContractSnapshotSectionEnum.class);
+        if (fields != null) {
+            fields.stream()
+                    .filter(field -> !field.isBlank())
+                    .map(ContractSnapshotController::section)
+                    .forEach(sections::add);
+        }
+        return ResponseEntity.ok(contractSnapshotService.getContractSnapshot(contractId, sections, asOf));
+    }
+
+    private static ContractSnapshotSectionEnum section(String field) {
+        try {
+            return ContractSnapshotSectionEnum.fromFieldName(field);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
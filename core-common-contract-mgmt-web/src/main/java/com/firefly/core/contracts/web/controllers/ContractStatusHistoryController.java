@@ -19,8 +19,11 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractStatusHistoryService;
 import com.firefly.core.contracts.interfaces.dtos.ContractStatusHistoryDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,6 +48,8 @@ public class ContractStatusHistoryController {
 
     private final ContractStatusHistoryService contractStatusHistoryService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract status history", description = "Returns a paginated list of contract status history based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract status history",
@@ -60,7 +65,25 @@ public class ContractStatusHistoryController {
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Valid @RequestBody FilterRequest<ContractStatusHistoryDTO> filterRequest) {
-        return ResponseEntity.ok(contractStatusHistoryService.filterContractStatusHistory(filterRequest));
+        return ResponseEntity.ok(contractStatusHistoryService.filterContractStatusHistory(contractId, filterRequest));
+    }
+
+    @Operation(summary = "Filter contract status history with cursor pagination", description = "Returns a page of contract status history using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract status history",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractStatusHistoryDTO>>> filterContractStatusHistoryByCursor(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody CursorFilterRequest<ContractStatusHistoryDTO> filterRequest) {
+        return ResponseEntity.ok(contractStatusHistoryService.filterContractStatusHistoryByCursor(contractId, filterRequest));
     }
 
     @Operation(summary = "Create a new contract status history", description = "Creates a new contract status history with the provided information")
@@ -72,6 +95,8 @@ public class ContractStatusHistoryController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
@@ -79,11 +104,14 @@ public class ContractStatusHistoryController {
     public ResponseEntity<Mono<ContractStatusHistoryDTO>> createContractStatusHistory(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractStatusHistoryDTO contractStatusHistoryDTO) {
         // Ensure the contractId in the path is used
         contractStatusHistoryDTO.setContractId(contractId);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractStatusHistoryService.createContractStatusHistory(contractStatusHistoryDTO));
+                .body(idempotentRequests.execute("contract-status-history", idempotencyKey, contractStatusHistoryDTO, ContractStatusHistoryDTO.class,
+                        () -> contractStatusHistoryService.createContractStatusHistory(contractStatusHistoryDTO)));
     }
 
     @Operation(summary = "Get contract status history by ID", description = "Returns a contract status history based on its ID")
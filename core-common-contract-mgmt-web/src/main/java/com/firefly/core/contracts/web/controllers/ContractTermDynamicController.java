@@ -19,8 +19,16 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractTermDynamicService;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractEffectiveTermsResponseDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermBulkUpsertRequestDTO;
+import com.firefly.core.contracts.interfaces.dtos.ContractTermBulkUpsertResponseDTO;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermDynamicDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.web.support.EntityTags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,6 +38,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +54,8 @@ public class ContractTermDynamicController {
 
     private final ContractTermDynamicService contractTermDynamicService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract terms", description = "Returns a paginated list of contract terms based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract terms",
@@ -60,7 +71,25 @@ public class ContractTermDynamicController {
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Valid @RequestBody FilterRequest<ContractTermDynamicDTO> filterRequest) {
-        return ResponseEntity.ok(contractTermDynamicService.filterContractTermDynamics(filterRequest));
+        return ResponseEntity.ok(contractTermDynamicService.filterContractTermDynamics(contractId, filterRequest));
+    }
+
+    @Operation(summary = "Filter contract term dynamics with cursor pagination", description = "Returns a page of contract term dynamics using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term dynamics",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractTermDynamicDTO>>> filterContractTermsByCursor(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody CursorFilterRequest<ContractTermDynamicDTO> filterRequest) {
+        return ResponseEntity.ok(contractTermDynamicService.filterContractTermDynamicsByCursor(contractId, filterRequest));
     }
 
     @Operation(summary = "Create a new contract term", description = "Creates a new contract term with the provided information")
@@ -72,6 +101,8 @@ public class ContractTermDynamicController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
@@ -79,11 +110,54 @@ public class ContractTermDynamicController {
     public ResponseEntity<Mono<ContractTermDynamicDTO>> createContractTerm(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractTermDynamicDTO contractTermDynamicDTO) {
         // Ensure the contractId in the path is used
         contractTermDynamicDTO.setContractId(contractId);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractTermDynamicService.createContractTermDynamic(contractTermDynamicDTO));
+                .body(idempotentRequests.execute("contract-term", idempotencyKey, contractTermDynamicDTO, ContractTermDynamicDTO.class,
+                        () -> contractTermDynamicService.createContractTermDynamic(contractTermDynamicDTO)));
+    }
+
+    @Operation(summary = "Bulk create or update contract terms", description = "Validates all terms together and writes them in one transaction using batched statements; terms matching an existing term by template and effective date are updated, the rest are created. Updates do not take If-Match and overwrite the matched term whatever its version. Returns one result per term in request order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk request processed; see the per-term results",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractTermBulkUpsertResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid bulk request provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Contract not found", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<ContractTermBulkUpsertResponseDTO>> bulkUpsertContractTerms(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody ContractTermBulkUpsertRequestDTO request) {
+        return ResponseEntity.ok(contractTermDynamicService.bulkUpsertContractTermDynamics(contractId, request));
+    }
+
+    @Operation(summary = "Resolve effective contract terms at many points in time", description = "Returns, for each requested point in time, the active terms that were effective then, in request order. The contract's terms are read once and every point in time is resolved in memory, so a full payment schedule needs a single request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully resolved effective contract terms",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractEffectiveTermsResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid points in time provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Contract not found", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/effective", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<ContractEffectiveTermsResponseDTO>> getEffectiveContractTerms(
+            @Parameter(description = "ID of the contract", required = true)
+            @PathVariable UUID contractId,
+            @Valid @RequestBody ContractEffectiveTermsRequestDTO request) {
+        return ResponseEntity.ok(contractTermDynamicService.getEffectiveTermsAt(contractId, request));
     }
 
     @Operation(summary = "Get contract term by ID", description = "Returns a contract term based on its ID")
@@ -97,13 +171,14 @@ public class ContractTermDynamicController {
                 content = @Content)
     })
     @GetMapping(value = "/{termId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Mono<ContractTermDynamicDTO>> getContractTermById(
+    public Mono<ResponseEntity<ContractTermDynamicDTO>> getContractTermById(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Parameter(description = "ID of the contract term to retrieve", required = true)
             @PathVariable UUID termId) {
-        return ResponseEntity.ok(contractTermDynamicService.getContractTermDynamicById(termId)
-                .filter(term -> term.getContractId().equals(contractId)));
+        return contractTermDynamicService.getContractTermDynamicById(termId)
+                .filter(term -> term.getContractId().equals(contractId))
+                .map(term -> ResponseEntity.ok().eTag(EntityTags.of(term.getVersion())).body(term));
     }
 
     @Operation(summary = "Update contract term", description = "Updates an existing contract term with the provided information")
@@ -115,19 +190,27 @@ public class ContractTermDynamicController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Contract term not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "409", description = "Contract term was modified concurrently (If-Match does not match)", 
+                content = @Content),
+        @ApiResponse(responseCode = "428", description = "If-Match header is missing", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
     @PutMapping(value = "/{termId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Mono<ContractTermDynamicDTO>> updateContractTerm(
+    public Mono<ResponseEntity<ContractTermDynamicDTO>> updateContractTerm(
             @Parameter(description = "ID of the contract", required = true)
             @PathVariable UUID contractId,
             @Parameter(description = "ID of the contract term to update", required = true)
             @PathVariable UUID termId,
+            @Parameter(description = "ETag of the contract term version being updated, or * to overwrite; the update is rejected with 409 if the term has changed since", required = true)
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ContractTermDynamicDTO contractTermDynamicDTO) {
         // Ensure the contractId in the path is used
         contractTermDynamicDTO.setContractId(contractId);
-        return ResponseEntity.ok(contractTermDynamicService.updateContractTermDynamic(termId, contractTermDynamicDTO));
+        contractTermDynamicDTO.setVersion(EntityTags.requireIfMatch(ifMatch));
+        return contractTermDynamicService.updateContractTermDynamic(termId, contractTermDynamicDTO)
+                .map(term -> ResponseEntity.ok().eTag(EntityTags.of(term.getVersion())).body(term));
     }
 
     @Operation(summary = "Delete contract term", description = "Deletes a contract term based on its ID")
@@ -19,8 +19,12 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractTermTemplateService;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermTemplateDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.contracts.interfaces.enums.TermCategoryEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -34,6 +38,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -45,6 +50,8 @@ public class ContractTermTemplateController {
 
     private final ContractTermTemplateService contractTermTemplateService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract term templates", description = "Returns a paginated list of contract term templates based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term templates",
@@ -61,6 +68,22 @@ public class ContractTermTemplateController {
         return ResponseEntity.ok(contractTermTemplateService.filterContractTermTemplates(filterRequest));
     }
 
+    @Operation(summary = "Filter contract term templates with cursor pagination", description = "Returns a page of contract term templates using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term templates",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractTermTemplateDTO>>> filterContractTermTemplatesByCursor(
+            @Valid @RequestBody CursorFilterRequest<ContractTermTemplateDTO> filterRequest) {
+        return ResponseEntity.ok(contractTermTemplateService.filterContractTermTemplatesByCursor(filterRequest));
+    }
+
     @Operation(summary = "Create a new contract term template", description = "Creates a new contract term template with the provided information")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Contract term template successfully created",
@@ -68,14 +91,19 @@ public class ContractTermTemplateController {
                 schema = @Schema(implementation = ContractTermTemplateDTO.class))),
         @ApiResponse(responseCode = "400", description = "Invalid contract term template data provided", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Mono<ContractTermTemplateDTO>> createContractTermTemplate(
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractTermTemplateDTO contractTermTemplateDTO) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractTermTemplateService.createContractTermTemplate(contractTermTemplateDTO));
+                .body(idempotentRequests.execute("contract-term-template", idempotencyKey, contractTermTemplateDTO, ContractTermTemplateDTO.class,
+                        () -> contractTermTemplateService.createContractTermTemplate(contractTermTemplateDTO)));
     }
 
     @Operation(summary = "Get contract term template by ID", description = "Returns a contract term template based on its ID")
@@ -95,6 +123,53 @@ public class ContractTermTemplateController {
         return ResponseEntity.ok(contractTermTemplateService.getContractTermTemplateById(termTemplateId));
     }
 
+    @Operation(summary = "Get contract term template by code", description = "Returns a contract term template based on its unique code")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term template",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractTermTemplateDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Contract term template not found", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(value = "/code/{code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<ContractTermTemplateDTO>> getContractTermTemplateByCode(
+            @Parameter(description = "Code of the contract term template to retrieve", required = true)
+            @PathVariable String code) {
+        return ResponseEntity.ok(contractTermTemplateService.getContractTermTemplateByCode(code));
+    }
+
+    @Operation(summary = "List active contract term templates by category", description = "Returns the active contract term templates of a term category")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term templates",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractTermTemplateDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid term category provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<ContractTermTemplateDTO>> getActiveContractTermTemplatesByCategory(
+            @Parameter(description = "Term category of the templates to retrieve", required = true)
+            @RequestParam TermCategoryEnum termCategory) {
+        return ResponseEntity.ok(contractTermTemplateService.getActiveContractTermTemplatesByCategory(termCategory));
+    }
+
+    @Operation(summary = "List active required contract term templates", description = "Returns the active contract term templates that are required on every contract")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term templates",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ContractTermTemplateDTO.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @GetMapping(value = "/required", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<ContractTermTemplateDTO>> getActiveRequiredContractTermTemplates() {
+        return ResponseEntity.ok(contractTermTemplateService.getActiveRequiredContractTermTemplates());
+    }
+
     @Operation(summary = "Update contract term template", description = "Updates an existing contract term template with the provided information")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Contract term template successfully updated",
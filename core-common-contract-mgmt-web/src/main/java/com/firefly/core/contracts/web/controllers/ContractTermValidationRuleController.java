@@ -19,8 +19,11 @@ package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.contracts.core.idempotency.IdempotentRequests;
 import com.firefly.core.contracts.core.services.ContractTermValidationRuleService;
 import com.firefly.core.contracts.interfaces.dtos.ContractTermValidationRuleDTO;
+import com.firefly.core.contracts.interfaces.dtos.CursorFilterRequest;
+import com.firefly.core.contracts.interfaces.dtos.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,6 +48,8 @@ public class ContractTermValidationRuleController {
 
     private final ContractTermValidationRuleService contractTermValidationRuleService;
 
+    private final IdempotentRequests idempotentRequests;
+
     @Operation(summary = "Filter contract term validation rules", description = "Returns a paginated list of contract term validation rules based on filter criteria")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term validation rules",
@@ -60,7 +65,25 @@ public class ContractTermValidationRuleController {
             @Parameter(description = "ID of the term template", required = true)
             @PathVariable UUID termTemplateId,
             @Valid @RequestBody FilterRequest<ContractTermValidationRuleDTO> filterRequest) {
-        return ResponseEntity.ok(contractTermValidationRuleService.filterContractTermValidationRules(filterRequest));
+        return ResponseEntity.ok(contractTermValidationRuleService.filterContractTermValidationRules(termTemplateId, filterRequest));
+    }
+
+    @Operation(summary = "Filter contract term validation rules with cursor pagination", description = "Returns a page of contract term validation rules using keyset pagination; pass nextCursor back as cursor to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved contract term validation rules",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter criteria or cursor provided", 
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error", 
+                content = @Content)
+    })
+    @PostMapping(value = "/filter/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<CursorPageResponse<ContractTermValidationRuleDTO>>> filterContractTermValidationRulesByCursor(
+            @Parameter(description = "ID of the term template", required = true)
+            @PathVariable UUID termTemplateId,
+            @Valid @RequestBody CursorFilterRequest<ContractTermValidationRuleDTO> filterRequest) {
+        return ResponseEntity.ok(contractTermValidationRuleService.filterContractTermValidationRulesByCursor(termTemplateId, filterRequest));
     }
 
     @Operation(summary = "Create a new contract term validation rule", description = "Creates a new contract term validation rule with the provided information")
@@ -72,6 +95,8 @@ public class ContractTermValidationRuleController {
                 content = @Content),
         @ApiResponse(responseCode = "404", description = "Term template not found", 
                 content = @Content),
+        @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", 
+                content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", 
                 content = @Content)
     })
@@ -79,11 +104,14 @@ public class ContractTermValidationRuleController {
     public ResponseEntity<Mono<ContractTermValidationRuleDTO>> createContractTermValidationRule(
             @Parameter(description = "ID of the term template", required = true)
             @PathVariable UUID termTemplateId,
+            @Parameter(description = "Key making retries safe: a retry with the same key returns the original response")
+            @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ContractTermValidationRuleDTO contractTermValidationRuleDTO) {
         // Ensure the termTemplateId in the path is used
         contractTermValidationRuleDTO.setTermTemplateId(termTemplateId);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contractTermValidationRuleService.createContractTermValidationRule(contractTermValidationRuleDTO));
+                .body(idempotentRequests.execute("contract-term-validation-rule", idempotencyKey, contractTermValidationRuleDTO, ContractTermValidationRuleDTO.class,
+                        () -> contractTermValidationRuleService.createContractTermValidationRule(contractTermValidationRuleDTO)));
     }
 
     @Operation(summary = "Get contract term validation rule by ID", description = "Returns a contract term validation rule based on its ID")
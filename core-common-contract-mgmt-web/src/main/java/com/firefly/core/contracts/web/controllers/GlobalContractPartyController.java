@@ -18,11 +18,14 @@
 package com.firefly.core.contracts.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
+import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.contracts.core.services.ContractPartyService;
 import com.firefly.core.contracts.interfaces.dtos.ContractPartyDTO;
+import com.firefly.core.contracts.interfaces.dtos.PartyContractRefDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,9 +33,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -53,8 +59,9 @@ public class GlobalContractPartyController {
 
     @Operation(
         summary = "Get contract parties by party ID",
-        description = "Returns a paginated list of all contract parties for a specific party. " +
-                      "This endpoint is useful for finding all contracts a party is involved in."
+        description = "Returns a paginated list of all contract parties for a specific party, oldest first. " +
+                      "This endpoint is useful for finding all contracts a party is involved in. Pages are " +
+                      "served from the in-process party index; when a sort is requested the generic filter is used."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -63,7 +70,7 @@ public class GlobalContractPartyController {
         ),
         @ApiResponse(
             responseCode = "400",
-            description = "Invalid party ID provided",
+            description = "Invalid party ID or pagination provided",
             content = @Content
         ),
         @ApiResponse(
@@ -76,21 +83,77 @@ public class GlobalContractPartyController {
     public Mono<ResponseEntity<PaginationResponse<ContractPartyDTO>>> getContractPartiesByPartyId(
             @Parameter(description = "ID of the party to retrieve contract parties for", required = true)
             @RequestParam UUID partyId,
-            @Parameter(description = "Filter for active contracts only", required = false)
-            @RequestParam(required = false, defaultValue = "true") Boolean isActive) {
-        
+            @Parameter(description = "Filter for active (true) or inactive (false) contract parties", required = false)
+            @RequestParam(required = false, defaultValue = "true") Boolean isActive,
+            @Parameter(description = "The zero-based page number to retrieve", required = false)
+            @RequestParam(required = false, defaultValue = "0") int pageNumber,
+            @Parameter(description = "The number of items per page", required = false)
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @Parameter(description = "The field to sort the results by", required = false)
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "The direction of sorting, either ASC or DESC", required = false)
+            @RequestParam(required = false) String sortDirection) {
+        if (pageNumber < 0 || pageSize < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Invalid pagination: pageNumber must be >= 0 and pageSize >= 1");
+        }
+        if (sortBy == null) {
+            return contractPartyService.getContractPartiesByPartyId(partyId, isActive, pageNumber, pageSize)
+                    .map(ResponseEntity::ok);
+        }
+
         // Build filter request for partyId and isActive
         ContractPartyDTO criteria = ContractPartyDTO.builder()
                 .partyId(partyId)
                 .isActive(isActive)
                 .build();
-        
+
+        PaginationRequest pagination = new PaginationRequest();
+        pagination.setPageNumber(pageNumber);
+        pagination.setPageSize(pageSize);
+        pagination.setSortBy(sortBy);
+        pagination.setSortDirection(sortDirection);
+
         FilterRequest<ContractPartyDTO> filterRequest = new FilterRequest<>();
         filterRequest.setFilters(criteria);
+        filterRequest.setPagination(pagination);
         
         return contractPartyService.filterContractParties(filterRequest).map(ResponseEntity::ok);
     }
 
+    @Operation(
+        summary = "Get contract references by party ID",
+        description = "Returns the compact list of contracts (contract ID, role, active flag) a party participates in. " +
+                      "Served from an in-process party index instead of the generic filter, for hot callers " +
+                      "such as session enrichment in the Security Center."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved contract references",
+            content = @Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = PartyContractRefDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid party ID provided",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content
+        )
+    })
+    @GetMapping(value = "/index", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<PartyContractRefDTO>> getPartyContractRefs(
+            @Parameter(description = "ID of the party to retrieve contract references for", required = true)
+            @RequestParam UUID partyId,
+            @Parameter(description = "Filter for active (true) or inactive (false) participations", required = false)
+            @RequestParam(required = false, defaultValue = "true") Boolean isActive) {
+        return ResponseEntity.ok(contractPartyService.getPartyContractRefs(partyId, isActive));
+    }
+
     @Operation(
         summary = "Filter contract parties globally",
         description = "Returns a paginated list of contract parties based on filter criteria across all contracts"
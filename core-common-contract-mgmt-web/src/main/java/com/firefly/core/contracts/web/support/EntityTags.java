@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.web.support;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Converts optimistic locking versions to and from HTTP entity tags.
+ * <p>
+ * The ETag of a versioned resource is its version as a strong, quoted tag (for example {@code "3"}).
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * Formats a version as an ETag value.
+     *
+     * @param version the entity version, may be {@code null}
+     * @return the quoted tag, or {@code null} when there is no version
+     */
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Parses the version expected by a mandatory {@code If-Match} header. {@code *} is accepted as an explicit
+     * request to write whatever version is current.
+     *
+     * @param ifMatch the header value, may be {@code null}
+     * @return the expected version, or {@code null} for {@code *}
+     * @throws ResponseStatusException with 428 if the header is absent, or 400 if it does not hold a single version tag
+     */
+    public static Long requireIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED,
+                    "If-Match header is required; send the ETag of the version being modified, or * to overwrite");
+        }
+        return parseIfMatch(ifMatch);
+    }
+
+    /**
+     * Parses the version expected by an {@code If-Match} header.
+     *
+     * @param ifMatch the header value, may be {@code null}
+     * @return the expected version, or {@code null} when the header is absent or {@code *}
+     * @throws ResponseStatusException with 400 if the header does not hold a single version tag
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
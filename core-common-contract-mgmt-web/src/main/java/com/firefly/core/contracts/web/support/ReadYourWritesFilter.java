@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.contracts.web.support;
+
+import com.firefly.core.contracts.core.routing.ReadReplicaRouting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Staleness policy of the read replica: pins requests to the primary where a replica read could miss a write.
+ * <p>
+ * Requests that may write (anything but {@code GET}, {@code HEAD} and {@code OPTIONS}) always use the primary,
+ * so reads they make after their own writes are consistent. Their successful responses carry the time of the write
+ * in the {@code contracts.read-replica.last-write-header} header; a read that sends it back within
+ * {@code contracts.read-replica.read-your-writes-window} of that time uses the primary too, whichever instance
+ * serves it, as the replica may not have caught up yet. The time is compared with the local clock in both
+ * directions, so clock skew between instances shorter than the window is tolerated. Clients that cannot echo the
+ * header may send a session id in the {@code contracts.read-replica.session-header} header instead; sessions are
+ * tracked per instance, so that only holds for clients whose requests stick to one instance. A zero window leaves
+ * reads eventually consistent.
+ */
+@Component
+@ConditionalOnProperty(name = "contracts.read-replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter implements WebFilter {
+
+    private static final Set<HttpMethod> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    @Value("${contracts.read-replica.session-header:X-Session-Id}")
+    private String sessionHeader;
+
+    @Value("${contracts.read-replica.last-write-header:X-Last-Write-At}")
+    private String lastWriteHeader;
+
+    @Value("${contracts.read-replica.read-your-writes-window:PT5S}")
+    private Duration window;
+
+    @Value("${contracts.read-replica.max-sessions:100000}")
+    private long maxSessions;
+
+    /**
+     * Sessions that wrote within the window; an entry expiring is what hands the session back to the replica.
+     */
+    private Cache<String, Boolean> recentWriters;
+
+    @PostConstruct
+    void init() {
+        recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String session = exchange.getRequest().getHeaders().getFirst(sessionHeader);
+        if (!READ_METHODS.contains(exchange.getRequest().getMethod())) {
+            if (window.isZero()) {
+                return chain.filter(exchange).contextWrite(ReadReplicaRouting::requirePrimary);
+            }
+            // Stamped when the response is committed, which is after the write's transaction has committed; failed
+            // requests wrote nothing, so they leave later reads on the replica
+            exchange.getResponse().beforeCommit(() -> {
+                if (succeeded(exchange)) {
+                    exchange.getResponse().getHeaders().set(lastWriteHeader, Long.toString(System.currentTimeMillis()));
+                }
+                return Mono.empty();
+            });
+            Mono<Void> filtered = chain.filter(exchange);
+            if (session != null) {
+                // Recorded once the response is complete, so the window starts after the write has committed
+                filtered = filtered.doFinally(signal -> {
+                    if (signal == SignalType.ON_COMPLETE && succeeded(exchange)) {
+                        recentWriters.put(session, Boolean.TRUE);
+                    }
+                });
+            }
+            return filtered.contextWrite(ReadReplicaRouting::requirePrimary);
+        }
+        if (wroteRecently(exchange.getRequest().getHeaders().getFirst(lastWriteHeader))
+                || (session != null && recentWriters.getIfPresent(session) != null)) {
+            return chain.filter(exchange).contextWrite(ReadReplicaRouting::requirePrimary);
+        }
+        return chain.filter(exchange);
+    }
+
+    private static boolean succeeded(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null && status.is2xxSuccessful();
+    }
+
+    private boolean wroteRecently(String lastWrite) {
+        if (lastWrite == null || window.isZero()) {
+            return false;
+        }
+        try {
+            return Math.abs(System.currentTimeMillis() - Long.parseLong(lastWrite.trim())) < window.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
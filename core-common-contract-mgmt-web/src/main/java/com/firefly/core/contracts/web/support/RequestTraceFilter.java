@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.contracts.web.support;
+
+import com.firefly.core.contracts.core.tracing.RequestTrace;
+import com.firefly.core.contracts.core.tracing.RequestTraceSampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Starts a {@link RequestTrace} for every request and puts it in the Reactor context, where services and
+ * repositories find it.
+ * <p>
+ * The trace id is taken from the {@value #TRACE_ID_HEADER} request header when present and is echoed in the
+ * response. Sampled requests (see {@link RequestTraceSampler}, or forced with {@value #SAMPLED_HEADER}{@code : 1})
+ * log each of their repository queries and a summary line once the response is complete; the others only log
+ * slow queries. This replaces running the application and Spring R2DBC loggers at DEBUG.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTraceFilter implements WebFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    public static final String SAMPLED_HEADER = "X-Trace-Sampled";
+
+    @Autowired
+    private RequestTraceSampler sampler;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        RequestTrace trace = sampler.start(headers.getFirst(TRACE_ID_HEADER), "1".equals(headers.getFirst(SAMPLED_HEADER)));
+        exchange.getResponse().getHeaders().set(TRACE_ID_HEADER, trace.getTraceId());
+        Mono<Void> filtered = chain.filter(exchange);
+        if (trace.isSampled()) {
+            filtered = filtered.doFinally(signal -> logSummary(exchange, trace));
+        }
+        return filtered.contextWrite(trace::putInto);
+    }
+
+    private static void logSummary(ServerWebExchange exchange, RequestTrace trace) {
+        ServerHttpRequest request = exchange.getRequest();
+        log.info("[trace={}] {} {} -> {} in {} ms, {} queries in {} ms", trace.getTraceId(), request.getMethod(),
+                request.getPath().value(), exchange.getResponse().getStatusCode(), trace.getElapsedMillis(),
+                trace.getQueryCount(), trace.getQueryMillis());
+    }
+}